@@ -0,0 +1,159 @@
+package mod.azure.azurelib.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.loading.FileLoader;
+import mod.azure.azurelib.loading.json.raw.Model;
+import mod.azure.azurelib.loading.object.BakedAnimations;
+import mod.azure.azurelib.util.JsonUtil;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Measures loading every animation or geo file of a {@link SyntheticAssetPack generated pack} of a few thousand files, as a resource reload does.<br>
+ * The streaming benchmarks deserialize straight from each file's resource stream,
+ * and the buffered benchmarks reproduce the previous implementation, which read each file into a string and a full json tree first.<br>
+ * Each invocation loads the whole pack and holds on to the results, and reports the peak heap growth during the load as the {@code peakHeapBytes} counter.
+ * This is the sum of the peak usage of each heap pool, so it is an upper bound of the actual peak.<br>
+ * Run with {@code -prof gc} as well to compare the total memory churn of each path
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Thread)
+public class AssetLoadingBenchmark {
+	@Param({"1000", "4000"})
+	public int fileCount;
+
+	private SyntheticAssetPack pack;
+	private List<ResourceLocation> animationFiles;
+	private List<ResourceLocation> modelFiles;
+	private List<Object> loaded;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.pack = SyntheticAssetPack.generate(this.fileCount, 1337);
+		this.animationFiles = this.pack.listFiles(SyntheticAssetPack.ANIMATIONS);
+		this.modelFiles = this.pack.listFiles(SyntheticAssetPack.GEO);
+
+		if (this.animationFiles.size() != this.fileCount || this.modelFiles.size() != this.fileCount)
+			throw new IllegalStateException("Generated benchmark pack is missing animation or geo files");
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.pack.close();
+	}
+
+	@Setup(Level.Iteration)
+	public void resetHeap(HeapCounters counters) {
+		this.loaded = new ObjectArrayList<>(this.fileCount);
+
+		counters.reset();
+	}
+
+	@Benchmark
+	public List<Object> streamAnimations(HeapCounters counters) {
+		for (ResourceLocation file : this.animationFiles) {
+			this.loaded.add(FileLoader.loadAnimationsFile(file, this.pack.getResourceManager()));
+		}
+
+		counters.record();
+
+		return this.loaded;
+	}
+
+	@Benchmark
+	public List<Object> bufferAnimations(HeapCounters counters) {
+		for (ResourceLocation file : this.animationFiles) {
+			this.loaded.add(JsonUtil.GEO_GSON.fromJson(FileLoader.loadFile(file, this.pack.getResourceManager()), BakedAnimations.class));
+		}
+
+		counters.record();
+
+		return this.loaded;
+	}
+
+	@Benchmark
+	public List<Object> streamModels(HeapCounters counters) {
+		for (ResourceLocation file : this.modelFiles) {
+			this.loaded.add(FileLoader.loadModelFile(file, this.pack.getResourceManager()));
+		}
+
+		counters.record();
+
+		return this.loaded;
+	}
+
+	@Benchmark
+	public List<Object> bufferModels(HeapCounters counters) {
+		for (ResourceLocation file : this.modelFiles) {
+			this.loaded.add(JsonUtil.GEO_GSON.fromJson(FileLoader.loadFile(file, this.pack.getResourceManager()), Model.class));
+		}
+
+		counters.record();
+
+		return this.loaded;
+	}
+
+	/**
+	 * Tracks the peak heap usage of a single invocation, using the peak usage of the {@link MemoryPoolMXBean heap memory pools}
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.EVENTS)
+	public static class HeapCounters {
+		private static final List<MemoryPoolMXBean> HEAP_POOLS = ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(pool -> pool.getType() == MemoryType.HEAP).toList();
+
+		public long peakHeapBytes;
+
+		private long baseline;
+
+		/**
+		 * Collect garbage and reset the peak usage of each pool, so that the next peak only covers the next invocation
+		 */
+		private void reset() {
+			System.gc();
+
+			this.baseline = 0;
+			this.peakHeapBytes = 0;
+
+			for (MemoryPoolMXBean pool : HEAP_POOLS) {
+				pool.resetPeakUsage();
+
+				this.baseline += pool.getUsage().getUsed();
+			}
+		}
+
+		private void record() {
+			long peak = 0;
+
+			for (MemoryPoolMXBean pool : HEAP_POOLS) {
+				peak += pool.getPeakUsage().getUsed();
+			}
+
+			this.peakHeapBytes = peak - this.baseline;
+		}
+	}
+}
@@ -0,0 +1,142 @@
+package mod.azure.azurelib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mojang.blaze3d.platform.NativeImage;
+
+import mod.azure.azurelib.resource.GeoGlowingTextureMeta;
+import net.minecraft.util.FastColor;
+
+/**
+ * Measures building a {@link GeoGlowingTextureMeta} from a glow layer image and generating the glowmask from it, for increasingly large textures.<br>
+ * {@link GlowingTextureMetaBenchmark#perPixelMask} reproduces the previous per-pixel implementation for comparison
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class GlowingTextureMetaBenchmark {
+	@Param({"64", "512", "1024"})
+	public int size;
+
+	@Param({"BLOCKS", "STRIPES", "SCATTERED"})
+	public Layout layout;
+
+	private NativeImage baseImage;
+	private NativeImage glowImage;
+	private NativeImage maskImage;
+	private GeoGlowingTextureMeta meta;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.baseImage = new NativeImage(this.size, this.size, false);
+		this.glowImage = new NativeImage(this.size, this.size, true);
+		this.maskImage = new NativeImage(this.size, this.size, true);
+		Random random = new Random(0);
+
+		for (int y = 0; y < this.size; y++) {
+			for (int x = 0; x < this.size; x++) {
+				this.baseImage.setPixelRGBA(x, y, random.nextInt() | 0xFF000000);
+
+				int alpha = this.layout.glowAlpha(x, y, this.size, random);
+
+				if (alpha >= 0)
+					this.glowImage.setPixelRGBA(x, y, FastColor.ABGR32.color(alpha, 255, 255, 255));
+			}
+		}
+
+		this.meta = GeoGlowingTextureMeta.fromExistingImage(this.glowImage);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		this.baseImage.close();
+		this.glowImage.close();
+		this.maskImage.close();
+	}
+
+	@Benchmark
+	public GeoGlowingTextureMeta fromExistingImage() {
+		return GeoGlowingTextureMeta.fromExistingImage(this.glowImage);
+	}
+
+	@Benchmark
+	public void createImageMask() {
+		this.meta.createImageMask(this.baseImage, this.maskImage);
+	}
+
+	@Benchmark
+	public void perPixelMask() {
+		for (int x = 0; x < this.glowImage.getWidth(); x++) {
+			for (int y = 0; y < this.glowImage.getHeight(); y++) {
+				int glow = this.glowImage.getPixelRGBA(x, y);
+
+				if (glow == 0)
+					continue;
+
+				int alpha = FastColor.ABGR32.alpha(glow);
+				int color = this.baseImage.getPixelRGBA(x, y);
+
+				if (alpha > 0)
+					color = FastColor.ABGR32.color(alpha, FastColor.ABGR32.blue(color), FastColor.ABGR32.green(color), FastColor.ABGR32.red(color));
+
+				this.maskImage.setPixelRGBA(x, y, color);
+				this.baseImage.setPixelRGBA(x, y, 0);
+			}
+		}
+	}
+
+	public enum Layout {
+		/**
+		 * A handful of large glowing rectangles, as is typical for eyes and markings
+		 */
+		BLOCKS {
+			@Override
+			int glowAlpha(int x, int y, int size, Random random) {
+				int cell = size / 8;
+
+				return (x / cell + y / cell) % 3 == 0 ? 255 : -1;
+			}
+		},
+		/**
+		 * Alternating rows of differing alpha, so that no regions merge across rows
+		 */
+		STRIPES {
+			@Override
+			int glowAlpha(int x, int y, int size, Random random) {
+				return y % 2 == 0 ? 255 : 128;
+			}
+		},
+		/**
+		 * Randomly scattered glowing pixels, the worst case for a region-based layout
+		 */
+		SCATTERED {
+			@Override
+			int glowAlpha(int x, int y, int size, Random random) {
+				return random.nextInt(4) == 0 ? 255 : -1;
+			}
+		};
+
+		/**
+		 * @return The alpha of the glow layer at the given pixel, or -1 if it doesn't glow
+		 */
+		abstract int glowAlpha(int x, int y, int size, Random random);
+	}
+}
@@ -0,0 +1,305 @@
+package mod.azure.azurelib.benchmark;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.core.benchmark.BenchmarkExpressions;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.PackType;
+import net.minecraft.server.packs.PathPackResources;
+import net.minecraft.server.packs.resources.MultiPackResourceManager;
+import net.minecraft.server.packs.resources.ResourceManager;
+
+/**
+ * A resource pack of generated animation and geo files, written to a temporary directory and read through a regular {@link ResourceManager},
+ * so that benchmarks follow the same path as a resource reload.<br>
+ * The files are modelled on Blockbench exports, with a mix of constant and Molang keyframes, easings, and per-face UVs.
+ * They are generated from a seeded {@link Random}, so the same seed always produces the same pack.<br>
+ * The pack is deleted again when {@link SyntheticAssetPack#close() closed}
+ */
+public final class SyntheticAssetPack implements AutoCloseable {
+	public static final String ANIMATIONS = "animations";
+	public static final String GEO = "geo";
+
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+	private static final String[] EASINGS = {"easeInOutSine", "easeOutQuad", "easeInCubic", "easeOutBack"};
+	private static final String[] FACES = {"north", "east", "south", "west", "up", "down"};
+
+	private final Path root;
+	private final MultiPackResourceManager resourceManager;
+
+	private SyntheticAssetPack(Path root) {
+		this.root = root;
+		this.resourceManager = new MultiPackResourceManager(PackType.CLIENT_RESOURCES, List.of(new PathPackResources("azurelib_benchmark", root, true)));
+	}
+
+	/**
+	 * Generate a new pack with the given number of animation files and the same number of matching geo files
+	 * @param fileCount The number of files of each type to generate
+	 * @param seed The seed for the random generator, so that runs can be compared
+	 */
+	public static SyntheticAssetPack generate(int fileCount, long seed) {
+		try {
+			Path root = Files.createTempDirectory("azurelib_benchmark");
+			Path animations = Files.createDirectories(root.resolve("assets/" + AzureLib.MOD_ID + "/" + ANIMATIONS + "/benchmark"));
+			Path geo = Files.createDirectories(root.resolve("assets/" + AzureLib.MOD_ID + "/" + GEO + "/benchmark"));
+
+			for (int i = 0; i < fileCount; i++) {
+				Random random = new Random(seed + i);
+				String name = "entity" + i;
+				int boneCount = 6 + random.nextInt(19);
+
+				Files.writeString(geo.resolve(name + ".geo.json"), GSON.toJson(createGeoFile(random, name, boneCount)));
+				Files.writeString(animations.resolve(name + ".animation.json"), GSON.toJson(createAnimationFile(random, name, boneCount)));
+			}
+
+			return new SyntheticAssetPack(root);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to write the synthetic benchmark pack", ex);
+		}
+	}
+
+	public ResourceManager getResourceManager() {
+		return this.resourceManager;
+	}
+
+	/**
+	 * Get the locations of all files of the given type in this pack, in a stable order
+	 * @param type The asset folder, either {@link SyntheticAssetPack#ANIMATIONS} or {@link SyntheticAssetPack#GEO}
+	 */
+	public List<ResourceLocation> listFiles(String type) {
+		return this.resourceManager.listResources(type, fileName -> fileName.getPath().endsWith(".json")).keySet().stream()
+				.sorted().collect(Collectors.toList());
+	}
+
+	/**
+	 * Close the pack and delete its files
+	 */
+	@Override
+	public void close() {
+		this.resourceManager.close();
+
+		try (Stream<Path> files = Files.walk(this.root)) {
+			for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+				Files.delete(file);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to delete the synthetic benchmark pack", ex);
+		}
+	}
+
+	/**
+	 * Create the json of a geo file with the given number of bones, named {@code bone0} to {@code boneN}.<br>
+	 * Each bone is parented to one of the few bones before it, and has up to four cubes
+	 */
+	public static JsonObject createGeoFile(Random random, String name, int boneCount) {
+		int uvSize = 64 << random.nextInt(3);
+		JsonArray bones = new JsonArray(boneCount);
+
+		for (int i = 0; i < boneCount; i++) {
+			JsonObject bone = new JsonObject();
+
+			bone.addProperty("name", "bone" + i);
+
+			if (i > 0)
+				bone.addProperty("parent", "bone" + Math.max(0, i - 1 - random.nextInt(6)));
+
+			bone.add("pivot", position(random));
+
+			if (random.nextFloat() < 0.3f)
+				bone.add("rotation", vector(decimal(random, -30, 30, 1), decimal(random, -30, 30, 1), 0));
+
+			int cubeCount = random.nextInt(5);
+
+			if (cubeCount > 0) {
+				JsonArray cubes = new JsonArray(cubeCount);
+
+				for (int j = 0; j < cubeCount; j++) {
+					cubes.add(createCube(random, uvSize));
+				}
+
+				bone.add("cubes", cubes);
+			}
+
+			bones.add(bone);
+		}
+
+		JsonObject description = new JsonObject();
+		JsonObject geometry = new JsonObject();
+		JsonArray geometryArray = new JsonArray(1);
+		JsonObject file = new JsonObject();
+
+		description.addProperty("identifier", "geometry." + name);
+		description.addProperty("texture_width", uvSize);
+		description.addProperty("texture_height", uvSize);
+		geometry.add("description", description);
+		geometry.add("bones", bones);
+		geometryArray.add(geometry);
+		file.addProperty("format_version", "1.12.0");
+		file.add("minecraft:geometry", geometryArray);
+
+		return file;
+	}
+
+	/**
+	 * Create the json of an animation file with a handful of animations for bones named as by {@link SyntheticAssetPack#createGeoFile}
+	 */
+	public static JsonObject createAnimationFile(Random random, String name, int boneCount) {
+		JsonObject animations = new JsonObject();
+		int animationCount = 3 + random.nextInt(6);
+
+		for (int i = 0; i < animationCount; i++) {
+			JsonObject animation = new JsonObject();
+			JsonObject bones = new JsonObject();
+			double length = decimal(random, 0.5, 4, 2);
+			float molangChance = random.nextFloat();
+
+			if (random.nextBoolean())
+				animation.addProperty("loop", true);
+
+			animation.addProperty("animation_length", length);
+
+			for (int bone = 0; bone < boneCount; bone++) {
+				if (random.nextFloat() < 0.4f)
+					continue;
+
+				JsonObject boneAnimation = new JsonObject();
+
+				boneAnimation.add("rotation", createKeyframes(random, length, true, molangChance));
+
+				if (random.nextFloat() < 0.4f)
+					boneAnimation.add("position", createKeyframes(random, length, false, molangChance / 2));
+
+				if (random.nextFloat() < 0.15f)
+					boneAnimation.add("scale", createKeyframes(random, length, false, 0));
+
+				bones.add("bone" + bone, boneAnimation);
+			}
+
+			animation.add("bones", bones);
+			animations.add("animation." + name + ".anim" + i, animation);
+		}
+
+		JsonObject file = new JsonObject();
+
+		file.addProperty("format_version", "1.8.0");
+		file.add("animations", animations);
+
+		return file;
+	}
+
+	private static JsonObject createCube(Random random, int uvSize) {
+		JsonObject cube = new JsonObject();
+
+		cube.add("origin", position(random));
+		cube.add("size", vector(1 + random.nextInt(12), 1 + random.nextInt(12), 1 + random.nextInt(12)));
+
+		if (random.nextFloat() < 0.3f) {
+			cube.add("pivot", position(random));
+			cube.add("rotation", vector(decimal(random, -45, 45, 1), 0, decimal(random, -45, 45, 1)));
+		}
+
+		if (random.nextFloat() < 0.5f) {
+			cube.add("uv", vector(random.nextInt(uvSize - 16), random.nextInt(uvSize - 16)));
+		}
+		else {
+			JsonObject faces = new JsonObject();
+
+			for (String face : FACES) {
+				JsonObject faceUV = new JsonObject();
+
+				faceUV.add("uv", vector(random.nextInt(uvSize - 16), random.nextInt(uvSize - 16)));
+				faceUV.add("uv_size", vector(1 + random.nextInt(12), 1 + random.nextInt(12)));
+				faces.add(face, faceUV);
+			}
+
+			cube.add("uv", faces);
+		}
+
+		return cube;
+	}
+
+	/**
+	 * Create the evenly spaced keyframes of a single channel, each either a plain vector, an eased vector, or a pre/post pair
+	 */
+	private static JsonObject createKeyframes(Random random, double length, boolean rotation, float molangChance) {
+		JsonObject keyframes = new JsonObject();
+		int count = 2 + random.nextInt(5);
+
+		for (int i = 0; i < count; i++) {
+			double time = Math.round(length * i / (count - 1) * 10000) / 10000d;
+			float style = random.nextFloat();
+			JsonObject keyframe = new JsonObject();
+
+			if (style < 0.5f) {
+				keyframes.add(Double.toString(time), channel(random, rotation, molangChance));
+
+				continue;
+			}
+
+			if (style < 0.8f) {
+				keyframe.add("vector", channel(random, rotation, molangChance));
+				keyframe.addProperty("easing", EASINGS[random.nextInt(EASINGS.length)]);
+			}
+			else {
+				keyframe.add("pre", channel(random, rotation, molangChance));
+				keyframe.add("post", channel(random, rotation, molangChance));
+				keyframe.addProperty("lerp_mode", "catmullrom");
+			}
+
+			keyframes.add(Double.toString(time), keyframe);
+		}
+
+		return keyframes;
+	}
+
+	private static JsonArray channel(Random random, boolean rotation, float molangChance) {
+		JsonArray values = new JsonArray(3);
+
+		for (int i = 0; i < 3; i++) {
+			if (random.nextFloat() < molangChance) {
+				values.add(BenchmarkExpressions.generate(random));
+			}
+			else {
+				values.add(rotation ? decimal(random, -45, 45, 1) : decimal(random, -3, 3, 2));
+			}
+		}
+
+		return values;
+	}
+
+	private static JsonArray position(Random random) {
+		return vector(decimal(random, -8, 8, 1), decimal(random, 0, 24, 1), decimal(random, -8, 8, 1));
+	}
+
+	private static JsonArray vector(double... values) {
+		JsonArray array = new JsonArray(values.length);
+
+		for (double value : values) {
+			array.add(value);
+		}
+
+		return array;
+	}
+
+	private static double decimal(Random random, double min, double max, int decimals) {
+		double scale = Math.pow(10, decimals);
+
+		return Math.round((min + random.nextDouble() * (max - min)) * scale) / scale;
+	}
+}
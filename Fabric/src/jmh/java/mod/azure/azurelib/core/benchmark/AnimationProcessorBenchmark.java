@@ -0,0 +1,96 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.core.animation.AnimationProcessor;
+import mod.azure.azurelib.core.animation.AnimationState;
+import mod.azure.azurelib.core.state.BonePoseBuffer;
+import mod.azure.azurelib.core.state.SharedPoseCache;
+
+/**
+ * Measures the cost of a full {@link AnimationProcessor#tickAnimation} frame for a group of animatables sharing one model,
+ * as happens when rendering several of the same entity.<br>
+ * Reported times are per animatable. Run with {@code -prof gc} to check the per-frame allocation rate
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimationProcessorBenchmark {
+	private static final int INSTANCES = 16;
+	private static final double FRAME_TIME = 0.5;
+
+	@Param({"10", "100", "1000"})
+	public int boneCount;
+
+	@Param({"1", "4"})
+	public int controllerCount;
+
+	@Param({"BONES", "POSE_BUFFER", "SHARED_POSE"})
+	public BenchmarkAnimatable.PoseMode poseMode;
+
+	private BenchmarkGeoModel model;
+	private BenchmarkAnimatable[] animatables;
+	private AnimatableManager<BenchmarkAnimatable>[] managers;
+	private AnimationState<BenchmarkAnimatable>[] states;
+	private double animTime;
+
+	@Setup(Level.Trial)
+	@SuppressWarnings("unchecked")
+	public void setup() {
+		this.model = new BenchmarkGeoModel(this.boneCount, this.controllerCount, 8);
+		this.animatables = new BenchmarkAnimatable[INSTANCES];
+		this.managers = new AnimatableManager[INSTANCES];
+		this.states = new AnimationState[INSTANCES];
+		this.animTime = 0;
+
+		for (int i = 0; i < INSTANCES; i++) {
+			this.animatables[i] = new BenchmarkAnimatable(this.controllerCount, this.controllerCount, this.poseMode);
+			this.managers[i] = new AnimatableManager<>(this.animatables[i]);
+			this.states[i] = new AnimationState<>(this.animatables[i], 0, 0, 0, false);
+		}
+
+		SharedPoseCache.clear();
+		SharedPoseCache.resetMetrics();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(INSTANCES)
+	public void tickAnimation() {
+		AnimationProcessor<BenchmarkAnimatable> processor = this.model.getAnimationProcessor();
+
+		this.animTime += FRAME_TIME;
+
+		for (int i = 0; i < INSTANCES; i++) {
+			AnimatableManager<BenchmarkAnimatable> manager = this.managers[i];
+			AnimationState<BenchmarkAnimatable> state = this.states[i];
+
+			manager.updatedAt(this.animTime);
+			state.animationTick = this.animTime;
+
+			processor.tickAnimation(this.animatables[i], this.model, manager, this.animTime, state, false);
+
+			BonePoseBuffer pose = manager.getPoseBuffer();
+
+			if (pose != null)
+				pose.apply();
+		}
+	}
+}
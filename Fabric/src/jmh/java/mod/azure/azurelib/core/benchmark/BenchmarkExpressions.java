@@ -0,0 +1,60 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.Function;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Generator for synthetic Molang expressions, modelled on the keyframe expressions of typical Blockbench animation exports.<br>
+ * Expressions are generated from a seeded {@link Random}, so the same seed always produces the same expressions
+ */
+public final class BenchmarkExpressions {
+	private static final List<Function<Random, String>> TEMPLATES = List.of(
+			random -> "math.sin(query.anim_time * " + number(random, 90, 720, 0) + ") * " + number(random, 2, 25, 1),
+			random -> "math.cos((query.anim_time + " + number(random, 0, 1, 2) + ") * " + number(random, 90, 540, 0) + ") * " + number(random, 2, 20, 1) + " * query.ground_speed",
+			random -> number(random, -30, 30, 1) + " + math.sin(query.life_time * " + number(random, 40, 360, 0) + ") * " + number(random, 1, 10, 1),
+			random -> "query.yaw_speed > 0 ? math.clamp(query.yaw_speed * " + number(random, 0.1, 2, 2) + ", -" + number(random, 10, 40, 0) + ", " + number(random, 10, 40, 0) + ") : 0",
+			random -> "math.lerp(" + number(random, -20, 0, 1) + ", " + number(random, 0, 20, 1) + ", math.sin(query.anim_time * " + number(random, 90, 360, 0) + ") * 0.5 + 0.5)",
+			random -> "variable.attack_progress * " + number(random, -60, 60, 1),
+			random -> number(random, 5, 45, 1) + " * (1 - query.health / query.max_health)",
+			random -> "math.sin(query.anim_time * " + number(random, 180, 720, 0) + " - " + number(random, 0, 90, 0) + ") * " + number(random, 1, 8, 1) +
+					" + math.cos(query.anim_time * " + number(random, 90, 360, 0) + ") * " + number(random, 1, 4, 1),
+			random -> "query.is_on_ground ? 0 : math.sin(query.life_time * " + number(random, 60, 240, 0) + ") * " + number(random, 5, 30, 1),
+			random -> "-" + number(random, 1, 15, 1) + " * math.abs(math.sin(query.anim_time * " + number(random, 90, 360, 0) + "))",
+			random -> number(random, 1, 90, 0) + " / 2 * " + number(random, 0.5, 2, 2));
+
+	private BenchmarkExpressions() {}
+
+	/**
+	 * Generate a single random expression
+	 */
+	public static String generate(Random random) {
+		return TEMPLATES.get(random.nextInt(TEMPLATES.size())).apply(random);
+	}
+
+	/**
+	 * Generate the given number of random expressions
+	 * @param count The number of expressions to generate
+	 * @param seed The seed for the random generator, so that runs can be compared
+	 */
+	public static List<String> generate(int count, long seed) {
+		Random random = new Random(seed);
+		List<String> expressions = new ObjectArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			expressions.add(generate(random));
+		}
+
+		return expressions;
+	}
+
+	/**
+	 * Get a random number in the given range, formatted with the given number of decimal places as it would be in an exported expression
+	 */
+	public static String number(Random random, double min, double max, int decimals) {
+		return String.format(Locale.ROOT, "%." + decimals + "f", min + random.nextDouble() * (max - min));
+	}
+}
@@ -0,0 +1,178 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.core.animatable.model.CoreBakedGeoModel;
+import mod.azure.azurelib.core.animatable.model.CoreGeoModel;
+import mod.azure.azurelib.core.animation.Animation;
+import mod.azure.azurelib.core.animation.AnimationProcessor;
+import mod.azure.azurelib.core.animation.AnimationState;
+import mod.azure.azurelib.core.animation.EasingType;
+import mod.azure.azurelib.core.keyframe.BoneAnimation;
+import mod.azure.azurelib.core.keyframe.Keyframe;
+import mod.azure.azurelib.core.keyframe.KeyframeStack;
+import mod.azure.azurelib.core.keyframe.event.data.CustomInstructionKeyframeData;
+import mod.azure.azurelib.core.keyframe.event.data.ParticleKeyframeData;
+import mod.azure.azurelib.core.keyframe.event.data.SoundKeyframeData;
+import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.molang.MolangException;
+import mod.azure.azurelib.core.molang.MolangParser;
+
+/**
+ * Synthetic {@link CoreGeoModel} for benchmarking the core animation engine.<br>
+ * Generates a bone tree of the given size, and a set of looping animations that animate every bone,
+ * using a mix of constant and Molang keyframes and easing types similar to what is found in typical animation files
+ */
+public class BenchmarkGeoModel implements CoreGeoModel<BenchmarkAnimatable> {
+	public static final String ANIMATION_PREFIX = "animation.benchmark.";
+	private static final int BONE_BRANCHING = 4;
+	private static final double KEYFRAME_LENGTH = 5;
+	private static final EasingType[] EASING_TYPES = {EasingType.LINEAR, EasingType.EASE_IN_OUT_SINE, EasingType.EASE_OUT_QUAD, EasingType.CATMULLROM};
+
+	private final BakedModel bakedModel;
+	private final AnimationProcessor<BenchmarkAnimatable> processor;
+	private final Map<String, Animation> animations = new Object2ObjectOpenHashMap<>();
+
+	/**
+	 * @param boneCount The number of bones in the model, arranged in a tree with up to four children per bone
+	 * @param animationCount The number of animations to generate, named {@link BenchmarkGeoModel#getAnimationName}
+	 * @param keyframeCount The number of keyframes on each animated axis of each bone
+	 */
+	public BenchmarkGeoModel(int boneCount, int animationCount, int keyframeCount) {
+		this.bakedModel = new BakedModel(createBones(boneCount));
+		this.processor = new AnimationProcessor<>(this);
+
+		for (int i = 0; i < animationCount; i++) {
+			this.animations.put(getAnimationName(i), createAnimation(getAnimationName(i), this.bakedModel.allBones(), keyframeCount, i));
+		}
+
+		this.processor.setActiveModel(this.bakedModel);
+	}
+
+	public static String getAnimationName(int index) {
+		return ANIMATION_PREFIX + index;
+	}
+
+	private static List<BenchmarkGeoBone> createBones(int boneCount) {
+		List<BenchmarkGeoBone> bones = new ObjectArrayList<>(boneCount);
+
+		for (int i = 0; i < boneCount; i++) {
+			BenchmarkGeoBone bone = new BenchmarkGeoBone(i == 0 ? null : bones.get((i - 1) / BONE_BRANCHING), "bone" + i);
+
+			bone.setPivotY(i);
+			bone.resetStateChanges();
+			bones.add(bone);
+		}
+
+		return bones;
+	}
+
+	/**
+	 * Create a looping animation for the given bones.<br>
+	 * Every bone is rotated, every second bone is moved, and every fourth bone is scaled.
+	 * Every eighth rotated bone uses Molang keyframes rather than constants
+	 */
+	private static Animation createAnimation(String name, List<BenchmarkGeoBone> bones, int keyframeCount, int seed) {
+		BoneAnimation[] boneAnimations = new BoneAnimation[bones.size()];
+
+		for (int i = 0; i < bones.size(); i++) {
+			KeyframeStack<Keyframe<IValue>> rotationFrames = createKeyframeStack(keyframeCount, seed + i, (i + seed) % 8 == 0);
+			KeyframeStack<Keyframe<IValue>> positionFrames = i % 2 == 0 ? createKeyframeStack(keyframeCount, seed + i * 3, false) : new KeyframeStack<>();
+			KeyframeStack<Keyframe<IValue>> scaleFrames = i % 4 == 0 ? createKeyframeStack(keyframeCount, seed + i * 7, false) : new KeyframeStack<>();
+
+			boneAnimations[i] = new BoneAnimation(bones.get(i).getName(), rotationFrames, positionFrames, scaleFrames);
+		}
+
+		return new Animation(name, keyframeCount * KEYFRAME_LENGTH, Animation.LoopType.LOOP, boneAnimations,
+				new Animation.Keyframes(new SoundKeyframeData[0], new ParticleKeyframeData[0], new CustomInstructionKeyframeData[0]));
+	}
+
+	private static KeyframeStack<Keyframe<IValue>> createKeyframeStack(int keyframeCount, int seed, boolean molang) {
+		List<Keyframe<IValue>> xFrames = new ObjectArrayList<>(keyframeCount);
+		List<Keyframe<IValue>> yFrames = new ObjectArrayList<>(keyframeCount);
+		List<Keyframe<IValue>> zFrames = new ObjectArrayList<>(keyframeCount);
+		IValue xPrev = null;
+		IValue yPrev = null;
+		IValue zPrev = null;
+
+		for (int i = 0; i < keyframeCount; i++) {
+			IValue xValue = createValue(seed + i, molang);
+			IValue yValue = createValue(seed + i + 1, false);
+			IValue zValue = createValue(seed + i + 2, false);
+			EasingType easingType = EASING_TYPES[(seed + i) % EASING_TYPES.length];
+
+			xFrames.add(new Keyframe<>(i == 0 ? 0 : KEYFRAME_LENGTH, i == 0 ? xValue : xPrev, xValue, easingType));
+			yFrames.add(new Keyframe<>(i == 0 ? 0 : KEYFRAME_LENGTH, i == 0 ? yValue : yPrev, yValue, easingType));
+			zFrames.add(new Keyframe<>(i == 0 ? 0 : KEYFRAME_LENGTH, i == 0 ? zValue : zPrev, zValue, easingType));
+
+			xPrev = xValue;
+			yPrev = yValue;
+			zPrev = zValue;
+		}
+
+		return new KeyframeStack<>(xFrames, yFrames, zFrames);
+	}
+
+	private static IValue createValue(int seed, boolean molang) {
+		if (!molang)
+			return new Constant(Math.toRadians((seed * 37) % 90 - 45));
+
+		try {
+			return MolangParser.parseExpression("math.sin(query.anim_time * " + (90 + seed % 90) + ") * 30");
+		}
+		catch (MolangException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	public BakedModel getBakedModel() {
+		return this.bakedModel;
+	}
+
+	@Override
+	public BakedModel getBakedGeoModel(String location) {
+		return this.bakedModel;
+	}
+
+	@Override
+	public AnimationProcessor<BenchmarkAnimatable> getAnimationProcessor() {
+		return this.processor;
+	}
+
+	@Override
+	public Animation getAnimation(BenchmarkAnimatable animatable, String name) {
+		return this.animations.get(name);
+	}
+
+	/**
+	 * Not used, as the benchmarks tick the {@link AnimationProcessor} directly
+	 */
+	@Override
+	public void handleAnimations(BenchmarkAnimatable animatable, long instanceId, AnimationState<BenchmarkAnimatable> animationState) {}
+
+	/**
+	 * Baked bone tree for the synthetic model
+	 * @param allBones Every bone in the model, parents before their children
+	 */
+	public record BakedModel(List<BenchmarkGeoBone> allBones) implements CoreBakedGeoModel {
+		@Override
+		public List<BenchmarkGeoBone> getBones() {
+			return this.allBones.isEmpty() ? List.of() : List.of(this.allBones.get(0));
+		}
+
+		@Override
+		public Optional<BenchmarkGeoBone> getBone(String name) {
+			for (BenchmarkGeoBone bone : this.allBones) {
+				if (bone.getName().equals(name))
+					return Optional.of(bone);
+			}
+
+			return Optional.empty();
+		}
+	}
+}
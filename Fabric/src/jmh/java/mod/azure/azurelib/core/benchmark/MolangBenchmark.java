@@ -0,0 +1,89 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.azure.azurelib.core.molang.MolangException;
+import mod.azure.azurelib.core.molang.MolangParser;
+import mod.azure.azurelib.core.molang.MolangQueries;
+import mod.azure.azurelib.core.molang.expressions.MolangValue;
+
+/**
+ * Measures parsing and evaluating Molang expressions of increasing complexity.<br>
+ * Parsing covers tokenizing, building the expression tree, and {@link mod.azure.azurelib.core.molang.MolangCompiler compiling} it.<br>
+ * The {@link ExpressionMode#INTERPRETED interpreted} mode skips compilation, as the baseline to compare the compiled expressions against
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MolangBenchmark {
+	@Param({"CONSTANT", "QUERY", "NESTED"})
+	public Expression expression;
+
+	@Param({"INTERPRETED", "COMPILED"})
+	public ExpressionMode mode;
+
+	private MolangValue value;
+	private double animTime;
+
+	@Setup(Level.Trial)
+	public void setup() throws MolangException {
+		MolangParser.setCompileExpressions(this.mode == ExpressionMode.COMPILED);
+
+		this.value = MolangParser.parseExpression(this.expression.source);
+		this.animTime = 0;
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		MolangParser.setCompileExpressions(true);
+	}
+
+	@Benchmark
+	public MolangValue parse() throws MolangException {
+		return MolangParser.parseExpression(this.expression.source);
+	}
+
+	@Benchmark
+	public double evaluate() {
+		this.animTime += 0.05;
+
+		MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, this.animTime);
+		MolangParser.INSTANCE.setValue(MolangQueries.GROUND_SPEED, 0.25);
+
+		return this.value.get();
+	}
+
+	public enum Expression {
+		CONSTANT("12.5 * 2 + math.sqrt(16) - 3"),
+		QUERY("math.sin(query.anim_time * 90) * 30"),
+		NESTED("math.clamp(math.sin(query.anim_time * 45) * 20 + math.cos(query.anim_time * 30) * (query.ground_speed > 0.1 ? 10 : 2), -25, 25)");
+
+		private final String source;
+
+		Expression(String source) {
+			this.source = source;
+		}
+	}
+
+	public enum ExpressionMode {
+		INTERPRETED,
+		COMPILED
+	}
+}
@@ -16,10 +16,13 @@ import mod.azure.azurelib.config.io.ConfigIO;
 import mod.azure.azurelib.config.value.ConfigValue;
 import mod.azure.azurelib.entities.TickingLightBlock;
 import mod.azure.azurelib.entities.TickingLightEntity;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.fabricmc.fabric.api.object.builder.v1.block.entity.FabricBlockEntityTypeBuilder;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.core.Registry;
@@ -43,6 +46,9 @@ public final class AzureLibMod implements ModInitializer {
 		ServerLifecycleEvents.SERVER_STOPPING.register((server) -> {
 			ConfigIO.FILE_WATCH_MANAGER.stopService();
 		});
+		ServerLifecycleEvents.SERVER_STOPPED.register((server) -> AnimSyncBatcher.reset());
+		ServerTickEvents.END_SERVER_TICK.register(AnimSyncBatcher::flush);
+		ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> AnimSyncBatcher.onPlayerJoin(handler.getPlayer()));
 	}
 
 	/**
@@ -5,10 +5,8 @@ import org.jetbrains.annotations.Nullable;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animation.AnimatableManager;
-import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.SerializableDataTicket;
-import mod.azure.azurelib.network.packet.BlockEntityAnimDataSyncPacket;
-import mod.azure.azurelib.network.packet.BlockEntityAnimTriggerPacket;
 import mod.azure.azurelib.util.RenderUtils;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
@@ -53,8 +51,7 @@ public interface GeoBlockEntity extends GeoAnimatable {
 		else {
 			BlockPos pos = blockEntity.getBlockPos();
 
-			BlockEntityAnimDataSyncPacket<D> blockEntityAnimDataSyncPacket = new BlockEntityAnimDataSyncPacket<>(pos, dataTicket, data);
-			AzureLibNetwork.sendToEntitiesTrackingChunk(blockEntityAnimDataSyncPacket, (ServerLevel) level, pos);
+			AnimSyncBatcher.queueBlockEntityData((ServerLevel) level, pos, dataTicket, data);
 		}
 	}
 
@@ -80,8 +77,7 @@ public interface GeoBlockEntity extends GeoAnimatable {
 		else {
 			BlockPos pos = blockEntity.getBlockPos();
 
-			BlockEntityAnimTriggerPacket blockEntityAnimTriggerPacket = new BlockEntityAnimTriggerPacket(pos, controllerName, animName);
-			AzureLibNetwork.sendToEntitiesTrackingChunk(blockEntityAnimTriggerPacket, (ServerLevel) level, pos);
+			AnimSyncBatcher.queueBlockEntityTrigger((ServerLevel) level, pos, controllerName, animName);
 		}
 	}
 
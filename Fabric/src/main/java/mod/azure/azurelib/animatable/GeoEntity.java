@@ -4,10 +4,8 @@ import org.jetbrains.annotations.Nullable;
 
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animation.AnimatableManager;
-import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.SerializableDataTicket;
-import mod.azure.azurelib.network.packet.EntityAnimDataSyncPacket;
-import mod.azure.azurelib.network.packet.EntityAnimTriggerPacket;
 import mod.azure.azurelib.util.RenderUtils;
 import net.minecraft.world.entity.Entity;
 
@@ -42,8 +40,7 @@ public interface GeoEntity extends GeoAnimatable {
 		if (entity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(entity.getId()).setData(dataTicket, data);
 		} else {
-			EntityAnimDataSyncPacket<D> entityAnimDataSyncPacket = new EntityAnimDataSyncPacket<>(entity.getId(), dataTicket, data);
-			AzureLibNetwork.sendToTrackingEntityAndSelf(entityAnimDataSyncPacket, entity);
+			AnimSyncBatcher.queueEntityData(entity, false, dataTicket, data);
 		}
 	}
 
@@ -60,8 +57,7 @@ public interface GeoEntity extends GeoAnimatable {
 		if (entity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(entity.getId()).tryTriggerAnimation(controllerName, animName);
 		} else {
-			EntityAnimTriggerPacket entityAnimTriggerPacket = new EntityAnimTriggerPacket(entity.getId(), controllerName, animName);
-			AzureLibNetwork.sendToTrackingEntityAndSelf(entityAnimTriggerPacket, entity);
+			AnimSyncBatcher.queueEntityTrigger(entity, false, controllerName, animName);
 		}
 	}
 
@@ -95,6 +95,15 @@ public interface GeoItem extends SingletonGeoAnimatable {
 		return false;
 	}
 
+	/**
+	 * Get the render perspective whose animations should be used for the given perspective, for {@link GeoItem#isPerspectiveAware() perspective-aware} items.<br>
+	 * Perspectives that resolve to the same perspective share a single {@link AnimatableManager}, saving memory where they always play the same animations.
+	 * The returned perspective must resolve to itself. By default, each perspective is animated separately
+	 */
+	default ItemDisplayContext getSharedAnimationContext(ItemDisplayContext context) {
+		return context;
+	}
+
 	/**
 	 * Replaces the default AnimatableInstanceCache for GeoItems if {@link GeoItem#isPerspectiveAware()} is true, for perspective-dependent handling
 	 */
@@ -115,34 +124,42 @@ public interface GeoItem extends SingletonGeoAnimatable {
 			super(animatable);
 		}
 
+		public ContextBasedAnimatableInstanceCache(GeoAnimatable animatable, int maxInstances, long idleTimeout) {
+			super(animatable, maxInstances, idleTimeout);
+		}
+
 		/**
-		 * Gets an {@link AnimatableManager} instance from this cache, cached under the id provided, or a new one if one doesn't already exist.<br>
-		 * This subclass assumes that all animatable instances will be sharing this cache instance, and so differentiates data by ids.
+		 * Create a new {@link ContextAwareAnimatableManager} for the given instance id.<br>
+		 * The sub-manager for each {@link ItemDisplayContext} is only created when that context is first rendered,
+		 * and is shared between contexts as defined by {@link GeoItem#getSharedAnimationContext}
 		 */
 		@Override
-		public AnimatableManager<?> getManagerForId(long uniqueId) {
-			if (!this.managers.containsKey(uniqueId))
-				this.managers.put(uniqueId, new ContextAwareAnimatableManager<GeoItem, ItemDisplayContext>(this.animatable) {
-					@Override
-					protected Map<ItemDisplayContext, AnimatableManager<GeoItem>> buildContextOptions(GeoAnimatable animatable) {
-						Map<ItemDisplayContext, AnimatableManager<GeoItem>> map = new EnumMap<>(ItemDisplayContext.class);
+		protected AnimatableManager<?> createManager(long uniqueId) {
+			GeoItem item = (GeoItem)this.animatable;
+
+			return new ContextAwareAnimatableManager<GeoItem, ItemDisplayContext>(this.animatable) {
+				@Override
+				protected Map<ItemDisplayContext, AnimatableManager<GeoItem>> buildContextOptions(GeoAnimatable animatable) {
+					return new EnumMap<>(ItemDisplayContext.class);
+				}
 
-						for (ItemDisplayContext context : ItemDisplayContext.values()) {
-							map.put(context, new AnimatableManager<>(animatable));
-						}
+				@Override
+				protected AnimatableManager<GeoItem> createManagerForContext(ItemDisplayContext context) {
+					ItemDisplayContext sharedContext = item.getSharedAnimationContext(context);
 
-						return map;
-					}
+					if (sharedContext != context && item.getSharedAnimationContext(sharedContext) == sharedContext)
+						return getManagerForContext(sharedContext);
 
-					@Override
-					public ItemDisplayContext getCurrentContext() {
-						ItemDisplayContext context = getData(DataTickets.ITEM_RENDER_PERSPECTIVE);
+					return new AnimatableManager<>(item);
+				}
 
-						return context == null ? ItemDisplayContext.NONE : context;
-					}
-				});
+				@Override
+				public ItemDisplayContext getCurrentContext() {
+					ItemDisplayContext context = getData(DataTickets.ITEM_RENDER_PERSPECTIVE);
 
-			return this.managers.get(uniqueId);
+					return context == null ? ItemDisplayContext.NONE : context;
+				}
+			};
 		}
 	}
 }
@@ -7,10 +7,8 @@ import org.jetbrains.annotations.Nullable;
 
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animation.AnimatableManager;
-import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.SerializableDataTicket;
-import mod.azure.azurelib.network.packet.EntityAnimDataSyncPacket;
-import mod.azure.azurelib.network.packet.EntityAnimTriggerPacket;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.EntityType;
 
@@ -50,8 +48,7 @@ public interface GeoReplacedEntity extends SingletonGeoAnimatable {
 		if (relatedEntity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(relatedEntity.getId()).setData(dataTicket, data);
 		} else {
-			EntityAnimDataSyncPacket<D> entityAnimDataSyncPacket = new EntityAnimDataSyncPacket<>(relatedEntity.getId(), dataTicket, data);
-			AzureLibNetwork.sendToTrackingEntityAndSelf(entityAnimDataSyncPacket, relatedEntity);
+			AnimSyncBatcher.queueEntityData(relatedEntity, true, dataTicket, data);
 		}
 	}
 
@@ -67,8 +64,7 @@ public interface GeoReplacedEntity extends SingletonGeoAnimatable {
 		if (relatedEntity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(relatedEntity.getId()).tryTriggerAnimation(controllerName, animName);
 		} else {
-			EntityAnimTriggerPacket entityAnimTriggerPacket = new EntityAnimTriggerPacket(relatedEntity.getId(), controllerName, animName);
-			AzureLibNetwork.sendToTrackingEntityAndSelf(entityAnimTriggerPacket, relatedEntity);
+			AnimSyncBatcher.queueEntityTrigger(relatedEntity, true, controllerName, animName);
 		}
 	}
 
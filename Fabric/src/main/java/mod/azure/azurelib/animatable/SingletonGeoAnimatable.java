@@ -9,9 +9,9 @@ import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animatable.instance.AnimatableInstanceCache;
 import mod.azure.azurelib.core.animatable.instance.SingletonAnimatableInstanceCache;
 import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.AzureLibNetwork;
 import mod.azure.azurelib.network.SerializableDataTicket;
-import mod.azure.azurelib.network.packet.AnimDataSyncPacket;
 import mod.azure.azurelib.network.packet.AnimTriggerPacket;
 import net.minecraft.world.entity.Entity;
 
@@ -68,7 +68,7 @@ public interface SingletonGeoAnimatable extends GeoAnimatable {
 	 * @param data       The data to sync
 	 */
 	default <D> void syncAnimData(long instanceId, SerializableDataTicket<D> dataTicket, D data, Entity entityToTrack) {
-		AzureLibNetwork.sendToTrackingEntityAndSelf(new AnimDataSyncPacket<>(getClass().toString(), instanceId, dataTicket, data), entityToTrack);
+		AnimSyncBatcher.queueSingletonData(entityToTrack, getClass().toString(), instanceId, dataTicket, data);
 	}
 
 	/**
@@ -85,7 +85,7 @@ public interface SingletonGeoAnimatable extends GeoAnimatable {
 		if (relatedEntity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(instanceId).tryTriggerAnimation(controllerName, animName);
 		} else {
-			AzureLibNetwork.sendToTrackingEntityAndSelf(new AnimTriggerPacket(getClass().toString(), instanceId, controllerName, animName), relatedEntity);
+			AnimSyncBatcher.queueSingletonTrigger(relatedEntity, getClass().toString(), instanceId, controllerName, animName);
 		}
 	}
 
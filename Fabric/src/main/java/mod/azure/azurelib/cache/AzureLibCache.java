@@ -1,21 +1,32 @@
 package mod.azure.azurelib.cache;
 
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 
+import com.google.gson.JsonParseException;
+
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.AzureLibException;
 import mod.azure.azurelib.cache.object.BakedGeoModel;
 import mod.azure.azurelib.core.animatable.model.CoreGeoModel;
+import mod.azure.azurelib.core.state.SharedPoseCache;
 import mod.azure.azurelib.loading.FileLoader;
 import mod.azure.azurelib.loading.json.FormatVersion;
 import mod.azure.azurelib.loading.json.raw.Model;
@@ -39,6 +50,13 @@ public final class AzureLibCache {
 
 	private static Map<ResourceLocation, BakedAnimations> ANIMATIONS = Collections.emptyMap();
 	private static Map<ResourceLocation, BakedGeoModel> MODELS = Collections.emptyMap();
+	private static Map<ResourceLocation, String> ANIMATION_FINGERPRINTS = Collections.emptyMap();
+	private static Map<ResourceLocation, String> MODEL_FINGERPRINTS = Collections.emptyMap();
+	private static ReloadStats lastAnimationStats = new ReloadStats();
+	private static ReloadStats lastModelStats = new ReloadStats();
+	private static volatile boolean lazyAnimationBaking = false;
+	private static volatile Set<String> prewarmedAnimations = Set.of();
+	private static boolean lastReloadWasLazy = false;
 
 	public static Map<ResourceLocation, BakedAnimations> getBakedAnimations() {
 		if (!AzureLib.hasInitialized)
@@ -54,6 +72,43 @@ public final class AzureLibCache {
 		return MODELS;
 	}
 
+	/**
+	 * Set whether animation files should only be indexed when resources are reloaded, baking each animation the first time it is requested rather than all of them up front.<br>
+	 * This reduces reload times and memory use when only a fraction of the loaded animations are ever played,
+	 * at the cost of a short stall the first time each one is played. Takes effect from the next resource reload
+	 * @see mod.azure.azurelib.loading.object.LazyAnimationMap LazyAnimationMap
+	 */
+	public static void setLazyAnimationBaking(boolean lazy) {
+		lazyAnimationBaking = lazy;
+	}
+
+	public static boolean usesLazyAnimationBaking() {
+		return lazyAnimationBaking;
+	}
+
+	/**
+	 * Set the names of the animations that should still be baked during the resource reload when {@link AzureLibCache#setLazyAnimationBaking lazy animation baking} is enabled,
+	 * in any file that contains them.<br>
+	 * Useful for animations that are likely to be played as soon as an animatable is first rendered, such as idle animations
+	 */
+	public static void setPrewarmedAnimations(Collection<String> animationNames) {
+		prewarmedAnimations = Set.copyOf(animationNames);
+	}
+
+	/**
+	 * Get the counts and timings of the animation files re-used and rebuilt by the last resource reload
+	 */
+	public static ReloadStats getLastAnimationReloadStats() {
+		return lastAnimationStats;
+	}
+
+	/**
+	 * Get the counts and timings of the model files re-used and rebuilt by the last resource reload
+	 */
+	public static ReloadStats getLastModelReloadStats() {
+		return lastModelStats;
+	}
+
 	public static void registerReloadListener() {
 		Minecraft mc = Minecraft.getInstance();
 
@@ -70,35 +125,143 @@ public final class AzureLibCache {
 	public static CompletableFuture<Void> reload(PreparationBarrier stage, ResourceManager resourceManager,
 			ProfilerFiller preparationsProfiler, ProfilerFiller reloadProfiler, Executor backgroundExecutor,
 			Executor gameExecutor) {
+		long startTime = System.nanoTime();
 		Map<ResourceLocation, BakedAnimations> animations = new Object2ObjectOpenHashMap<>();
 		Map<ResourceLocation, BakedGeoModel> models = new Object2ObjectOpenHashMap<>();
+		Map<ResourceLocation, String> animationFingerprints = new Object2ObjectOpenHashMap<>();
+		Map<ResourceLocation, String> modelFingerprints = new Object2ObjectOpenHashMap<>();
+		ReloadStats animationStats = new ReloadStats();
+		ReloadStats modelStats = new ReloadStats();
+		boolean lazy = lazyAnimationBaking;
+		// Files loaded in the other mode can't be re-used, as they were baked differently
+		Map<ResourceLocation, String> previousAnimationFingerprints = lazy == lastReloadWasLazy ? ANIMATION_FINGERPRINTS : Collections.emptyMap();
 
 		return CompletableFuture
-				.allOf(loadAnimations(backgroundExecutor, resourceManager, animations::put),
-						loadModels(backgroundExecutor, resourceManager, models::put))
+				.allOf(loadAssets(backgroundExecutor, resourceManager, "animations", ANIMATIONS, previousAnimationFingerprints, animationStats,
+								(resource, manager, cacheKey) -> bakeAnimations(resource, manager, cacheKey, lazy), animations, animationFingerprints),
+						loadAssets(backgroundExecutor, resourceManager, "geo", MODELS, MODEL_FINGERPRINTS, modelStats,
+								AzureLibCache::bakeModel, models, modelFingerprints))
 				.thenCompose(stage::wait).thenAcceptAsync(empty -> {
+					BakedAnimations.linkIncludedVariables(animations);
+
+					animationStats.countRemoved(ANIMATION_FINGERPRINTS.keySet(), animationFingerprints.keySet());
+					modelStats.countRemoved(MODEL_FINGERPRINTS.keySet(), modelFingerprints.keySet());
+
 					AzureLibCache.ANIMATIONS = animations;
 					AzureLibCache.MODELS = models;
+					AzureLibCache.ANIMATION_FINGERPRINTS = animationFingerprints;
+					AzureLibCache.MODEL_FINGERPRINTS = modelFingerprints;
+					AzureLibCache.lastAnimationStats = animationStats;
+					AzureLibCache.lastModelStats = modelStats;
+					AzureLibCache.lastReloadWasLazy = lazy;
+					SharedPoseCache.clear();
+					BakedAssetCache.pruneUnusedEntries();
+
+					AzureLib.LOGGER.info("Loaded animations ({}) and models ({}) in {}ms", animationStats, modelStats, (System.nanoTime() - startTime) / 1000000);
 				}, gameExecutor);
 	}
 
-	private static CompletableFuture<Void> loadAnimations(Executor backgroundExecutor, ResourceManager resourceManager,
-			BiConsumer<ResourceLocation, BakedAnimations> elementConsumer) {
-		return loadResources(backgroundExecutor, resourceManager, "animations",
-				resource -> FileLoader.loadAnimationsFile(resource, resourceManager), elementConsumer);
+	/**
+	 * Load all assets of the given type, re-using the previously loaded asset for any file whose contents haven't changed since the last reload
+	 */
+	private static <T> CompletableFuture<Void> loadAssets(Executor executor, ResourceManager resourceManager, String type,
+			Map<ResourceLocation, T> previousAssets, Map<ResourceLocation, String> previousFingerprints, ReloadStats stats,
+			AssetBaker<T> baker, Map<ResourceLocation, T> assets, Map<ResourceLocation, String> fingerprints) {
+		return loadResources(executor, resourceManager, type, resource -> {
+			long startTime = System.nanoTime();
+			String fingerprint = getFingerprint(resource, resourceManager, type);
+			T asset = fingerprint.equals(previousFingerprints.get(resource)) ? previousAssets.get(resource) : null;
+
+			if (asset != null) {
+				BakedAssetCache.retainEntry(fingerprint);
+				stats.reused(System.nanoTime() - startTime);
+			}
+			else {
+				asset = baker.bake(resource, resourceManager, fingerprint);
+
+				stats.rebuilt(System.nanoTime() - startTime);
+			}
+
+			return new FingerprintedAsset<>(asset, fingerprint);
+		}, (resource, fingerprintedAsset) -> {
+			assets.put(resource, fingerprintedAsset.asset());
+			fingerprints.put(resource, fingerprintedAsset.fingerprint());
+		});
+	}
+
+	/**
+	 * Get the fingerprint of a file's contents, hashing it as it is streamed rather than reading the whole file into memory.<br>
+	 * Unchanged files are then re-used without being read again, and changed files are parsed straight from their own stream
+	 */
+	private static String getFingerprint(ResourceLocation resource, ResourceManager resourceManager, String type) {
+		try (InputStream inputStream = resourceManager.getResourceOrThrow(resource).open()) {
+			return BakedAssetCache.getKey(type, inputStream);
+		}
+		catch (IOException e) {
+			AzureLib.LOGGER.error("Couldn't load " + resource, e);
+
+			throw new RuntimeException(new FileNotFoundException(resource.toString()));
+		}
+	}
+
+	private static BakedAnimations bakeAnimations(ResourceLocation resource, ResourceManager resourceManager, String cacheKey, boolean lazy) {
+		if (lazy) {
+			// Lazy baking keeps the raw contents of the file to bake each animation from later, so it has to be read into memory
+			BakedAnimations animations = FileLoader.loadLazyAnimationsFile(resource, FileLoader.getFileBytes(resource, resourceManager));
+
+			for (String animationName : prewarmedAnimations) {
+				animations.animations().get(animationName);
+			}
+
+			return animations;
+		}
+
+		BakedAnimations animations = BakedAssetCache.loadAnimations(cacheKey);
+
+		if (animations == null) {
+			List<String> failedAnimations = new ObjectArrayList<>();
+			animations = FileLoader.loadAnimationsFile(resource, resourceManager, failedAnimations);
+
+			// Files with animations that couldn't be baked aren't cached, so that they are baked again, and the errors reported again, on the next load
+			if (failedAnimations.isEmpty())
+				BakedAssetCache.saveAnimations(cacheKey, animations);
+		}
+
+		return animations;
+	}
+
+	private static BakedGeoModel bakeModel(ResourceLocation resource, ResourceManager resourceManager, String cacheKey) {
+		BakedModelFactory factory = BakedModelFactory.getForNamespace(resource.getNamespace());
+
+		// Custom factories may construct their own bone and cube types, which can't be restored from the cache
+		if (factory != BakedModelFactory.DEFAULT_FACTORY)
+			return bakeModel(resource, FileLoader.loadModelFile(resource, resourceManager), factory);
+
+		BakedGeoModel bakedModel = BakedAssetCache.loadModel(cacheKey);
+
+		if (bakedModel == null) {
+			bakedModel = bakeModel(resource, FileLoader.loadModelFile(resource, resourceManager), factory);
+
+			BakedAssetCache.saveModel(cacheKey, bakedModel);
+		}
+
+		return bakedModel;
 	}
 
-	private static CompletableFuture<Void> loadModels(Executor backgroundExecutor, ResourceManager resourceManager,
-			BiConsumer<ResourceLocation, BakedGeoModel> elementConsumer) {
-		return loadResources(backgroundExecutor, resourceManager, "geo", resource -> {
-			Model model = FileLoader.loadModelFile(resource, resourceManager);
+	private static BakedGeoModel bakeModel(ResourceLocation resource, Model model, BakedModelFactory factory) {
+		if (model.formatVersion() != FormatVersion.V_1_12_0)
+			throw new AzureLibException(resource, "Unsupported geometry json version. Supported versions: 1.12.0");
 
-			if (model.formatVersion() != FormatVersion.V_1_12_0)
-				throw new AzureLibException(resource, "Unsupported geometry json version. Supported versions: 1.12.0");
+		GeometryTree geometryTree;
 
-			return BakedModelFactory.getForNamespace(resource.getNamespace())
-					.constructGeoModel(GeometryTree.fromModel(model));
-		}, elementConsumer);
+		try {
+			geometryTree = GeometryTree.fromModel(model);
+		}
+		catch (JsonParseException ex) {
+			throw new AzureLibException(resource, ex.getMessage(), ex);
+		}
+
+		return factory.constructGeoModel(geometryTree);
 	}
 
 	private static <T> CompletableFuture<Void> loadResources(Executor executor, ResourceManager resourceManager,
@@ -120,4 +283,66 @@ public final class AzureLibCache {
 					}
 				}, executor);
 	}
+
+	@FunctionalInterface
+	private interface AssetBaker<T> {
+		T bake(ResourceLocation resource, ResourceManager resourceManager, String cacheKey);
+	}
+
+	private record FingerprintedAsset<T>(T asset, String fingerprint) {}
+
+	/**
+	 * Counts and timings of the assets of one type re-used from the previous reload, or rebuilt because their file was added or changed.<br>
+	 * Timings are the total time spent across all worker threads, so may exceed the duration of the reload itself
+	 */
+	public static final class ReloadStats {
+		private final AtomicInteger reusedCount = new AtomicInteger();
+		private final AtomicInteger rebuiltCount = new AtomicInteger();
+		private final AtomicLong reusedNanos = new AtomicLong();
+		private final AtomicLong rebuiltNanos = new AtomicLong();
+		private int removedCount = 0;
+
+		private void reused(long nanos) {
+			this.reusedCount.incrementAndGet();
+			this.reusedNanos.addAndGet(nanos);
+		}
+
+		private void rebuilt(long nanos) {
+			this.rebuiltCount.incrementAndGet();
+			this.rebuiltNanos.addAndGet(nanos);
+		}
+
+		private void countRemoved(Set<ResourceLocation> previousFiles, Set<ResourceLocation> currentFiles) {
+			for (ResourceLocation file : previousFiles) {
+				if (!currentFiles.contains(file))
+					this.removedCount++;
+			}
+		}
+
+		public int getReusedCount() {
+			return this.reusedCount.get();
+		}
+
+		public int getRebuiltCount() {
+			return this.rebuiltCount.get();
+		}
+
+		public int getRemovedCount() {
+			return this.removedCount;
+		}
+
+		public long getReusedNanos() {
+			return this.reusedNanos.get();
+		}
+
+		public long getRebuiltNanos() {
+			return this.rebuiltNanos.get();
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%d reused in %.1fms, %d rebuilt in %.1fms, %d removed",
+					getReusedCount(), getReusedNanos() / 1000000d, getRebuiltCount(), getRebuiltNanos() / 1000000d, getRemovedCount());
+		}
+	}
 }
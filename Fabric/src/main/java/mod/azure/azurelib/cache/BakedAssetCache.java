@@ -0,0 +1,862 @@
+package mod.azure.azurelib.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.cache.object.BakedGeoModel;
+import mod.azure.azurelib.cache.object.GeoBone;
+import mod.azure.azurelib.cache.object.GeoCube;
+import mod.azure.azurelib.cache.object.GeoQuad;
+import mod.azure.azurelib.cache.object.GeoVertex;
+import mod.azure.azurelib.core.animation.Animation;
+import mod.azure.azurelib.core.animation.EasingType;
+import mod.azure.azurelib.core.keyframe.BoneAnimation;
+import mod.azure.azurelib.core.keyframe.Keyframe;
+import mod.azure.azurelib.core.keyframe.KeyframeStack;
+import mod.azure.azurelib.core.keyframe.event.data.CustomInstructionKeyframeData;
+import mod.azure.azurelib.core.keyframe.event.data.ParticleKeyframeData;
+import mod.azure.azurelib.core.keyframe.event.data.SoundKeyframeData;
+import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.molang.MolangException;
+import mod.azure.azurelib.core.molang.MolangParser;
+import mod.azure.azurelib.core.molang.expressions.MolangValue;
+import mod.azure.azurelib.loading.json.raw.ModelProperties;
+import mod.azure.azurelib.loading.object.BakedAnimations;
+import net.fabricmc.loader.api.FabricLoader;
+import net.minecraft.core.Direction;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.phys.Vec3;
+import org.joml.Vector3f;
+
+/**
+ * Persistent on-disk cache of {@link BakedGeoModel BakedGeoModels} and {@link BakedAnimations}, stored in a compact binary format.<br>
+ * Entries are keyed by a hash of the source file's contents and the AzureLib version, so unchanged files skip json parsing and baking entirely on subsequent loads,
+ * and edited files are simply baked again under a new key. Entries not used by a reload are deleted at the end of it.<br>
+ * <br>
+ * Molang expressions are stored as their source and re-parsed on load, as their compiled form depends on the variables registered at runtime.
+ * Models from custom {@link mod.azure.azurelib.loading.object.BakedModelFactory BakedModelFactories} are never cached,
+ * as they may construct their own bone and cube types.
+ */
+public final class BakedAssetCache {
+	/**
+	 * The version of the binary format. Must be incremented whenever the format, or the way assets are baked, changes
+	 */
+	private static final int FORMAT_VERSION = 1;
+	/**
+	 * The version of AzureLib, mixed into every cache key so that assets are baked again after an update, even if the binary format hasn't changed
+	 */
+	private static final String MOD_VERSION = FabricLoader.getInstance().getModContainer(AzureLib.MOD_ID)
+			.map(mod -> mod.getMetadata().getVersion().getFriendlyString()).orElse("unknown");
+	private static final int MAGIC = 0x415A4243;
+	private static final String FILE_EXTENSION = ".bin";
+
+	private static final byte VALUE_REFERENCE = 0;
+	private static final byte VALUE_CONSTANT = 1;
+	private static final byte VALUE_MOLANG_CONSTANT = 2;
+	private static final byte VALUE_EXPRESSION = 3;
+	private static final byte VALUE_ZERO = 4;
+	private static final byte VALUE_ONE = 5;
+
+	private static final Set<String> USED_ENTRIES = ConcurrentHashMap.newKeySet();
+
+	private static volatile boolean enabled = true;
+
+	private BakedAssetCache() {}
+
+	/**
+	 * Set whether baked assets should be read from and written to the cache
+	 */
+	public static void setEnabled(boolean enabled) {
+		BakedAssetCache.enabled = enabled;
+	}
+
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	public static Path getCacheDirectory() {
+		return FabricLoader.getInstance().getGameDir().resolve(AzureLib.MOD_ID).resolve("cache");
+	}
+
+	/**
+	 * Get the cache key for a file's contents
+	 * @param type The type of asset baked from the file, also used to separate assets baked differently from the same contents
+	 * @param contents The raw contents of the file
+	 */
+	public static String getKey(String type, byte[] contents) {
+		return HexFormat.of().formatHex(createDigest(type).digest(contents));
+	}
+
+	/**
+	 * Get the cache key for a file's contents, hashing them as they are read from the given stream rather than reading the whole file into memory
+	 * @param type The type of asset baked from the file, also used to separate assets baked differently from the same contents
+	 * @param contents The stream of the file's raw contents, which is read to its end but not closed
+	 */
+	public static String getKey(String type, InputStream contents) throws IOException {
+		MessageDigest digest = createDigest(type);
+
+		new DigestInputStream(contents, digest).transferTo(OutputStream.nullOutputStream());
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	private static MessageDigest createDigest(String type) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+
+			digest.update((FORMAT_VERSION + ":" + MOD_VERSION + ":" + type + ":").getBytes(StandardCharsets.UTF_8));
+
+			return digest;
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Load a cached model, if present
+	 * @return The cached model, or null if not present or unreadable
+	 */
+	@Nullable
+	public static BakedGeoModel loadModel(String key) {
+		ByteBuffer buffer = openEntry(key);
+
+		if (buffer == null)
+			return null;
+
+		try {
+			return new Reader(buffer).readModel();
+		}
+		catch (Exception ex) {
+			AzureLib.LOGGER.warn("Discarding unreadable cached model " + key, ex);
+			deleteEntry(key);
+
+			return null;
+		}
+	}
+
+	/**
+	 * Load cached animations, if present
+	 * @return The cached animations, or null if not present or unreadable
+	 */
+	@Nullable
+	public static BakedAnimations loadAnimations(String key) {
+		ByteBuffer buffer = openEntry(key);
+
+		if (buffer == null)
+			return null;
+
+		try {
+			return new Reader(buffer).readAnimations();
+		}
+		catch (Exception ex) {
+			AzureLib.LOGGER.warn("Discarding unreadable cached animations " + key, ex);
+			deleteEntry(key);
+
+			return null;
+		}
+	}
+
+	public static void saveModel(String key, BakedGeoModel model) {
+		if (!enabled)
+			return;
+
+		try {
+			Writer writer = new Writer();
+
+			writer.writeModel(model);
+			writeEntry(key, writer);
+		}
+		catch (UncacheableException ex) {
+			// Contains values that can't be reconstructed from the cache, so it just gets baked every time
+		}
+		catch (IOException ex) {
+			AzureLib.LOGGER.warn("Unable to cache baked model " + key, ex);
+		}
+	}
+
+	public static void saveAnimations(String key, BakedAnimations animations) {
+		if (!enabled)
+			return;
+
+		try {
+			Writer writer = new Writer();
+
+			writer.writeAnimations(animations);
+			writeEntry(key, writer);
+		}
+		catch (UncacheableException ex) {
+			// Contains values that can't be reconstructed from the cache, so it just gets baked every time
+		}
+		catch (IOException ex) {
+			AzureLib.LOGGER.warn("Unable to cache baked animations " + key, ex);
+		}
+	}
+
+	/**
+	 * Mark an entry as still in use without loading it, so that it isn't deleted by {@link BakedAssetCache#pruneUnusedEntries()}.<br>
+	 * Used when the asset baked from an unchanged file is re-used from the previous reload
+	 */
+	public static void retainEntry(String key) {
+		USED_ENTRIES.add(key);
+	}
+
+	/**
+	 * Delete all cache entries that haven't been used since the last time this was called.<br>
+	 * Called at the end of each resource reload, so that entries for edited or removed files don't accumulate
+	 */
+	public static void pruneUnusedEntries() {
+		if (!enabled) {
+			USED_ENTRIES.clear();
+
+			return;
+		}
+
+		Path directory = getCacheDirectory();
+
+		if (Files.isDirectory(directory)) {
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : (Iterable<Path>)files::iterator) {
+					String fileName = file.getFileName().toString();
+
+					if (fileName.endsWith(FILE_EXTENSION) && USED_ENTRIES.contains(fileName.substring(0, fileName.length() - FILE_EXTENSION.length())))
+						continue;
+
+					try {
+						Files.deleteIfExists(file);
+					}
+					catch (IOException ex) {
+						// Some platforms don't allow deleting files that are still mapped from an earlier load, so it'll be tried again next reload
+					}
+				}
+			}
+			catch (IOException ex) {
+				AzureLib.LOGGER.warn("Unable to prune the baked asset cache", ex);
+			}
+		}
+
+		USED_ENTRIES.clear();
+	}
+
+	@Nullable
+	private static ByteBuffer openEntry(String key) {
+		if (!enabled)
+			return null;
+
+		USED_ENTRIES.add(key);
+
+		Path file = getCacheDirectory().resolve(key + FILE_EXTENSION);
+
+		if (!Files.isRegularFile(file))
+			return null;
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+		catch (IOException ex) {
+			AzureLib.LOGGER.warn("Unable to read cache entry " + key, ex);
+
+			return null;
+		}
+	}
+
+	private static void writeEntry(String key, Writer writer) throws IOException {
+		Path directory = Files.createDirectories(getCacheDirectory());
+		Path tempFile = Files.createTempFile(directory, key, ".tmp");
+
+		try {
+			Files.write(tempFile, writer.toByteArray());
+			Files.move(tempFile, directory.resolve(key + FILE_EXTENSION), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		finally {
+			Files.deleteIfExists(tempFile);
+		}
+
+		USED_ENTRIES.add(key);
+	}
+
+	private static void deleteEntry(String key) {
+		try {
+			Files.deleteIfExists(getCacheDirectory().resolve(key + FILE_EXTENSION));
+		}
+		catch (IOException ex) {
+			AzureLib.LOGGER.warn("Unable to delete cache entry " + key, ex);
+		}
+	}
+
+	@Nullable
+	private static <T> String getRegisteredName(Map<String, T> registry, @Nullable T value) throws UncacheableException {
+		if (value == null)
+			return null;
+
+		for (Map.Entry<String, T> entry : registry.entrySet()) {
+			if (entry.getValue() == value)
+				return entry.getKey();
+		}
+
+		throw new UncacheableException();
+	}
+
+	/**
+	 * Thrown when an asset contains something that can't be written to the cache
+	 */
+	private static final class UncacheableException extends Exception {
+		private UncacheableException() {
+			super(null, null, false, false);
+		}
+	}
+
+	private static final class Writer {
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+		private final DataOutputStream out = new DataOutputStream(this.bytes);
+		private final Reference2IntOpenHashMap<IValue> values = new Reference2IntOpenHashMap<>();
+		private final Map<EasingType, String> easingNames = new Reference2ObjectOpenHashMap<>();
+
+		private Writer() throws IOException {
+			this.values.defaultReturnValue(-1);
+			this.out.writeInt(MAGIC);
+			this.out.writeInt(FORMAT_VERSION);
+		}
+
+		private byte[] toByteArray() throws IOException {
+			this.out.flush();
+
+			return this.bytes.toByteArray();
+		}
+
+		private void writeModel(BakedGeoModel model) throws IOException, UncacheableException {
+			writeProperties(model.properties());
+			this.out.writeInt(model.topLevelBones().size());
+
+			for (GeoBone bone : model.topLevelBones()) {
+				writeBone(bone);
+			}
+		}
+
+		private void writeProperties(ModelProperties properties) throws IOException {
+			writeBoolean(properties.animationArmsDown());
+			writeBoolean(properties.animationArmsOutFront());
+			writeBoolean(properties.animationDontShowArmor());
+			writeBoolean(properties.animationInvertedCrouch());
+			writeBoolean(properties.animationNoHeadBob());
+			writeBoolean(properties.animationSingleArmAnimation());
+			writeBoolean(properties.animationSingleLegAnimation());
+			writeBoolean(properties.animationStationaryLegs());
+			writeBoolean(properties.animationStatueOfLibertyArms());
+			writeBoolean(properties.animationUpsideDown());
+			writeString(properties.identifier());
+			writeBoolean(properties.preserveModelPose());
+			this.out.writeDouble(properties.textureHeight());
+			this.out.writeDouble(properties.textureWidth());
+			writeDouble(properties.visibleBoundsHeight());
+
+			double[] visibleBoundsOffset = properties.visibleBoundsOffset();
+
+			this.out.writeInt(visibleBoundsOffset == null ? -1 : visibleBoundsOffset.length);
+
+			if (visibleBoundsOffset != null) {
+				for (double value : visibleBoundsOffset) {
+					this.out.writeDouble(value);
+				}
+			}
+
+			writeDouble(properties.visibleBoundsWidth());
+		}
+
+		private void writeBone(GeoBone bone) throws IOException, UncacheableException {
+			if (bone.getClass() != GeoBone.class)
+				throw new UncacheableException();
+
+			writeString(bone.getName());
+			writeBoolean(bone.getMirror());
+			writeDouble(bone.getInflate());
+			writeBoolean(bone.shouldNeverRender());
+			writeBoolean(bone.getReset());
+			this.out.writeFloat(bone.getRotX());
+			this.out.writeFloat(bone.getRotY());
+			this.out.writeFloat(bone.getRotZ());
+			this.out.writeFloat(bone.getPivotX());
+			this.out.writeFloat(bone.getPivotY());
+			this.out.writeFloat(bone.getPivotZ());
+			this.out.writeInt(bone.getCubes().size());
+
+			for (GeoCube cube : bone.getCubes()) {
+				writeCube(cube);
+			}
+
+			this.out.writeInt(bone.getChildBones().size());
+
+			for (GeoBone child : bone.getChildBones()) {
+				writeBone(child);
+			}
+		}
+
+		private void writeCube(GeoCube cube) throws IOException {
+			this.out.writeInt(cube.quads().length);
+
+			for (GeoQuad quad : cube.quads()) {
+				this.out.writeBoolean(quad != null);
+
+				if (quad == null)
+					continue;
+
+				this.out.writeInt(quad.vertices().length);
+
+				for (GeoVertex vertex : quad.vertices()) {
+					writeVector(vertex.position());
+					this.out.writeFloat(vertex.texU());
+					this.out.writeFloat(vertex.texV());
+				}
+
+				writeVector(quad.normal());
+				this.out.writeByte(quad.direction().get3DDataValue());
+			}
+
+			writeVec3(cube.pivot());
+			writeVec3(cube.rotation());
+			writeVec3(cube.size());
+			this.out.writeDouble(cube.inflate());
+			this.out.writeBoolean(cube.mirror());
+		}
+
+		private void writeAnimations(BakedAnimations animations) throws IOException, UncacheableException {
+			Map<String, ResourceLocation> includes = animations.includes();
+
+			this.out.writeInt(includes == null ? -1 : includes.size());
+
+			if (includes != null) {
+				for (Map.Entry<String, ResourceLocation> entry : includes.entrySet()) {
+					writeString(entry.getKey());
+					writeString(entry.getValue().toString());
+				}
+			}
+
+			this.out.writeInt(animations.animations().size());
+
+			for (Map.Entry<String, Animation> entry : animations.animations().entrySet()) {
+				writeString(entry.getKey());
+				writeAnimation(entry.getValue());
+			}
+		}
+
+		private void writeAnimation(Animation animation) throws IOException, UncacheableException {
+			writeString(animation.name());
+			this.out.writeDouble(animation.length());
+			writeString(getRegisteredName(Animation.LoopType.LOOP_TYPES, animation.loopType()));
+			this.out.writeInt(animation.boneAnimations().length);
+
+			for (BoneAnimation boneAnimation : animation.boneAnimations()) {
+				writeString(boneAnimation.boneName());
+				writeKeyframeStack(boneAnimation.rotationKeyFrames());
+				writeKeyframeStack(boneAnimation.positionKeyFrames());
+				writeKeyframeStack(boneAnimation.scaleKeyFrames());
+			}
+
+			Animation.Keyframes keyframes = animation.keyFrames();
+
+			this.out.writeInt(keyframes.sounds().length);
+
+			for (SoundKeyframeData sound : keyframes.sounds()) {
+				this.out.writeDouble(sound.getStartTick());
+				writeString(sound.getSound());
+			}
+
+			this.out.writeInt(keyframes.particles().length);
+
+			for (ParticleKeyframeData particle : keyframes.particles()) {
+				this.out.writeDouble(particle.getStartTick());
+				writeString(particle.getEffect());
+				writeString(particle.getLocator());
+				writeString(particle.script());
+			}
+
+			this.out.writeInt(keyframes.customInstructions().length);
+
+			for (CustomInstructionKeyframeData instruction : keyframes.customInstructions()) {
+				this.out.writeDouble(instruction.getStartTick());
+				writeString(instruction.getInstructions());
+			}
+		}
+
+		private void writeKeyframeStack(KeyframeStack<Keyframe<IValue>> stack) throws IOException, UncacheableException {
+			writeKeyframes(stack.xKeyframes());
+			writeKeyframes(stack.yKeyframes());
+			writeKeyframes(stack.zKeyframes());
+		}
+
+		private void writeKeyframes(List<Keyframe<IValue>> keyframes) throws IOException, UncacheableException {
+			this.out.writeInt(keyframes.size());
+
+			for (Keyframe<IValue> keyframe : keyframes) {
+				this.out.writeDouble(keyframe.length());
+				writeValue(keyframe.startValue());
+				writeValue(keyframe.endValue());
+				writeString(getEasingName(keyframe.easingType()));
+				this.out.writeInt(keyframe.easingArgs().size());
+
+				for (IValue easingArg : keyframe.easingArgs()) {
+					writeValue(easingArg);
+				}
+			}
+		}
+
+		@Nullable
+		private String getEasingName(@Nullable EasingType easingType) throws UncacheableException {
+			String name = this.easingNames.get(easingType);
+
+			if (name == null && easingType != null) {
+				name = getRegisteredName(EasingType.EASING_TYPES, easingType);
+
+				this.easingNames.put(easingType, name);
+			}
+
+			return name;
+		}
+
+		/**
+		 * Values are commonly shared between adjacent keyframes, so each distinct value is only written once and referred to by index afterwards
+		 */
+		private void writeValue(IValue value) throws IOException, UncacheableException {
+			int index = this.values.getInt(value);
+
+			if (index != -1) {
+				this.out.writeByte(VALUE_REFERENCE);
+				this.out.writeInt(index);
+
+				return;
+			}
+
+			if (value == MolangParser.ZERO) {
+				this.out.writeByte(VALUE_ZERO);
+			}
+			else if (value == MolangParser.ONE) {
+				this.out.writeByte(VALUE_ONE);
+			}
+			else if (value.getClass() == Constant.class) {
+				this.out.writeByte(VALUE_CONSTANT);
+				this.out.writeDouble(value.get());
+			}
+			else if (value instanceof MolangValue molangValue && molangValue.getExpression() != null) {
+				this.out.writeByte(VALUE_EXPRESSION);
+				writeString(molangValue.getExpression());
+			}
+			else if (value instanceof MolangValue molangValue && molangValue.isConstant() && !molangValue.isReturnValue()) {
+				this.out.writeByte(VALUE_MOLANG_CONSTANT);
+				this.out.writeDouble(value.get());
+			}
+			else {
+				throw new UncacheableException();
+			}
+
+			this.values.put(value, this.values.size());
+		}
+
+		private void writeVector(Vector3f vector) throws IOException {
+			this.out.writeFloat(vector.x);
+			this.out.writeFloat(vector.y);
+			this.out.writeFloat(vector.z);
+		}
+
+		private void writeVec3(Vec3 vec) throws IOException {
+			this.out.writeDouble(vec.x);
+			this.out.writeDouble(vec.y);
+			this.out.writeDouble(vec.z);
+		}
+
+		private void writeBoolean(@Nullable Boolean value) throws IOException {
+			this.out.writeByte(value == null ? -1 : value ? 1 : 0);
+		}
+
+		private void writeDouble(@Nullable Double value) throws IOException {
+			this.out.writeBoolean(value != null);
+
+			if (value != null)
+				this.out.writeDouble(value);
+		}
+
+		private void writeString(@Nullable String value) throws IOException {
+			if (value == null) {
+				this.out.writeInt(-1);
+
+				return;
+			}
+
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+			this.out.writeInt(bytes.length);
+			this.out.write(bytes);
+		}
+	}
+
+	private static final class Reader {
+		private final ByteBuffer buffer;
+		private final List<IValue> values = new ObjectArrayList<>();
+		private IntSet referencedVariables = null;
+
+		private Reader(ByteBuffer buffer) throws IOException {
+			this.buffer = buffer;
+
+			if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION)
+				throw new IOException("Invalid cache entry header");
+		}
+
+		private BakedGeoModel readModel() {
+			ModelProperties properties = readProperties();
+			int boneCount = this.buffer.getInt();
+			List<GeoBone> bones = new ObjectArrayList<>(boneCount);
+
+			for (int i = 0; i < boneCount; i++) {
+				bones.add(readBone(null));
+			}
+
+			return new BakedGeoModel(bones, properties);
+		}
+
+		private ModelProperties readProperties() {
+			Boolean animationArmsDown = readBoolean();
+			Boolean animationArmsOutFront = readBoolean();
+			Boolean animationDontShowArmor = readBoolean();
+			Boolean animationInvertedCrouch = readBoolean();
+			Boolean animationNoHeadBob = readBoolean();
+			Boolean animationSingleArmAnimation = readBoolean();
+			Boolean animationSingleLegAnimation = readBoolean();
+			Boolean animationStationaryLegs = readBoolean();
+			Boolean animationStatueOfLibertyArms = readBoolean();
+			Boolean animationUpsideDown = readBoolean();
+			String identifier = readString();
+			Boolean preserveModelPose = readBoolean();
+			double textureHeight = this.buffer.getDouble();
+			double textureWidth = this.buffer.getDouble();
+			Double visibleBoundsHeight = readDouble();
+			int offsetLength = this.buffer.getInt();
+			double[] visibleBoundsOffset = offsetLength == -1 ? null : new double[offsetLength];
+
+			for (int i = 0; i < offsetLength; i++) {
+				visibleBoundsOffset[i] = this.buffer.getDouble();
+			}
+
+			Double visibleBoundsWidth = readDouble();
+
+			return new ModelProperties(animationArmsDown, animationArmsOutFront, animationDontShowArmor, animationInvertedCrouch,
+					animationNoHeadBob, animationSingleArmAnimation, animationSingleLegAnimation, animationStationaryLegs,
+					animationStatueOfLibertyArms, animationUpsideDown, identifier, preserveModelPose, textureHeight, textureWidth,
+					visibleBoundsHeight, visibleBoundsOffset, visibleBoundsWidth);
+		}
+
+		private GeoBone readBone(@Nullable GeoBone parent) {
+			GeoBone bone = new GeoBone(parent, readString(), readBoolean(), readDouble(), readBoolean(), readBoolean());
+
+			bone.updateRotation(this.buffer.getFloat(), this.buffer.getFloat(), this.buffer.getFloat());
+			bone.updatePivot(this.buffer.getFloat(), this.buffer.getFloat(), this.buffer.getFloat());
+
+			int cubeCount = this.buffer.getInt();
+
+			for (int i = 0; i < cubeCount; i++) {
+				bone.getCubes().add(readCube());
+			}
+
+			int childCount = this.buffer.getInt();
+
+			for (int i = 0; i < childCount; i++) {
+				bone.getChildBones().add(readBone(bone));
+			}
+
+			return bone;
+		}
+
+		private GeoCube readCube() {
+			GeoQuad[] quads = new GeoQuad[this.buffer.getInt()];
+
+			for (int i = 0; i < quads.length; i++) {
+				if (this.buffer.get() == 0)
+					continue;
+
+				GeoVertex[] vertices = new GeoVertex[this.buffer.getInt()];
+
+				for (int j = 0; j < vertices.length; j++) {
+					vertices[j] = new GeoVertex(readVector(), this.buffer.getFloat(), this.buffer.getFloat());
+				}
+
+				quads[i] = new GeoQuad(vertices, readVector(), Direction.from3DDataValue(this.buffer.get()));
+			}
+
+			return new GeoCube(quads, readVec3(), readVec3(), readVec3(), this.buffer.getDouble(), this.buffer.get() != 0);
+		}
+
+		private BakedAnimations readAnimations() throws MolangException {
+			int includeCount = this.buffer.getInt();
+			Map<String, ResourceLocation> includes = includeCount == -1 ? null : new Object2ObjectOpenHashMap<>(includeCount);
+
+			for (int i = 0; i < includeCount; i++) {
+				includes.put(readString(), new ResourceLocation(readString()));
+			}
+
+			int animationCount = this.buffer.getInt();
+			Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(animationCount);
+
+			this.referencedVariables = new IntOpenHashSet();
+
+			for (int i = 0; i < animationCount; i++) {
+				animations.put(readString(), readAnimation());
+			}
+
+			return new BakedAnimations(animations, includes, this.referencedVariables);
+		}
+
+		private Animation readAnimation() throws MolangException {
+			String name = readString();
+			double length = this.buffer.getDouble();
+			String loopType = readString();
+			BoneAnimation[] boneAnimations = new BoneAnimation[this.buffer.getInt()];
+
+			for (int i = 0; i < boneAnimations.length; i++) {
+				String boneName = readString();
+				KeyframeStack<Keyframe<IValue>> rotationFrames = readKeyframeStack();
+				KeyframeStack<Keyframe<IValue>> positionFrames = readKeyframeStack();
+				KeyframeStack<Keyframe<IValue>> scaleFrames = readKeyframeStack();
+
+				boneAnimations[i] = new BoneAnimation(boneName, rotationFrames, positionFrames, scaleFrames);
+			}
+
+			SoundKeyframeData[] sounds = new SoundKeyframeData[this.buffer.getInt()];
+
+			for (int i = 0; i < sounds.length; i++) {
+				sounds[i] = new SoundKeyframeData(this.buffer.getDouble(), readString());
+			}
+
+			ParticleKeyframeData[] particles = new ParticleKeyframeData[this.buffer.getInt()];
+
+			for (int i = 0; i < particles.length; i++) {
+				particles[i] = new ParticleKeyframeData(this.buffer.getDouble(), readString(), readString(), readString());
+			}
+
+			CustomInstructionKeyframeData[] customInstructions = new CustomInstructionKeyframeData[this.buffer.getInt()];
+
+			for (int i = 0; i < customInstructions.length; i++) {
+				customInstructions[i] = new CustomInstructionKeyframeData(this.buffer.getDouble(), readString());
+			}
+
+			return new Animation(name, length, loopType == null ? null : Animation.LoopType.fromString(loopType), boneAnimations,
+					new Animation.Keyframes(sounds, particles, customInstructions));
+		}
+
+		private KeyframeStack<Keyframe<IValue>> readKeyframeStack() throws MolangException {
+			List<Keyframe<IValue>> xFrames = readKeyframes();
+			List<Keyframe<IValue>> yFrames = readKeyframes();
+			List<Keyframe<IValue>> zFrames = readKeyframes();
+
+			return new KeyframeStack<>(xFrames, yFrames, zFrames);
+		}
+
+		private List<Keyframe<IValue>> readKeyframes() throws MolangException {
+			int count = this.buffer.getInt();
+			List<Keyframe<IValue>> keyframes = new ObjectArrayList<>(count);
+
+			for (int i = 0; i < count; i++) {
+				double length = this.buffer.getDouble();
+				IValue startValue = readValue();
+				IValue endValue = readValue();
+				String easingType = readString();
+				int easingArgCount = this.buffer.getInt();
+				List<IValue> easingArgs = new ObjectArrayList<>(easingArgCount);
+
+				for (int j = 0; j < easingArgCount; j++) {
+					easingArgs.add(readValue());
+				}
+
+				keyframes.add(new Keyframe<>(length, startValue, endValue, easingType == null ? null : EasingType.fromString(easingType), easingArgs));
+			}
+
+			return keyframes;
+		}
+
+		private IValue readValue() throws MolangException {
+			byte type = this.buffer.get();
+
+			if (type == VALUE_REFERENCE)
+				return this.values.get(this.buffer.getInt());
+
+			IValue value = switch (type) {
+				case VALUE_CONSTANT -> new Constant(this.buffer.getDouble());
+				case VALUE_MOLANG_CONSTANT -> new MolangValue(new Constant(this.buffer.getDouble()));
+				case VALUE_EXPRESSION -> {
+					MolangValue expression = MolangParser.parseExpression(readString());
+
+					MolangParser.collectVariables(expression, variable -> this.referencedVariables.add(variable.getSlot()));
+
+					yield expression;
+				}
+				case VALUE_ZERO -> MolangParser.ZERO;
+				case VALUE_ONE -> MolangParser.ONE;
+				default -> throw new IllegalStateException("Unknown cached value type: " + type);
+			};
+
+			this.values.add(value);
+
+			return value;
+		}
+
+		private Vector3f readVector() {
+			return new Vector3f(this.buffer.getFloat(), this.buffer.getFloat(), this.buffer.getFloat());
+		}
+
+		private Vec3 readVec3() {
+			return new Vec3(this.buffer.getDouble(), this.buffer.getDouble(), this.buffer.getDouble());
+		}
+
+		@Nullable
+		private Boolean readBoolean() {
+			byte value = this.buffer.get();
+
+			return value == -1 ? null : value == 1;
+		}
+
+		@Nullable
+		private Double readDouble() {
+			return this.buffer.get() == 0 ? null : this.buffer.getDouble();
+		}
+
+		@Nullable
+		private String readString() {
+			int length = this.buffer.getInt();
+
+			if (length == -1)
+				return null;
+
+			byte[] bytes = new byte[length];
+
+			this.buffer.get(bytes);
+
+			return new String(bytes, StandardCharsets.UTF_8);
+		}
+	}
+}
@@ -58,6 +58,27 @@ public interface GeoAnimatable {
 		return false;
 	}
 
+	/**
+	 * Defines whether each {@link AnimatableManager} for this animatable should compute its animations into its own
+	 * {@link mod.azure.azurelib.core.state.BonePoseBuffer BonePoseBuffer}, rather than directly into the model's shared {@link CoreGeoBone GeoBones}.<br>
+	 * This allows re-renders of the same instance in a frame to re-use the computed pose instead of re-evaluating the animations.
+	 */
+	default boolean usesBonePoseBuffers() {
+		return false;
+	}
+
+	/**
+	 * Defines whether this animatable's computed poses can be shared with other animatables of the same model via the
+	 * {@link mod.azure.azurelib.core.state.SharedPoseCache SharedPoseCache}.<br>
+	 * Only enable this if the animatable's animations don't depend on per-instance Molang queries or variables,
+	 * as two animatables playing the same animations at the same time are assumed to be in the same pose.
+	 * The model may still refuse to share poses it can tell depend on such queries, see {@link mod.azure.azurelib.core.animatable.model.CoreGeoModel#canSharePoses}.<br>
+	 * Implies {@link GeoAnimatable#usesBonePoseBuffers()}
+	 */
+	default boolean usesSharedPoses() {
+		return false;
+	}
+
 	/**
 	 * Returns the current age/tick of the animatable instance.<br>
 	 * By default this is just the animatable's age in ticks, but this method allows for non-ticking custom animatables to provide their own values
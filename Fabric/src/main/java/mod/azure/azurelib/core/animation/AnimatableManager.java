@@ -10,12 +10,16 @@ import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.object.DataTicket;
+import mod.azure.azurelib.core.object.DataTicketStore;
+import mod.azure.azurelib.core.state.BonePoseBuffer;
 import mod.azure.azurelib.core.state.BoneSnapshot;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
+import org.jetbrains.annotations.Nullable;
+
 /**
  * The animation data collection for a given animatable instance.<br>
  * Generally speaking, a single working-instance of an {@link GeoAnimatable Animatable}
@@ -25,7 +29,9 @@ import java.util.Map;
 public class AnimatableManager<T extends GeoAnimatable> {
 	private final Map<String, BoneSnapshot> boneSnapshotCollection = new Object2ObjectOpenHashMap<>();
 	private final Map<String, AnimationController<T>> animationControllers;
-	private Map<DataTicket<?>, Object> extraData;
+	private BonePoseBuffer poseBuffer;
+	private boolean poseBufferOnDemand = false;
+	private DataTicketStore extraData;
 
 	private double lastUpdateTime;
 	private boolean isFirstTick = true;
@@ -35,11 +41,21 @@ public class AnimatableManager<T extends GeoAnimatable> {
 	 * Instantiates a new AnimatableManager for the given animatable, calling {@link GeoAnimatable#registerControllers} to define its controllers
 	 */
 	public AnimatableManager(GeoAnimatable animatable) {
+		this(animatable, true);
+	}
+
+	/**
+	 * Instantiates a new AnimatableManager for the given animatable, optionally skipping {@link GeoAnimatable#registerControllers}.<br>
+	 * Used by managers that delegate their controllers to other managers, such as {@link ContextAwareAnimatableManager}
+	 */
+	protected AnimatableManager(GeoAnimatable animatable, boolean registerControllers) {
 		ControllerRegistrar registrar = new ControllerRegistrar();
 
-		animatable.registerControllers(registrar);
+		if (registerControllers)
+			animatable.registerControllers(registrar);
 
 		this.animationControllers = registrar.build();
+		this.poseBuffer = animatable.usesBonePoseBuffers() || animatable.usesSharedPoses() ? new BonePoseBuffer() : null;
 	}
 
 	/**
@@ -65,6 +81,39 @@ public class AnimatableManager<T extends GeoAnimatable> {
 		return boneSnapshotCollection;
 	}
 
+	/**
+	 * Get the {@link BonePoseBuffer} this manager's animations are computed into, or null if the animatable
+	 * doesn't {@link GeoAnimatable#usesBonePoseBuffers() use pose buffers}
+	 */
+	@Nullable
+	public BonePoseBuffer getPoseBuffer() {
+		return this.poseBuffer;
+	}
+
+	/**
+	 * Get the {@link BonePoseBuffer} this manager's animations are computed into, creating it if the animatable doesn't already use one.<br>
+	 * Used when a computed pose needs to be kept between frames, such as when animating at a reduced {@link AnimationLod level of detail}
+	 */
+	public BonePoseBuffer getOrCreatePoseBuffer() {
+		if (this.poseBuffer == null) {
+			this.poseBuffer = new BonePoseBuffer();
+			this.poseBufferOnDemand = true;
+		}
+
+		return this.poseBuffer;
+	}
+
+	/**
+	 * Drop the {@link BonePoseBuffer} created by {@link AnimatableManager#getOrCreatePoseBuffer()}, if the animatable doesn't use one of its own.<br>
+	 * Animations are then computed straight into the bones again, which is cheaper when every frame's pose is computed anyway
+	 */
+	public void releaseOnDemandPoseBuffer() {
+		if (this.poseBufferOnDemand) {
+			this.poseBuffer = null;
+			this.poseBufferOnDemand = false;
+		}
+	}
+
 	public void clearSnapshotCache() {
 		this.boneSnapshotCollection.clear();
 	}
@@ -100,16 +149,16 @@ public class AnimatableManager<T extends GeoAnimatable> {
 	 */
 	public <D> void setData(DataTicket<D> dataTicket, D data) {
 		if (this.extraData == null)
-			this.extraData = new Object2ObjectOpenHashMap<>();
+			this.extraData = new DataTicketStore();
 
-		this.extraData.put(dataTicket, data);
+		this.extraData.set(dataTicket, data);
 	}
 
 	/**
 	 * Retrieve a custom data point that was stored earlier, or null if it hasn't been stored
 	 */
 	public <D> D getData(DataTicket<D> dataTicket) {
-		return this.extraData != null ? dataTicket.getData(this.extraData) : null;
+		return this.extraData != null ? this.extraData.get(dataTicket) : null;
 	}
 
 	/**
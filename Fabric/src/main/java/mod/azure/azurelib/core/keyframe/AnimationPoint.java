@@ -5,15 +5,113 @@
 
 package mod.azure.azurelib.core.keyframe;
 
+import java.util.Objects;
+
 /**
- * Animation state record that holds the state of an animation at a given point
- * @param currentTick The lerped tick time (current tick + partial tick) of the point
- * @param transitionLength The length of time (in ticks) that the point should take to transition
- * @param animationStartValue The start value to provide to the animation handling system
- * @param animationEndValue The end value to provide to the animation handling system
- * @param keyFrame The {@code Nullable} Keyframe
+ * Animation state object that holds the state of an animation at a given point.<br>
+ * Instances are pooled and re-used by their owning {@link AnimationPointQueue}, so the values held by a point
+ * are only valid until the next render frame. Copy the values out if they need to be retained.<br>
+ * <br>
+ * This was previously a record. The constructor, accessors, and value-based equality of the record are kept,
+ * but code that retained points from a queue must now copy them instead.
  */
-public record AnimationPoint(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+public final class AnimationPoint {
+	private Keyframe<?> keyFrame;
+	private double currentTick;
+	private double transitionLength;
+	private double animationStartValue;
+	private double animationEndValue;
+
+	public AnimationPoint() {}
+
+	/**
+	 * @param keyFrame The {@code Nullable} Keyframe
+	 * @param currentTick The lerped tick time (current tick + partial tick) of the point
+	 * @param transitionLength The length of time (in ticks) that the point should take to transition
+	 * @param animationStartValue The start value to provide to the animation handling system
+	 * @param animationEndValue The end value to provide to the animation handling system
+	 */
+	public AnimationPoint(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+		set(keyFrame, currentTick, transitionLength, animationStartValue, animationEndValue);
+	}
+
+	/**
+	 * Overwrite the values of this point in place
+	 * @return this
+	 */
+	public AnimationPoint set(Keyframe<?> keyFrame, double currentTick, double transitionLength, double animationStartValue, double animationEndValue) {
+		this.keyFrame = keyFrame;
+		this.currentTick = currentTick;
+		this.transitionLength = transitionLength;
+		this.animationStartValue = animationStartValue;
+		this.animationEndValue = animationEndValue;
+
+		return this;
+	}
+
+	/**
+	 * Overwrite the values of this point with the values of another point
+	 * @return this
+	 */
+	public AnimationPoint set(AnimationPoint other) {
+		return set(other.keyFrame, other.currentTick, other.transitionLength, other.animationStartValue, other.animationEndValue);
+	}
+
+	/**
+	 * The {@code Nullable} Keyframe
+	 */
+	public Keyframe<?> keyFrame() {
+		return this.keyFrame;
+	}
+
+	/**
+	 * The lerped tick time (current tick + partial tick) of the point
+	 */
+	public double currentTick() {
+		return this.currentTick;
+	}
+
+	/**
+	 * The length of time (in ticks) that the point should take to transition
+	 */
+	public double transitionLength() {
+		return this.transitionLength;
+	}
+
+	/**
+	 * The start value to provide to the animation handling system
+	 */
+	public double animationStartValue() {
+		return this.animationStartValue;
+	}
+
+	/**
+	 * The end value to provide to the animation handling system
+	 */
+	public double animationEndValue() {
+		return this.animationEndValue;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof AnimationPoint other))
+			return false;
+
+		return Objects.equals(this.keyFrame, other.keyFrame) &&
+				Double.compare(this.currentTick, other.currentTick) == 0 &&
+				Double.compare(this.transitionLength, other.transitionLength) == 0 &&
+				Double.compare(this.animationStartValue, other.animationStartValue) == 0 &&
+				Double.compare(this.animationEndValue, other.animationEndValue) == 0;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.keyFrame, this.currentTick, this.transitionLength, this.animationStartValue, this.animationEndValue);
+	}
+
 	@Override
 	public String toString() {
 		return "Tick: " + this.currentTick +
@@ -44,8 +44,7 @@ import mod.azure.azurelib.core.math.functions.utility.RandomInteger;
  * It works by first breaking down given string into a list of tokens and then
  * putting them together in a binary tree-like {@link IValue}.
  *
- * TODO: maybe implement constant pool (to reuse same values)? TODO: maybe
- * pre-compute constant expressions?
+ * TODO: maybe implement constant pool (to reuse same values)?
  */
 public class MathBuilder {
 	/**
@@ -110,12 +109,162 @@ public class MathBuilder {
 	 * execute math.
 	 */
 	public IValue parse(String expression) throws Exception {
-		return this.parseSymbols(this.breakdownChars(this.breakdown(expression)));
+		return this.parseSymbols(this.tokenize(expression));
+	}
+
+	/**
+	 * Break down an expression into a list of math expression symbols.
+	 *
+	 * Produces the same symbols as {@link #breakdownChars(String[])}, but works
+	 * directly on the expression's characters in a single pass, without regex
+	 * matching or per-character strings. Whitespace is ignored, and groups
+	 * (parenthesis) are returned as nested lists of symbols.
+	 */
+	public List<Object> tokenize(String expression) throws Exception {
+		char[] chars = new char[expression.length()];
+		int length = 0;
+		int depth = 0;
+
+		for (int i = 0; i < chars.length; i++) {
+			char c = expression.charAt(i);
+
+			if (Character.isWhitespace(c))
+				continue;
+
+			/* If given string have illegal characters, then it can't be parsed */
+			if (!isValidChar(c))
+				throw new Exception("Given expression '" + expression + "' contains illegal characters!");
+
+			if (c == '(') {
+				depth++;
+			} else if (c == ')' && --depth < 0) {
+				throw new Exception("Given expression '" + expression + "' closes a parenthesis that was never opened!");
+			}
+
+			chars[length++] = c;
+		}
+
+		/* Amount of left and right brackets should be the same */
+		if (depth != 0)
+			throw new Exception("Given expression '" + expression + "' has " + depth + " unclosed parenthesis!");
+
+		int[] cursor = new int[] {0};
+
+		return this.tokenizeGroup(chars, length, cursor);
+	}
+
+	/**
+	 * Tokenize the symbols from the cursor position until the end of the current
+	 * group, leaving the cursor after its closing parenthesis
+	 */
+	private List<Object> tokenizeGroup(char[] chars, int length, int[] cursor) {
+		List<Object> symbols = new ArrayList<Object>();
+		int bufferStart = -1;
+		int i = cursor[0];
+
+		for (; i < length; i++) {
+			char c = chars[i];
+
+			if (c == ')')
+				break;
+
+			if (c == '(') {
+				/* Push a list of symbols */
+				if (bufferStart != -1) {
+					symbols.add(new String(chars, bufferStart, i - bufferStart));
+					bufferStart = -1;
+				}
+
+				cursor[0] = i + 1;
+				symbols.add(this.tokenizeGroup(chars, length, cursor));
+				i = cursor[0];
+
+				continue;
+			}
+
+			String operator = null;
+
+			if (i + 1 < length && isSymbolChar(c) && isSymbolChar(chars[i + 1])) {
+				String longOperator = new String(chars, i, 2);
+
+				if (this.isOperator(longOperator))
+					operator = longOperator;
+			}
+
+			if (operator == null && isSymbolChar(c)) {
+				String shortOperator = String.valueOf(c);
+
+				if (c == ',' || this.isOperator(shortOperator))
+					operator = shortOperator;
+			}
+
+			if (operator == null) {
+				/* Accumulate the buffer */
+				if (bufferStart == -1)
+					bufferStart = i;
+
+				continue;
+			}
+
+			/*
+			 * Taking care of a special case of using minus sign to invert the positive
+			 * value
+			 */
+			if (c == '-' && bufferStart == -1) {
+				int size = symbols.size();
+
+				if (size == 0 || this.isOperator(symbols.get(size - 1)) || symbols.get(size - 1).equals(",")) {
+					bufferStart = i;
+
+					continue;
+				}
+			}
+
+			/* Push buffer and operator */
+			if (bufferStart != -1) {
+				symbols.add(new String(chars, bufferStart, i - bufferStart));
+				bufferStart = -1;
+			}
+
+			symbols.add(operator);
+			i += operator.length() - 1;
+		}
+
+		if (bufferStart != -1)
+			symbols.add(new String(chars, bufferStart, i - bufferStart));
+
+		cursor[0] = i;
+
+		return symbols;
+	}
+
+	/**
+	 * Whether the given character is allowed in math expressions
+	 */
+	private static boolean isValidChar(char c) {
+		if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))
+			return true;
+
+		return switch (c) {
+			case '_', '+', ',', '-', '.', '/', '*', '%', '^', '&', '|', '<', '>', '=', '!', '?', ':', '(', ')' -> true;
+			default -> false;
+		};
+	}
+
+	/**
+	 * Whether the given character can be part of an operator, rather than a name or number
+	 */
+	private static boolean isSymbolChar(char c) {
+		return !((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '.');
 	}
 
 	/**
 	 * Breakdown an expression
+	 *
+	 * @deprecated Use {@link #tokenize(String)} instead, which validates and
+	 *             breaks down the expression in one step
 	 */
+	@Deprecated
 	public String[] breakdown(String expression) throws Exception {
 		/* If given string have illegal characters, then it can't be parsed */
 		if (!expression.matches("^[\\w\\d\\s_+-/*%^&|<>=!?:.,()]+$")) {
@@ -149,7 +298,10 @@ public class MathBuilder {
 
 	/**
 	 * Breakdown characters into a list of math expression symbols.
+	 *
+	 * @deprecated Use {@link #tokenize(String)} instead
 	 */
+	@Deprecated
 	public List<Object> breakdownChars(String[] chars) {
 		List<Object> symbols = new ArrayList<Object>();
 		String buffer = "";
@@ -530,6 +682,31 @@ public class MathBuilder {
 	 * Whether string is numeric (including whether it's a floating number)
 	 */
 	protected boolean isDecimal(String s) {
-		return s.matches("^-?\\d+(\\.\\d+)?$");
+		int length = s.length();
+		int i = length > 0 && s.charAt(0) == '-' ? 1 : 0;
+		int digitsStart = i;
+
+		while (i < length && isDigit(s.charAt(i))) {
+			i++;
+		}
+
+		if (i == digitsStart)
+			return false;
+
+		if (i == length)
+			return true;
+
+		if (s.charAt(i++) != '.' || i == length)
+			return false;
+
+		while (i < length && isDigit(s.charAt(i))) {
+			i++;
+		}
+
+		return i == length;
+	}
+
+	private static boolean isDigit(char c) {
+		return c >= '0' && c <= '9';
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Exp extends Function {
 	public Exp(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Exp extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.exp(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.exp(this.getArg(0, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Pi extends Function {
 	public Pi(IValue[] values, String name) throws Exception {
@@ -9,7 +10,12 @@ public class Pi extends Function {
 	}
 
 	@Override
-	public double get() {
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
 		return Math.PI;
 	}
 }
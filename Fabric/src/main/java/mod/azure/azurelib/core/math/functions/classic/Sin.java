@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Sin extends Function {
 	public Sin(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Sin extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.sin(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.sin(this.getArg(0, context));
 	}
 }
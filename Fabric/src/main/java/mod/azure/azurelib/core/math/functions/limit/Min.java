@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.limit;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Min extends Function {
 	public Min(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Min extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.min(this.getArg(0), this.getArg(1));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.min(this.getArg(0, context), this.getArg(1, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.molang.functions;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 /**
  * Replacement function for {@link com.eliotlash.mclib.math.functions.classic.Cos}, operating in degrees rather than radians.
@@ -17,7 +18,12 @@ public class CosDegrees extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.cos(this.getArg(0) / 180 * Math.PI);
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.cos(this.getArg(0, context) / 180 * Math.PI);
 	}
 }
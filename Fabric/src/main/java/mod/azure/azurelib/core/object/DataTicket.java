@@ -1,18 +1,69 @@
 package mod.azure.azurelib.core.object;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
 /**
- * Ticket object to define a typed data object
+ * Ticket object to define a typed data object.<br>
+ * Each ticket is assigned a dense index when it is created, which allows data to be stored in a {@link DataTicketStore} by array index.
+ * Tickets with the same id and object type share an index, so tickets created on demand don't grow the set of indices or the stores that use them.
+ * Tickets should still preferably be created once and stored as constants
  */
 public class DataTicket<D> {
+	private static final List<DataTicket<?>> TICKETS = new ObjectArrayList<>();
+	private static final Object2IntMap<TicketKey> INDICES = new Object2IntOpenHashMap<>();
+
+	static {
+		INDICES.defaultReturnValue(-1);
+	}
+
 	private final String id;
 	private final Class<? extends D> objectType;
+	private final int index;
+	private final int hashCode;
 
 	public DataTicket(String id, Class<? extends D> objectType) {
 		this.id = id;
 		this.objectType = objectType;
+		this.index = register(this);
+		this.hashCode = Objects.hash(id, objectType);
+	}
+
+	/**
+	 * Get the index for the given ticket, re-using the index of an existing ticket with the same id and object type
+	 */
+	private static synchronized int register(DataTicket<?> ticket) {
+		TicketKey key = new TicketKey(ticket.id, ticket.objectType);
+		int index = INDICES.getInt(key);
+
+		if (index == -1) {
+			index = TICKETS.size();
+
+			TICKETS.add(ticket);
+			INDICES.put(key, index);
+		}
+
+		return index;
+	}
+
+	/**
+	 * Get the total number of distinct tickets created so far.<br>
+	 * All ticket {@link DataTicket#index() indices} are lower than this
+	 */
+	public static synchronized int getTicketCount() {
+		return TICKETS.size();
+	}
+
+	/**
+	 * Get the first ticket assigned the given index
+	 */
+	public static synchronized DataTicket<?> byIndex(int index) {
+		return TICKETS.get(index);
 	}
 
 	public String id() {
@@ -23,9 +74,16 @@ public class DataTicket<D> {
 		return this.objectType;
 	}
 
+	/**
+	 * Get the index assigned to this ticket when it was created, shared by all tickets with the same id and object type
+	 */
+	public int index() {
+		return this.index;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(this.id, this.objectType);
+		return this.hashCode;
 	}
 
 	/**
@@ -36,4 +94,6 @@ public class DataTicket<D> {
 	public <D> D getData(Map<? extends DataTicket<?>, ?> dataMap) {
 		return (D)dataMap.get(this);
 	}
+
+	private record TicketKey(String id, Class<?> objectType) {}
 }
@@ -1,10 +1,15 @@
 package mod.azure.azurelib.loading.json.typeadapter;
 
+import java.io.IOException;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.apache.commons.lang3.math.NumberUtils;
+import org.jetbrains.annotations.Nullable;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonDeserializationContext;
@@ -12,9 +17,15 @@ import com.google.gson.JsonDeserializer;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
 import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
 import com.mojang.datafixers.util.Pair;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.AzureLib;
@@ -29,6 +40,7 @@ import mod.azure.azurelib.core.molang.MolangException;
 import mod.azure.azurelib.core.molang.MolangParser;
 import mod.azure.azurelib.core.molang.expressions.MolangValue;
 import mod.azure.azurelib.loading.object.BakedAnimations;
+import mod.azure.azurelib.loading.object.LazyAnimationMap;
 import mod.azure.azurelib.util.JsonUtil;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.GsonHelper;
@@ -38,48 +50,145 @@ import net.minecraft.util.GsonHelper;
  * Acts as the deserialization interface for {@code BakedAnimations}
  */
 public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations> {
+	private static final JsonDeserializationContext STREAMING_CONTEXT = new JsonDeserializationContext() {
+		@Override
+		public <T> T deserialize(JsonElement json, Type typeOfT) throws JsonParseException {
+			return JsonUtil.GEO_GSON.fromJson(json, typeOfT);
+		}
+	};
+
 	@Override
 	public BakedAnimations deserialize(JsonElement json, Type type, JsonDeserializationContext context) throws JsonParseException {
 		JsonObject jsonObj = json.getAsJsonObject();
 		
 		JsonObject animationJsonList = jsonObj.getAsJsonObject("animations");
 		JsonArray includeListJSONObj = jsonObj.getAsJsonArray("includes");
+		Map<String, ResourceLocation> includes = includeListJSONObj == null ? null : bakeIncludes(includeListJSONObj);
+		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(animationJsonList.size());
+		IntSet referencedVariables = new IntOpenHashSet();
+
+		for (Map.Entry<String, JsonElement> entry : animationJsonList.entrySet()) {
+			addAnimation(animations, entry.getKey(), entry.getValue(), context, referencedVariables, null);
+		}
+
+		return new BakedAnimations(animations, includes, referencedVariables);
+	}
+
+	/**
+	 * Deserialize a {@link BakedAnimations} instance directly from a stream, rather than from a pre-parsed json tree.<br>
+	 * Only one animation's json is held in memory at a time, so large animation files don't need to be fully loaded before being baked
+	 */
+	public BakedAnimations read(JsonReader reader) throws IOException {
+		return read(reader, null);
+	}
+
+	/**
+	 * Deserialize a {@link BakedAnimations} instance directly from a stream, as in {@link BakedAnimationsAdapter#read(JsonReader)}
+	 * @param failedAnimations If not null, the names of any animations that couldn't be baked are added to it. Those animations are left out of the result
+	 */
+	public BakedAnimations read(JsonReader reader, @Nullable Collection<String> failedAnimations) throws IOException {
 		Map<String, ResourceLocation> includes = null;
-		if(includeListJSONObj != null) {
-			includes = new Object2ObjectOpenHashMap<>(includeListJSONObj.size());
-			for(JsonElement entry : includeListJSONObj.asList()) {
-				JsonObject obj = entry.getAsJsonObject();
-				ResourceLocation fileId = new ResourceLocation(obj.get("file_id").getAsString());
-				for(JsonElement animName : obj.getAsJsonArray("animations")) {
-					String ani = animName.getAsString();
-					if(includes.containsKey(ani)) {
-						AzureLib.LOGGER.warn("Animation {} is already included! File already including: {}  File trying to include from again: {}", ani, includes.get(ani).toString(), fileId.toString());
-					} else {
-						includes.put(ani, fileId);
+		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>();
+		IntSet referencedVariables = new IntOpenHashSet();
+
+		reader.beginObject();
+
+		while (reader.hasNext()) {
+			switch (reader.nextName()) {
+				case "animations" -> {
+					reader.beginObject();
+
+					while (reader.hasNext()) {
+						String name = reader.nextName();
+
+						addAnimation(animations, name, JsonParser.parseReader(reader), STREAMING_CONTEXT, referencedVariables, failedAnimations);
 					}
+
+					reader.endObject();
 				}
+				case "includes" -> includes = bakeIncludes(JsonParser.parseReader(reader).getAsJsonArray());
+				default -> reader.skipValue();
 			}
 		}
-		
-		Map<String, Animation> animations = new Object2ObjectOpenHashMap<>(animationJsonList.size());
 
-		for (Map.Entry<String, JsonElement> entry : animationJsonList.entrySet()) {
-			try {
-				animations.put(entry.getKey(), bakeAnimation(entry.getKey(), entry.getValue().getAsJsonObject(), context));
+		reader.endObject();
+
+		return new BakedAnimations(animations, includes, referencedVariables);
+	}
+
+	/**
+	 * Index the animations in an animation json file without baking them, so that each animation is only baked the first time it is requested.<br>
+	 * The referenced variables of the animations can't be known ahead of time, so aren't tracked
+	 * @param contents The raw contents of the file
+	 * @param charset The charset to decode the file with
+	 * @throws IllegalStateException If the file isn't strictly valid json, in which case it should be baked normally
+	 * @see LazyAnimationMap
+	 */
+	public BakedAnimations index(byte[] contents, Charset charset) {
+		JsonScanner scanner = new JsonScanner(contents, charset);
+		Object2LongMap<String> ranges = new Object2LongOpenHashMap<>();
+		Map<String, ResourceLocation> includes = new Object2ObjectOpenHashMap<>();
+
+		scanner.forEachMember(name -> {
+			switch (name) {
+				case "animations" -> scanner.forEachMember(animationName -> {
+					int start = scanner.position;
+
+					scanner.skipValue();
+					ranges.put(animationName, (long)start << 32 | scanner.position);
+				});
+				case "includes" -> {
+					int start = scanner.position;
+
+					scanner.skipValue();
+					includes.putAll(bakeIncludes(JsonParser.parseString(new String(contents, start, scanner.position - start, charset)).getAsJsonArray()));
+				}
+				default -> scanner.skipValue();
 			}
-			catch (MolangException ex) {
-				AzureLib.LOGGER.error("Unable to parse animation: " + entry.getKey());
-				ex.printStackTrace();
+		});
+
+		return new BakedAnimations(new LazyAnimationMap(contents, charset, ranges,
+				(name, json) -> bakeAnimation(name, json.getAsJsonObject(), STREAMING_CONTEXT, new IntOpenHashSet())),
+				includes.isEmpty() ? null : includes, null);
+	}
+
+	private Map<String, ResourceLocation> bakeIncludes(JsonArray includeListJSONObj) {
+		Map<String, ResourceLocation> includes = new Object2ObjectOpenHashMap<>(includeListJSONObj.size());
+
+		for(JsonElement entry : includeListJSONObj.asList()) {
+			JsonObject obj = entry.getAsJsonObject();
+			ResourceLocation fileId = new ResourceLocation(obj.get("file_id").getAsString());
+			for(JsonElement animName : obj.getAsJsonArray("animations")) {
+				String ani = animName.getAsString();
+				if(includes.containsKey(ani)) {
+					AzureLib.LOGGER.warn("Animation {} is already included! File already including: {}  File trying to include from again: {}", ani, includes.get(ani).toString(), fileId.toString());
+				} else {
+					includes.put(ani, fileId);
+				}
 			}
 		}
 
-		return new BakedAnimations(animations, includes);
+		return includes;
 	}
 
-	private Animation bakeAnimation(String name, JsonObject animationObj, JsonDeserializationContext context) throws MolangException {
+	private void addAnimation(Map<String, Animation> animations, String name, JsonElement animationJson, JsonDeserializationContext context, IntSet referencedVariables,
+			@Nullable Collection<String> failedAnimations) {
+		try {
+			animations.put(name, bakeAnimation(name, animationJson.getAsJsonObject(), context, referencedVariables));
+		}
+		catch (MolangException ex) {
+			AzureLib.LOGGER.error("Unable to parse animation: " + name);
+			ex.printStackTrace();
+
+			if (failedAnimations != null)
+				failedAnimations.add(name);
+		}
+	}
+
+	private Animation bakeAnimation(String name, JsonObject animationObj, JsonDeserializationContext context, IntSet referencedVariables) throws MolangException {
 		double length = animationObj.has("animation_length") ? GsonHelper.getAsDouble(animationObj, "animation_length") * 20d : -1;
 		Animation.LoopType loopType = Animation.LoopType.fromJson(animationObj.get("loop"));
-		BoneAnimation[] boneAnimations = bakeBoneAnimations(GsonHelper.getAsJsonObject(animationObj, "bones", new JsonObject()));
+		BoneAnimation[] boneAnimations = bakeBoneAnimations(GsonHelper.getAsJsonObject(animationObj, "bones", new JsonObject()), referencedVariables);
 		Animation.Keyframes keyframes = context.deserialize(animationObj, Animation.Keyframes.class);
 
 		if (length == -1)
@@ -88,18 +197,18 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 		return new Animation(name, length, loopType, boneAnimations, keyframes);
 	}
 
-	private BoneAnimation[] bakeBoneAnimations(JsonObject bonesObj) throws MolangException {
+	private BoneAnimation[] bakeBoneAnimations(JsonObject bonesObj, IntSet referencedVariables) throws MolangException {
 		BoneAnimation[] animations = new BoneAnimation[bonesObj.size()];
 		int index = 0;
 
 		for (Map.Entry<String, JsonElement> entry : bonesObj.entrySet()) {
 			JsonObject entryObj = entry.getValue().getAsJsonObject();
 			KeyframeStack<Keyframe<IValue>> scaleFrames = buildKeyframeStack(
-					getTripletObj(entryObj.get("scale")), false);
+					getTripletObj(entryObj.get("scale")), false, referencedVariables);
 			KeyframeStack<Keyframe<IValue>> positionFrames = buildKeyframeStack(
-					getTripletObj(entryObj.get("position")), false);
+					getTripletObj(entryObj.get("position")), false, referencedVariables);
 			KeyframeStack<Keyframe<IValue>> rotationFrames = buildKeyframeStack(
-					getTripletObj(entryObj.get("rotation")), true);
+					getTripletObj(entryObj.get("rotation")), true, referencedVariables);
 
 			animations[index] = new BoneAnimation(entry.getKey(), rotationFrames, positionFrames, scaleFrames);
 			index++;
@@ -159,7 +268,7 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 		throw new JsonParseException("Invalid object type provided to getTripletObj, got: " + element);
 	}
 
-	private KeyframeStack<Keyframe<IValue>> buildKeyframeStack(List<Pair<String, JsonElement>> entries, boolean isForRotation) throws MolangException {
+	private KeyframeStack<Keyframe<IValue>> buildKeyframeStack(List<Pair<String, JsonElement>> entries, boolean isForRotation, IntSet referencedVariables) throws MolangException {
 		if (entries.isEmpty())
 			return new KeyframeStack<>();
 
@@ -187,6 +296,11 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 			MolangValue rawXValue = MolangParser.parseJson(keyFrameVector.get(0));
 			MolangValue rawYValue = MolangParser.parseJson(keyFrameVector.get(1));
 			MolangValue rawZValue = MolangParser.parseJson(keyFrameVector.get(2));
+
+			MolangParser.collectVariables(rawXValue, variable -> referencedVariables.add(variable.getSlot()));
+			MolangParser.collectVariables(rawYValue, variable -> referencedVariables.add(variable.getSlot()));
+			MolangParser.collectVariables(rawZValue, variable -> referencedVariables.add(variable.getSlot()));
+
 			IValue xValue = isForRotation && rawXValue.isConstant() ? new Constant(Math.toRadians(-rawXValue.get())) : rawXValue;
 			IValue yValue = isForRotation && rawYValue.isConstant() ? new Constant(Math.toRadians(-rawYValue.get())) : rawYValue;
 			IValue zValue = isForRotation && rawZValue.isConstant() ? new Constant(Math.toRadians(rawZValue.get())) : rawZValue;
@@ -210,6 +324,149 @@ public class BakedAnimationsAdapter implements JsonDeserializer<BakedAnimations>
 		return new KeyframeStack<>(xFrames, yFrames, zFrames);
 	}
 
+	/**
+	 * Minimal scanner for finding the byte ranges of values in a json file without parsing them.<br>
+	 * Only supports strict json, throwing an {@link IllegalStateException} on anything else
+	 */
+	private static final class JsonScanner {
+		private final byte[] bytes;
+		private final Charset charset;
+		private int position = 0;
+
+		private JsonScanner(byte[] bytes, Charset charset) {
+			this.bytes = bytes;
+			this.charset = charset;
+
+			// UTF-8 byte order mark
+			if (bytes.length >= 3 && bytes[0] == (byte)0xEF && bytes[1] == (byte)0xBB && bytes[2] == (byte)0xBF)
+				this.position = 3;
+		}
+
+		/**
+		 * Scan the object at the current position, providing the name of each member to the consumer.<br>
+		 * The consumer is called with the scanner positioned at the start of the member's value, and must consume the value
+		 */
+		private void forEachMember(Consumer<String> memberConsumer) {
+			skipWhitespace();
+			expect('{');
+			skipWhitespace();
+
+			if (peek() == '}') {
+				this.position++;
+
+				return;
+			}
+
+			while (true) {
+				skipWhitespace();
+
+				String name = readString();
+
+				skipWhitespace();
+				expect(':');
+				skipWhitespace();
+				memberConsumer.accept(name);
+				skipWhitespace();
+
+				if (peek() == '}') {
+					this.position++;
+
+					return;
+				}
+
+				expect(',');
+			}
+		}
+
+		private void skipValue() {
+			byte b = peek();
+
+			if (b == '"') {
+				skipString();
+			}
+			else if (b == '{' || b == '[') {
+				int depth = 0;
+
+				do {
+					b = peek();
+
+					if (b == '"') {
+						skipString();
+
+						continue;
+					}
+
+					if (b == '{' || b == '[') {
+						depth++;
+					}
+					else if (b == '}' || b == ']') {
+						depth--;
+					}
+
+					this.position++;
+				} while (depth > 0);
+			}
+			else {
+				int start = this.position;
+
+				while (this.position < this.bytes.length && !isDelimiter(this.bytes[this.position])) {
+					this.position++;
+				}
+
+				if (this.position == start)
+					throw new IllegalStateException("Expected a json value at " + start);
+			}
+		}
+
+		private String readString() {
+			int start = this.position;
+
+			skipString();
+
+			String string = new String(this.bytes, start, this.position - start, this.charset);
+
+			return string.indexOf('\\') == -1 ? string.substring(1, string.length() - 1) : JsonParser.parseString(string).getAsString();
+		}
+
+		private void skipString() {
+			expect('"');
+
+			while (peek() != '"') {
+				this.position += this.bytes[this.position] == '\\' ? 2 : 1;
+			}
+
+			this.position++;
+		}
+
+		private void skipWhitespace() {
+			while (this.position < this.bytes.length && isWhitespace(this.bytes[this.position])) {
+				this.position++;
+			}
+		}
+
+		private void expect(char c) {
+			if (peek() != c)
+				throw new IllegalStateException("Expected '" + c + "' at " + this.position);
+
+			this.position++;
+		}
+
+		private byte peek() {
+			if (this.position >= this.bytes.length)
+				throw new IllegalStateException("Unexpected end of json");
+
+			return this.bytes[this.position];
+		}
+
+		private static boolean isWhitespace(byte b) {
+			return b == ' ' || b == '\t' || b == '\n' || b == '\r';
+		}
+
+		private static boolean isDelimiter(byte b) {
+			return b == ',' || b == '}' || b == ']' || isWhitespace(b);
+		}
+	}
+
 	private static double calculateAnimationLength(BoneAnimation[] boneAnimations) {
 		double length = 0;
 
@@ -4,15 +4,98 @@ import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
 import mod.azure.azurelib.cache.AzureLibCache;
 import mod.azure.azurelib.core.animation.Animation;
 import net.minecraft.resources.ResourceLocation;
 
 /**
  * Container object that holds a deserialized map of {@link Animation Animations}.<br>
- * Kept as a unique object so that it can be registered as a {@link com.google.gson.JsonDeserializer deserializer} for {@link com.google.gson.Gson Gson}
+ * Kept as a unique object so that it can be registered as a {@link com.google.gson.JsonDeserializer deserializer} for {@link com.google.gson.Gson Gson}<br>
+ * Also tracks the {@link mod.azure.azurelib.core.molang.MolangContext MolangContext} slots of the Molang variables referenced by its animations,
+ * so that only the relevant queries need to be set when animating. A null {@code referencedVariables} means that they weren't tracked,
+ * as is the case for files loaded for {@link LazyAnimationMap lazy baking}
  */
-public record BakedAnimations(Map<String, Animation> animations, Map<String, ResourceLocation> includes) {
+public record BakedAnimations(Map<String, Animation> animations, Map<String, ResourceLocation> includes, IntSet referencedVariables) {
+	/**
+	 * Added to {@code referencedVariables} when this file includes animations from a file whose referenced variables weren't tracked,
+	 * so that this file is treated as referencing every variable as well
+	 */
+	private static final int ALL_VARIABLES = -1;
+
+	public BakedAnimations(Map<String, Animation> animations, Map<String, ResourceLocation> includes) {
+		this(animations, includes, null);
+	}
+
+	/**
+	 * Whether any of the animations in this file, or the files it includes, reference the Molang variable in the given slot.<br>
+	 * Always returns true if the referenced variables weren't tracked
+	 */
+	public boolean referencesVariable(int slot) {
+		return this.referencedVariables == null || this.referencedVariables.contains(slot) || this.referencedVariables.contains(ALL_VARIABLES);
+	}
+
+	/**
+	 * Whether any of the animations in this file, or the files it includes, reference a Molang variable other than the one in the given slot.<br>
+	 * Always returns true if the referenced variables weren't tracked
+	 */
+	public boolean referencesVariablesOtherThan(int slot) {
+		if (this.referencedVariables == null)
+			return true;
+
+		for (int variable : this.referencedVariables) {
+			if (variable != slot)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Add the variables referenced by the animations of the files each file includes to its own referenced variables,
+	 * following includes transitively until no file's referenced variables change.<br>
+	 * If an included file's referenced variables weren't tracked, the including file is treated as referencing every variable,
+	 * as are the files that include it in turn.<br>
+	 * Should be called once all animation files have been loaded
+	 */
+	public static void linkIncludedVariables(Map<ResourceLocation, BakedAnimations> bakedAnimations) {
+		boolean changed = true;
+
+		while (changed) {
+			changed = false;
+
+			for (BakedAnimations animations : bakedAnimations.values()) {
+				changed |= animations.linkIncludes(bakedAnimations);
+			}
+		}
+	}
+
+	/**
+	 * Add the referenced variables of the files this file directly includes to its own
+	 * @return Whether this file's referenced variables changed
+	 */
+	private boolean linkIncludes(Map<ResourceLocation, BakedAnimations> bakedAnimations) {
+		if (this.includes == null || this.referencedVariables == null || this.referencedVariables.contains(ALL_VARIABLES))
+			return false;
+
+		boolean changed = false;
+
+		for (ResourceLocation fileId : new ObjectOpenHashSet<>(this.includes.values())) {
+			BakedAnimations otherBakedAnims = bakedAnimations.get(fileId);
+
+			if (otherBakedAnims == null || otherBakedAnims == this)
+				continue;
+
+			if (otherBakedAnims.referencedVariables == null)
+				return this.referencedVariables.add(ALL_VARIABLES);
+
+			changed |= this.referencedVariables.addAll(otherBakedAnims.referencedVariables);
+		}
+
+		return changed;
+	}
+
 	/**
 	 * Gets an {@link Animation} by its name, if present
 	 */
@@ -23,9 +106,10 @@ public record BakedAnimations(Map<String, Animation> animations, Map<String, Res
 			ResourceLocation otherFileID = includes.getOrDefault(name, null);
 			if(otherFileID != null) {
 				BakedAnimations otherBakedAnims = AzureLibCache.getBakedAnimations().get(otherFileID);
-				if (otherBakedAnims.equals(this)) {
+				// Compared by identity, as the generated equals would compare the animation maps, baking every animation of a lazily baked file
+				if (otherBakedAnims == this) {
 					//TODO: Throw exception
-				} else {
+				} else if (otherBakedAnims != null) {
 					result = otherBakedAnims.getAnimationWithoutIncludes(name);
 				}
 			}
@@ -0,0 +1,67 @@
+package mod.azure.azurelib.model;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.core.animation.AnimationLod;
+import net.minecraft.world.entity.EntityType;
+
+/**
+ * Policy for deciding the {@link AnimationLod level of detail} to animate an animatable at, based on its distance from the camera and its size.<br>
+ * Policies are registered per {@link EntityType} via {@link AnimationLodPolicy#register}, or can be applied for a specific model by overriding
+ * {@link GeoModel#getAnimationLod}. Animatables without a policy are always animated at full detail.
+ */
+@FunctionalInterface
+public interface AnimationLodPolicy {
+	Map<EntityType<?>, AnimationLodPolicy> ENTITY_POLICIES = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the level of detail to animate the given animatable at for the current frame
+	 * @param animatable The animatable about to be animated
+	 * @param distance The distance (in blocks) between the camera and the animatable
+	 * @param size The largest dimension (in blocks) of the animatable's bounding box
+	 */
+	AnimationLod getLod(GeoAnimatable animatable, double distance, double size);
+
+	/**
+	 * Create a policy that lowers the level of detail as the animatable's size on screen shrinks.<br>
+	 * The distance thresholds are for an animatable one block in size, and scale with the animatable's size,
+	 * so that larger animatables keep their detail for longer
+	 * @param fullDetailDistance The distance up to which animatables are animated at {@link AnimationLod#FULL full detail}
+	 * @param frozenDistance The distance beyond which animatables are {@link AnimationLod#FROZEN frozen}
+	 */
+	static AnimationLodPolicy byProjectedSize(double fullDetailDistance, double frozenDistance) {
+		double reducedDetailDistance = fullDetailDistance + (frozenDistance - fullDetailDistance) / 2d;
+
+		return (animatable, distance, size) -> {
+			double scaledDistance = distance / Math.max(size, 0.25d);
+
+			if (scaledDistance <= fullDetailDistance)
+				return AnimationLod.FULL;
+
+			if (scaledDistance <= reducedDetailDistance)
+				return AnimationLod.REDUCED;
+
+			return scaledDistance < frozenDistance ? AnimationLod.LOW : AnimationLod.FROZEN;
+		};
+	}
+
+	/**
+	 * Register a policy for all animatable entities of the given type.<br>
+	 * Can be called at any time, and replaces any existing policy for the type
+	 */
+	static void register(EntityType<?> entityType, AnimationLodPolicy policy) {
+		ENTITY_POLICIES.put(entityType, policy);
+	}
+
+	/**
+	 * Get the registered policy for the given entity type, if present
+	 */
+	@Nullable
+	static AnimationLodPolicy getForEntity(EntityType<?> entityType) {
+		return ENTITY_POLICIES.get(entityType);
+	}
+}
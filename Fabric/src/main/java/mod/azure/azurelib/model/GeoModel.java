@@ -1,5 +1,6 @@
 package mod.azure.azurelib.model;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 
@@ -7,16 +8,20 @@ import mod.azure.azurelib.AzureLibException;
 import mod.azure.azurelib.cache.AzureLibCache;
 import mod.azure.azurelib.cache.object.BakedGeoModel;
 import mod.azure.azurelib.cache.object.GeoBone;
+import mod.azure.azurelib.cache.object.GeoCube;
 import mod.azure.azurelib.constant.DataTickets;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
 import mod.azure.azurelib.core.animatable.model.CoreGeoModel;
 import mod.azure.azurelib.core.animation.AnimatableManager;
 import mod.azure.azurelib.core.animation.Animation;
+import mod.azure.azurelib.core.animation.AnimationLod;
 import mod.azure.azurelib.core.animation.AnimationProcessor;
 import mod.azure.azurelib.core.animation.AnimationState;
-import mod.azure.azurelib.core.molang.MolangParser;
+import mod.azure.azurelib.core.molang.MolangContext;
 import mod.azure.azurelib.core.molang.MolangQueries;
 import mod.azure.azurelib.core.object.DataTicket;
+import mod.azure.azurelib.core.state.BonePoseBuffer;
 import mod.azure.azurelib.loading.object.BakedAnimations;
 import mod.azure.azurelib.renderer.GeoRenderer;
 import mod.azure.azurelib.util.RenderUtils;
@@ -33,12 +38,30 @@ import net.minecraft.world.phys.Vec3;
  * All models to registered to a {@link GeoRenderer} should be an instance of this or one of its subclasses.
  */
 public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<T> {
+	private static final int ANIM_TIME = MolangContext.getSlot(MolangQueries.ANIM_TIME);
+	private static final int LIFE_TIME = MolangContext.getSlot(MolangQueries.LIFE_TIME);
+	private static final int ACTOR_COUNT = MolangContext.getSlot(MolangQueries.ACTOR_COUNT);
+	private static final int TIME_OF_DAY = MolangContext.getSlot(MolangQueries.TIME_OF_DAY);
+	private static final int MOON_PHASE = MolangContext.getSlot(MolangQueries.MOON_PHASE);
+	private static final int DISTANCE_FROM_CAMERA = MolangContext.getSlot(MolangQueries.DISTANCE_FROM_CAMERA);
+	private static final int IS_ON_GROUND = MolangContext.getSlot(MolangQueries.IS_ON_GROUND);
+	private static final int IS_IN_WATER = MolangContext.getSlot(MolangQueries.IS_IN_WATER);
+	private static final int IS_IN_WATER_OR_RAIN = MolangContext.getSlot(MolangQueries.IS_IN_WATER_OR_RAIN);
+	private static final int HEALTH = MolangContext.getSlot(MolangQueries.HEALTH);
+	private static final int MAX_HEALTH = MolangContext.getSlot(MolangQueries.MAX_HEALTH);
+	private static final int IS_ON_FIRE = MolangContext.getSlot(MolangQueries.IS_ON_FIRE);
+	private static final int GROUND_SPEED = MolangContext.getSlot(MolangQueries.GROUND_SPEED);
+	private static final int YAW_SPEED = MolangContext.getSlot(MolangQueries.YAW_SPEED);
+
 	private final AnimationProcessor<T> processor = new AnimationProcessor<>(this);
 
 	private BakedGeoModel currentModel = null;
 	private double animTime;
 	private double lastGameTickTime;
 	private long lastRenderedInstance = -1;
+	private List<CoreGeoBone> lodBones = null;
+	private float[] leafBoneSizes = new float[0];
+	private boolean[] skippedBones = new boolean[0];
 
 	/**
 	 * Returns the resource path for the {@link BakedGeoModel} (model json file) to render based on the provided animatable
@@ -145,8 +168,31 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 
 		double currentFrameTime = currentTick - animatableManager.getFirstTickTime();
 		boolean isReRender = !animatableManager.isFirstTick() && currentFrameTime == animatableManager.getLastUpdateTime();
+		AnimationProcessor<T> processor = getAnimationProcessor();
+		BonePoseBuffer poseBuffer = animatableManager.getPoseBuffer();
+
+		if (isReRender && poseBuffer != null && poseBuffer.hasPoseFor(processor.getIndexedBones(), animatableManager.getLastUpdateTime())) {
+			poseBuffer.apply();
+			setCustomAnimations(animatable, instanceId, animationState);
+
+			return;
+		}
+
+		AnimationLod lod = getAnimationLod(animatable);
+		boolean holdPose = false;
 
-		if (isReRender && instanceId == this.lastRenderedInstance)
+		if (!lod.isFullDetail()) {
+			poseBuffer = animatableManager.getOrCreatePoseBuffer();
+			holdPose = poseBuffer.hasPoseFor(processor.getIndexedBones()) && (lod.frozen() || poseBuffer.getHeldFrames() < lod.updateInterval() - 1);
+		}
+		else {
+			// Computing straight into the bones is faster once every frame is computed again
+			animatableManager.releaseOnDemandPoseBuffer();
+
+			poseBuffer = animatableManager.getPoseBuffer();
+		}
+
+		if (!holdPose && isReRender && instanceId == this.lastRenderedInstance)
 			return;
 
 		if (!isReRender && (!mc.isPaused() || animatable.shouldPlayAnimsWhileGamePaused())) {
@@ -162,43 +208,150 @@ public abstract class GeoModel<T extends GeoAnimatable> implements CoreGeoModel<
 		}
 
 		animationState.animationTick = this.animTime;
-		AnimationProcessor<T> processor = getAnimationProcessor();
+
+		if (holdPose) {
+			// The pose is held, but the controllers still advance so that their keyframe events fire on time
+			if (!isReRender)
+				processor.tickWithoutBones(this, animatableManager, this.animTime, animationState, crashIfBoneMissing());
+
+			poseBuffer.holdPose(currentFrameTime);
+			setCustomAnimations(animatable, instanceId, animationState);
+
+			return;
+		}
 
 		processor.preAnimationSetup(animationState.getAnimatable(), this.animTime);
 
-		if (!processor.getRegisteredBones().isEmpty())
+		if (!processor.getRegisteredBones().isEmpty()) {
+			processor.setSkippedBones(lod.minLeafBoneSize() > 0 ? getSkippedLeafBones(processor.getIndexedBones(), lod.minLeafBoneSize()) : null);
 			processor.tickAnimation(animatable, this, animatableManager, this.animTime, animationState, crashIfBoneMissing());
 
+			if (poseBuffer != null)
+				poseBuffer.apply();
+		}
+
 		setCustomAnimations(animatable, instanceId, animationState);
 	}
 
+	/**
+	 * Get the {@link AnimationLod level of detail} to animate the given animatable at for the current frame.<br>
+	 * Uses the {@link AnimationLodPolicy} registered for the animatable's entity type by default, animating at full detail if there isn't one.<br>
+	 * Override this to apply a level of detail policy to everything using this model
+	 */
+	public AnimationLod getAnimationLod(T animatable) {
+		if (!(animatable instanceof Entity entity))
+			return AnimationLod.FULL;
+
+		AnimationLodPolicy policy = AnimationLodPolicy.getForEntity(entity.getType());
+
+		if (policy == null)
+			return AnimationLod.FULL;
+
+		double distance = Minecraft.getInstance().gameRenderer.getMainCamera().getPosition().distanceTo(entity.position());
+
+		return policy.getLod(animatable, distance, Math.max(entity.getBbWidth(), entity.getBbHeight()));
+	}
+
+	/**
+	 * Get the flags for which of the given bones are too small to animate at the given minimum size.<br>
+	 * Only bones with cubes and without child bones are eligible to be skipped
+	 */
+	private boolean[] getSkippedLeafBones(List<CoreGeoBone> bones, float minSize) {
+		if (bones != this.lodBones) {
+			this.lodBones = bones;
+			this.leafBoneSizes = new float[bones.size()];
+			this.skippedBones = new boolean[bones.size()];
+
+			for (int i = 0; i < this.leafBoneSizes.length; i++) {
+				GeoBone bone = (GeoBone)bones.get(i);
+				float size = -1;
+
+				if (bone.getChildBones().isEmpty()) {
+					for (GeoCube cube : bone.getCubes()) {
+						size = (float)Math.max(size, Math.max(cube.size().x, Math.max(cube.size().y, cube.size().z)));
+					}
+				}
+
+				this.leafBoneSizes[i] = size;
+			}
+		}
+
+		for (int i = 0; i < this.skippedBones.length; i++) {
+			this.skippedBones[i] = this.leafBoneSizes[i] >= 0 && this.leafBoneSizes[i] < minSize;
+		}
+
+		return this.skippedBones;
+	}
+
+	/**
+	 * Set the values of the built-in Molang queries in the current {@link MolangContext}.<br>
+	 * Only the queries referenced by the animatable's {@link BakedAnimations animations} are computed and set
+	 */
 	@Override
 	public void applyMolangQueries(T animatable, double animTime) {
-		MolangParser parser = MolangParser.INSTANCE;
+		MolangContext context = MolangContext.get();
 		Minecraft mc = Minecraft.getInstance();
+		BakedAnimations animations = AzureLibCache.getBakedAnimations().get(getAnimationResource(animatable));
+
+		if (isQueryReferenced(animations, LIFE_TIME))
+			context.setValue(LIFE_TIME, animTime / 20d);
 
-		parser.setMemoizedValue(MolangQueries.LIFE_TIME, () -> animTime / 20d);
-		parser.setMemoizedValue(MolangQueries.ACTOR_COUNT, mc.level::getEntityCount);
-		parser.setMemoizedValue(MolangQueries.TIME_OF_DAY, () -> mc.level.getDayTime() / 24000f);
-		parser.setMemoizedValue(MolangQueries.MOON_PHASE, mc.level::getMoonPhase);
+		if (isQueryReferenced(animations, ACTOR_COUNT))
+			context.setValue(ACTOR_COUNT, mc.level.getEntityCount());
+
+		if (isQueryReferenced(animations, TIME_OF_DAY))
+			context.setValue(TIME_OF_DAY, mc.level.getDayTime() / 24000f);
+
+		if (isQueryReferenced(animations, MOON_PHASE))
+			context.setValue(MOON_PHASE, mc.level.getMoonPhase());
 
 		if (animatable instanceof Entity entity) {
-			parser.setMemoizedValue(MolangQueries.DISTANCE_FROM_CAMERA, () -> mc.gameRenderer.getMainCamera().getPosition().distanceTo(entity.position()));
-			parser.setMemoizedValue(MolangQueries.IS_ON_GROUND, () -> RenderUtils.booleanToFloat(entity.onGround()));
-			parser.setMemoizedValue(MolangQueries.IS_IN_WATER, () -> RenderUtils.booleanToFloat(entity.isInWater()));
-			parser.setMemoizedValue(MolangQueries.IS_IN_WATER_OR_RAIN, () -> RenderUtils.booleanToFloat(entity.isInWaterRainOrBubble()));
+			if (isQueryReferenced(animations, DISTANCE_FROM_CAMERA))
+				context.setValue(DISTANCE_FROM_CAMERA, mc.gameRenderer.getMainCamera().getPosition().distanceTo(entity.position()));
+
+			if (isQueryReferenced(animations, IS_ON_GROUND))
+				context.setValue(IS_ON_GROUND, RenderUtils.booleanToFloat(entity.onGround()));
+
+			if (isQueryReferenced(animations, IS_IN_WATER))
+				context.setValue(IS_IN_WATER, RenderUtils.booleanToFloat(entity.isInWater()));
+
+			if (isQueryReferenced(animations, IS_IN_WATER_OR_RAIN))
+				context.setValue(IS_IN_WATER_OR_RAIN, RenderUtils.booleanToFloat(entity.isInWaterRainOrBubble()));
 
 			if (entity instanceof LivingEntity livingEntity) {
-				parser.setMemoizedValue(MolangQueries.HEALTH, livingEntity::getHealth);
-				parser.setMemoizedValue(MolangQueries.MAX_HEALTH, livingEntity::getMaxHealth);
-				parser.setMemoizedValue(MolangQueries.IS_ON_FIRE, () -> RenderUtils.booleanToFloat(livingEntity.isOnFire()));
-				parser.setMemoizedValue(MolangQueries.GROUND_SPEED, () -> {
+				if (isQueryReferenced(animations, HEALTH))
+					context.setValue(HEALTH, livingEntity.getHealth());
+
+				if (isQueryReferenced(animations, MAX_HEALTH))
+					context.setValue(MAX_HEALTH, livingEntity.getMaxHealth());
+
+				if (isQueryReferenced(animations, IS_ON_FIRE))
+					context.setValue(IS_ON_FIRE, RenderUtils.booleanToFloat(livingEntity.isOnFire()));
+
+				if (isQueryReferenced(animations, GROUND_SPEED)) {
 					Vec3 velocity = livingEntity.getDeltaMovement();
 
-					return Mth.sqrt((float) ((velocity.x * velocity.x) + (velocity.z * velocity.z)));
-				});
-				parser.setMemoizedValue(MolangQueries.YAW_SPEED, () -> livingEntity.getViewYRot((float) animTime - livingEntity.getViewYRot((float) animTime - 0.1f)));
+					context.setValue(GROUND_SPEED, Mth.sqrt((float) ((velocity.x * velocity.x) + (velocity.z * velocity.z))));
+				}
+
+				if (isQueryReferenced(animations, YAW_SPEED))
+					context.setValue(YAW_SPEED, livingEntity.getViewYRot((float) animTime - livingEntity.getViewYRot((float) animTime - 0.1f)));
 			}
 		}
 	}
+
+	/**
+	 * Poses are only shared if the animatable's {@link BakedAnimations animations} reference no Molang variables other than the animation time,
+	 * as any other query or variable may differ between animatables playing the same animations at the same time
+	 */
+	@Override
+	public boolean canSharePoses(T animatable) {
+		BakedAnimations animations = AzureLibCache.getBakedAnimations().get(getAnimationResource(animatable));
+
+		return animations != null && !animations.referencesVariablesOtherThan(ANIM_TIME);
+	}
+
+	private static boolean isQueryReferenced(BakedAnimations animations, int slot) {
+		return animations == null || animations.referencesVariable(slot);
+	}
 }
@@ -0,0 +1,178 @@
+package mod.azure.azurelib.network;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.network.packet.AnimSyncBundlePacket;
+import mod.azure.azurelib.network.packet.AnimSyncNamesPacket;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Server-side batching for animation triggers and synced animation data.<br>
+ * Rather than sending a packet for every {@code triggerAnim} or {@code setAnimData} call, updates are queued for the rest of the tick
+ * and sent as a single {@link AnimSyncBundlePacket} per tracking audience (an entity's trackers, or a chunk's trackers) when the server tick ends.
+ * Data written more than once for the same animatable and ticket within a tick is only sent once, with its latest value.<br>
+ * <br>
+ * Controller names, animation names, synced animatable ids, and data ticket ids are interned into numeric ids.
+ * The full table is sent to each player when they join, and names interned after that are sent to everyone before the bundles that use them.
+ */
+public final class AnimSyncBatcher {
+	private static final Map<Object, AnimSyncBundlePacket> BUNDLES = new Object2ObjectLinkedOpenHashMap<>();
+	private static final Object2IntMap<String> NAME_IDS = new Object2IntOpenHashMap<>();
+	private static final List<String> NAMES = new ObjectArrayList<>();
+
+	private static int sentNames = 0;
+
+	static {
+		NAME_IDS.defaultReturnValue(-1);
+	}
+
+	public static void queueEntityTrigger(Entity entity, boolean isReplacedEntity, @Nullable String controllerName, String animName) {
+		internTrigger(controllerName, animName);
+		getBundle(entity).addEntityTrigger(entity.getId(), isReplacedEntity, controllerName, animName);
+	}
+
+	public static <D> void queueEntityData(Entity entity, boolean isReplacedEntity, SerializableDataTicket<D> dataTicket, D data) {
+		getNameId(dataTicket.id());
+		getBundle(entity).addEntityData(entity.getId(), isReplacedEntity, dataTicket, data);
+	}
+
+	public static void queueBlockEntityTrigger(ServerLevel level, BlockPos pos, @Nullable String controllerName, String animName) {
+		internTrigger(controllerName, animName);
+		getBundle(new ChunkAudience(level, new ChunkPos(pos))).addBlockEntityTrigger(pos, controllerName, animName);
+	}
+
+	public static <D> void queueBlockEntityData(ServerLevel level, BlockPos pos, SerializableDataTicket<D> dataTicket, D data) {
+		getNameId(dataTicket.id());
+		getBundle(new ChunkAudience(level, new ChunkPos(pos))).addBlockEntityData(pos, dataTicket, data);
+	}
+
+	/**
+	 * Queue an animation trigger for a {@link mod.azure.azurelib.animatable.SingletonGeoAnimatable SingletonGeoAnimatable} instance, sent to the players tracking the given entity
+	 */
+	public static void queueSingletonTrigger(Entity entityToTrack, String syncableId, long instanceId, @Nullable String controllerName, String animName) {
+		getNameId(syncableId);
+		internTrigger(controllerName, animName);
+		getBundle(entityToTrack).addSingletonTrigger(syncableId, instanceId, controllerName, animName);
+	}
+
+	/**
+	 * Queue a data sync for a {@link mod.azure.azurelib.animatable.SingletonGeoAnimatable SingletonGeoAnimatable} instance, sent to the players tracking the given entity
+	 */
+	public static <D> void queueSingletonData(Entity entityToTrack, String syncableId, long instanceId, SerializableDataTicket<D> dataTicket, D data) {
+		getNameId(syncableId);
+		getNameId(dataTicket.id());
+		getBundle(entityToTrack).addSingletonData(syncableId, instanceId, dataTicket, data);
+	}
+
+	private static AnimSyncBundlePacket getBundle(Object audience) {
+		return BUNDLES.computeIfAbsent(audience, key -> new AnimSyncBundlePacket());
+	}
+
+	private static void internTrigger(@Nullable String controllerName, String animName) {
+		getNameId(controllerName == null ? "" : controllerName);
+		getNameId(animName);
+	}
+
+	/**
+	 * Get the numeric id for the given name, interning it if it hasn't been used before
+	 */
+	public static int getNameId(String name) {
+		int id = NAME_IDS.getInt(name);
+
+		if (id == -1) {
+			id = NAMES.size();
+
+			NAMES.add(name);
+			NAME_IDS.put(name, id);
+		}
+
+		return id;
+	}
+
+	/**
+	 * Send the full name table to a newly joined player
+	 */
+	public static void onPlayerJoin(ServerPlayer player) {
+		AnimSyncNamesPacket packet = new AnimSyncNamesPacket(0, new ObjectArrayList<>(NAMES.subList(0, sentNames)));
+
+		ServerPlayNetworking.send(player, packet.getPacketID(), packet.encode());
+	}
+
+	/**
+	 * Send all queued updates.<br>
+	 * Called at the end of each server tick
+	 */
+	public static void flush(MinecraftServer server) {
+		sendNewNames(server);
+
+		if (BUNDLES.isEmpty())
+			return;
+
+		for (Map.Entry<Object, AnimSyncBundlePacket> entry : BUNDLES.entrySet()) {
+			if (entry.getKey() instanceof Entity entity) {
+				AzureLibNetwork.sendToTrackingEntityAndSelf(entry.getValue(), entity);
+			}
+			else if (entry.getKey() instanceof ChunkAudience chunk) {
+				AzureLibNetwork.sendToEntitiesTrackingChunk(entry.getValue(), chunk.level(), chunk.pos().getWorldPosition());
+			}
+		}
+
+		BUNDLES.clear();
+	}
+
+	/**
+	 * Send the queued updates for the given entity straight away.<br>
+	 * Called when an entity is removed from its level, before its trackers are dropped,
+	 * so that updates queued in the same tick as the entity is discarded still reach the players tracking it
+	 */
+	public static void flushEntity(Entity entity) {
+		AnimSyncBundlePacket bundle = BUNDLES.remove(entity);
+
+		if (bundle == null)
+			return;
+
+		sendNewNames(entity.getServer());
+		AzureLibNetwork.sendToTrackingEntityAndSelf(bundle, entity);
+	}
+
+	/**
+	 * Send any names interned since the last time names were sent to everyone, so that they are defined before the bundles that use them arrive
+	 */
+	private static void sendNewNames(MinecraftServer server) {
+		if (NAMES.size() > sentNames) {
+			AnimSyncNamesPacket packet = new AnimSyncNamesPacket(sentNames, new ObjectArrayList<>(NAMES.subList(sentNames, NAMES.size())));
+
+			AzureLibNetwork.sendToPlayers(packet, PlayerLookup.all(server));
+
+			sentNames = NAMES.size();
+		}
+	}
+
+	/**
+	 * Discard all queued updates and interned names.<br>
+	 * Called when the server stops
+	 */
+	public static void reset() {
+		BUNDLES.clear();
+		NAME_IDS.clear();
+		NAMES.clear();
+
+		sentNames = 0;
+	}
+
+	private record ChunkAudience(ServerLevel level, ChunkPos pos) {}
+}
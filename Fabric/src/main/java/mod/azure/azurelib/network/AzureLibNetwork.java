@@ -1,13 +1,18 @@
 package mod.azure.azurelib.network;
 
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.BiConsumer;
 
 import org.jetbrains.annotations.Nullable;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.network.packet.AnimDataSyncPacket;
+import mod.azure.azurelib.network.packet.AnimSyncBundlePacket;
+import mod.azure.azurelib.network.packet.AnimSyncNamesPacket;
 import mod.azure.azurelib.network.packet.AnimTriggerPacket;
 import mod.azure.azurelib.network.packet.BlockEntityAnimDataSyncPacket;
 import mod.azure.azurelib.network.packet.BlockEntityAnimTriggerPacket;
@@ -18,6 +23,8 @@ import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.BlockPos;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
@@ -37,6 +44,9 @@ public final class AzureLibNetwork {
     public static final ResourceLocation BLOCK_ENTITY_ANIM_DATA_SYNC_PACKET_ID = new ResourceLocation(AzureLib.MOD_ID, "block_entity_anim_data_sync");
     public static final ResourceLocation BLOCK_ENTITY_ANIM_TRIGGER_SYNC_PACKET_ID = new ResourceLocation(AzureLib.MOD_ID, "block_entity_anim_trigger_sync");
 
+    public static final ResourceLocation ANIM_SYNC_BUNDLE_PACKET_ID = new ResourceLocation(AzureLib.MOD_ID, "anim_sync_bundle");
+    public static final ResourceLocation ANIM_SYNC_NAMES_PACKET_ID = new ResourceLocation(AzureLib.MOD_ID, "anim_sync_names");
+
 	public static final ResourceLocation CUSTOM_ENTITY_ID = new ResourceLocation(AzureLib.MOD_ID, "spawn_entity");
 
     public static final Map<String, GeoAnimatable> SYNCED_ANIMATABLES = new Object2ObjectOpenHashMap<>();
@@ -54,6 +64,9 @@ public final class AzureLibNetwork {
         ClientPlayNetworking.registerGlobalReceiver(BLOCK_ENTITY_ANIM_DATA_SYNC_PACKET_ID, BlockEntityAnimDataSyncPacket::receive);
         ClientPlayNetworking.registerGlobalReceiver(BLOCK_ENTITY_ANIM_TRIGGER_SYNC_PACKET_ID, BlockEntityAnimTriggerPacket::receive);
 
+        ClientPlayNetworking.registerGlobalReceiver(ANIM_SYNC_BUNDLE_PACKET_ID, AnimSyncBundlePacket::receive);
+        ClientPlayNetworking.registerGlobalReceiver(ANIM_SYNC_NAMES_PACKET_ID, AnimSyncNamesPacket::receive);
+
 		ClientPlayNetworking.registerGlobalReceiver(CUSTOM_ENTITY_ID, (client, handler, buf, responseSender) -> {
 			EntityPacketOnClient.onPacket(client, buf);
 		});
@@ -90,17 +103,43 @@ public final class AzureLibNetwork {
     }
 
     public static void sendToTrackingEntityAndSelf(AbstractPacket packet, Entity entityToTrack) {
-        for (ServerPlayer trackingPlayer : PlayerLookup.tracking(entityToTrack)) {
-            ServerPlayNetworking.send(trackingPlayer, packet.getPacketID(), packet.encode());
+        Collection<ServerPlayer> players = PlayerLookup.tracking(entityToTrack);
+
+        if (entityToTrack instanceof ServerPlayer serverPlayer) {
+            players = new ObjectArrayList<>(players);
+
+            players.add(serverPlayer);
         }
 
-        if (entityToTrack instanceof ServerPlayer serverPlayer)
-            ServerPlayNetworking.send(serverPlayer, packet.getPacketID(), packet.encode());
+        sendToPlayers(packet, players);
     }
 
     public static void sendToEntitiesTrackingChunk(AbstractPacket packet, ServerLevel level, BlockPos blockPos) {
-        for (ServerPlayer trackingPlayer : PlayerLookup.tracking(level, blockPos)) {
-            ServerPlayNetworking.send(trackingPlayer, packet.getPacketID(), packet.encode());
+        sendToPlayers(packet, PlayerLookup.tracking(level, blockPos));
+    }
+
+    /**
+     * Send a packet to each of the given players.<br>
+     * The packet is only encoded once, and the same vanilla packet is sent to every player,
+     * as its payload is copied rather than consumed when it is written to each connection.
+     * Nothing is encoded if there are no players to send to
+     */
+    public static void sendToPlayers(AbstractPacket packet, Collection<ServerPlayer> players) {
+        sendToPlayers(packet, players, (player, encodedPacket) -> player.connection.send(encodedPacket));
+    }
+
+    /**
+     * Encode a packet once and hand the same vanilla packet to each of the given recipients.<br>
+     * Separated from {@link AzureLibNetwork#sendToPlayers(AbstractPacket, Collection)} so that the fan-out can be checked without a live server
+     */
+    static <T> void sendToPlayers(AbstractPacket packet, Collection<T> recipients, BiConsumer<T, Packet<ClientGamePacketListener>> sender) {
+        if (recipients.isEmpty())
+            return;
+
+        Packet<ClientGamePacketListener> encodedPacket = ServerPlayNetworking.createS2CPacket(packet.getPacketID(), packet.encode());
+
+        for (T recipient : recipients) {
+            sender.accept(recipient, encodedPacket);
         }
     }
 
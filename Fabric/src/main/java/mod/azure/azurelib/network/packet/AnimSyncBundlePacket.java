@@ -0,0 +1,294 @@
+package mod.azure.azurelib.network.packet;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.animatable.GeoBlockEntity;
+import mod.azure.azurelib.animatable.GeoEntity;
+import mod.azure.azurelib.animatable.GeoReplacedEntity;
+import mod.azure.azurelib.constant.DataTickets;
+import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.network.AbstractPacket;
+import mod.azure.azurelib.network.AnimSyncBatcher;
+import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.SerializableDataTicket;
+import mod.azure.azurelib.util.ClientUtils;
+import mod.azure.azurelib.util.RenderUtils;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+/**
+ * Packet for syncing a tick's worth of animation triggers and data for any number of animatables in one go.<br>
+ * Names are sent as the numeric ids defined by {@link AnimSyncNamesPacket}.<br>
+ * For each animatable, its data is applied before its animations are triggered, so that triggered animations see the latest data.
+ * @see AnimSyncBatcher
+ */
+public class AnimSyncBundlePacket extends AbstractPacket {
+	private static final byte ENTITY = 0;
+	private static final byte REPLACED_ENTITY = 1;
+	private static final byte BLOCK_ENTITY = 2;
+	private static final byte SINGLETON = 3;
+
+	private final Map<Object, Updates> updates = new Object2ObjectLinkedOpenHashMap<>();
+
+	public void addEntityTrigger(int entityId, boolean isReplacedEntity, @Nullable String controllerName, String animName) {
+		getUpdates(new EntityTarget(entityId, isReplacedEntity)).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addEntityData(int entityId, boolean isReplacedEntity, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(new EntityTarget(entityId, isReplacedEntity)).data.put(dataTicket, data);
+	}
+
+	public void addBlockEntityTrigger(BlockPos pos, @Nullable String controllerName, String animName) {
+		getUpdates(pos.immutable()).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addBlockEntityData(BlockPos pos, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(pos.immutable()).data.put(dataTicket, data);
+	}
+
+	public void addSingletonTrigger(String syncableId, long instanceId, @Nullable String controllerName, String animName) {
+		getUpdates(new SingletonTarget(syncableId, instanceId)).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addSingletonData(String syncableId, long instanceId, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(new SingletonTarget(syncableId, instanceId)).data.put(dataTicket, data);
+	}
+
+	private Updates getUpdates(Object target) {
+		return this.updates.computeIfAbsent(target, key -> new Updates());
+	}
+
+	@Override
+	public FriendlyByteBuf encode() {
+		FriendlyByteBuf buf = PacketByteBufs.create();
+
+		buf.writeVarInt(this.updates.size());
+
+		for (Map.Entry<Object, Updates> entry : this.updates.entrySet()) {
+			writeTarget(entry.getKey(), buf);
+			entry.getValue().write(buf);
+		}
+
+		return buf;
+	}
+
+	private static void writeTarget(Object target, FriendlyByteBuf buf) {
+		if (target instanceof EntityTarget entityTarget) {
+			buf.writeByte(entityTarget.isReplacedEntity() ? REPLACED_ENTITY : ENTITY);
+			buf.writeVarInt(entityTarget.entityId());
+		}
+		else if (target instanceof BlockPos pos) {
+			buf.writeByte(BLOCK_ENTITY);
+			buf.writeBlockPos(pos);
+		}
+		else if (target instanceof SingletonTarget singletonTarget) {
+			buf.writeByte(SINGLETON);
+			buf.writeVarInt(AnimSyncBatcher.getNameId(singletonTarget.syncableId()));
+			buf.writeVarLong(singletonTarget.instanceId());
+		}
+	}
+
+	@Override
+	public ResourceLocation getPacketID() {
+		return AzureLibNetwork.ANIM_SYNC_BUNDLE_PACKET_ID;
+	}
+
+	public static void receive(Minecraft client, ClientPacketListener handler, FriendlyByteBuf buf, PacketSender responseSender) {
+		AnimSyncBundlePacket packet = new AnimSyncBundlePacket();
+		int count = buf.readVarInt();
+
+		for (int i = 0; i < count; i++) {
+			byte targetType = buf.readByte();
+			Object target = switch (targetType) {
+				case ENTITY -> new EntityTarget(buf.readVarInt(), false);
+				case REPLACED_ENTITY -> new EntityTarget(buf.readVarInt(), true);
+				case BLOCK_ENTITY -> buf.readBlockPos();
+				case SINGLETON -> readSingletonTarget(buf);
+				default -> null;
+			};
+
+			if (targetType < ENTITY || targetType > SINGLETON) {
+				AzureLib.LOGGER.warn("Dropping the rest of an animation sync bundle with an unknown target type: " + targetType);
+
+				break;
+			}
+
+			// Updates for an unknown target are still read, to reach the next target, but are then discarded
+			Updates updates = target == null ? new Updates() : packet.getUpdates(target);
+
+			if (!updates.read(buf))
+				break;
+		}
+
+		client.execute(packet::runOnThread);
+	}
+
+	private void runOnThread() {
+		for (Map.Entry<Object, Updates> entry : this.updates.entrySet()) {
+			Object target = entry.getKey();
+			Updates updates = entry.getValue();
+
+			if (target instanceof EntityTarget entityTarget) {
+				Entity entity = ClientUtils.getLevel().getEntity(entityTarget.entityId());
+
+				if (entity == null)
+					continue;
+
+				if (!entityTarget.isReplacedEntity()) {
+					if (entity instanceof GeoEntity geoEntity)
+						updates.apply(geoEntity::setAnimData, geoEntity::triggerAnim);
+
+					continue;
+				}
+
+				if (RenderUtils.getReplacedAnimatable(entity.getType()) instanceof GeoReplacedEntity replacedEntity)
+					updates.apply((dataTicket, data) -> replacedEntity.setAnimData(entity, dataTicket, data), (controllerName, animName) -> replacedEntity.triggerAnim(entity, controllerName, animName));
+			}
+			else if (target instanceof BlockPos pos) {
+				BlockEntity blockEntity = ClientUtils.getLevel().getBlockEntity(pos);
+
+				if (blockEntity instanceof GeoBlockEntity geoBlockEntity)
+					updates.apply(geoBlockEntity::setAnimData, geoBlockEntity::triggerAnim);
+			}
+			else if (target instanceof SingletonTarget singletonTarget) {
+				GeoAnimatable animatable = AzureLibNetwork.getSyncedAnimatable(singletonTarget.syncableId());
+
+				if (animatable != null) {
+					AnimatableManager<?> manager = animatable.getAnimatableInstanceCache().getManagerForId(singletonTarget.instanceId());
+
+					updates.apply(manager::setData, manager::tryTriggerAnimation);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private static SingletonTarget readSingletonTarget(FriendlyByteBuf buf) {
+		int nameId = buf.readVarInt();
+		long instanceId = buf.readVarLong();
+		String syncableId = AnimSyncNamesPacket.getName(nameId);
+
+		if (syncableId == null) {
+			AzureLib.LOGGER.warn("Dropping animation sync updates for an undefined animatable id: " + nameId);
+
+			return null;
+		}
+
+		return new SingletonTarget(syncableId, instanceId);
+	}
+
+	private record EntityTarget(int entityId, boolean isReplacedEntity) {}
+
+	private record SingletonTarget(String syncableId, long instanceId) {}
+
+	/**
+	 * The updates for a single animatable.<br>
+	 * Only the last data written for each ticket is kept, as any earlier values would be immediately overwritten on arrival
+	 */
+	private static final class Updates {
+		private final Map<SerializableDataTicket<?>, Object> data = new Reference2ObjectLinkedOpenHashMap<>();
+		private final List<String> triggers = new ObjectArrayList<>();
+
+		private void addTrigger(@Nullable String controllerName, String animName) {
+			this.triggers.add(controllerName == null ? "" : controllerName);
+			this.triggers.add(animName);
+		}
+
+		@SuppressWarnings("unchecked")
+		private void write(FriendlyByteBuf buf) {
+			buf.writeVarInt(this.data.size());
+
+			for (Map.Entry<SerializableDataTicket<?>, Object> entry : this.data.entrySet()) {
+				SerializableDataTicket<Object> dataTicket = (SerializableDataTicket<Object>)entry.getKey();
+
+				buf.writeVarInt(AnimSyncBatcher.getNameId(dataTicket.id()));
+				dataTicket.encode(entry.getValue(), buf);
+			}
+
+			buf.writeVarInt(this.triggers.size() / 2);
+
+			for (String name : this.triggers) {
+				buf.writeVarInt(AnimSyncBatcher.getNameId(name));
+			}
+		}
+
+		/**
+		 * Read the updates for a single animatable, skipping any triggers with undefined names
+		 * @return Whether the updates were read in full. If not, the data of an unknown ticket couldn't be decoded, so the rest of the packet can't be read either
+		 */
+		private boolean read(FriendlyByteBuf buf) {
+			int dataCount = buf.readVarInt();
+
+			for (int i = 0; i < dataCount; i++) {
+				String ticketId = AnimSyncNamesPacket.getName(buf.readVarInt());
+				SerializableDataTicket<?> dataTicket = ticketId == null ? null : DataTickets.byName(ticketId);
+
+				if (dataTicket == null) {
+					AzureLib.LOGGER.warn("Dropping the rest of an animation sync bundle with an unregistered data ticket: " + ticketId);
+
+					return false;
+				}
+
+				this.data.put(dataTicket, dataTicket.decode(buf));
+			}
+
+			int triggerCount = buf.readVarInt();
+
+			for (int i = 0; i < triggerCount; i++) {
+				int controllerId = buf.readVarInt();
+				int animId = buf.readVarInt();
+				String controllerName = AnimSyncNamesPacket.getName(controllerId);
+				String animName = AnimSyncNamesPacket.getName(animId);
+
+				if (controllerName == null || animName == null) {
+					AzureLib.LOGGER.warn("Dropping animation sync trigger with undefined name ids: " + controllerId + ", " + animId);
+
+					continue;
+				}
+
+				this.triggers.add(controllerName);
+				this.triggers.add(animName);
+			}
+
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void apply(DataConsumer dataConsumer, TriggerConsumer triggerConsumer) {
+			for (Map.Entry<SerializableDataTicket<?>, Object> entry : this.data.entrySet()) {
+				dataConsumer.accept((SerializableDataTicket<Object>)entry.getKey(), entry.getValue());
+			}
+
+			for (int i = 0; i < this.triggers.size(); i += 2) {
+				String controllerName = this.triggers.get(i);
+
+				triggerConsumer.accept(controllerName.isEmpty() ? null : controllerName, this.triggers.get(i + 1));
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface DataConsumer {
+		void accept(SerializableDataTicket<Object> dataTicket, Object data);
+	}
+
+	@FunctionalInterface
+	private interface TriggerConsumer {
+		void accept(@Nullable String controllerName, String animName);
+	}
+}
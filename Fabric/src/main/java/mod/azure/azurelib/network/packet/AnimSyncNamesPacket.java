@@ -0,0 +1,84 @@
+package mod.azure.azurelib.network.packet;
+
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.network.AbstractPacket;
+import mod.azure.azurelib.network.AnimSyncBatcher;
+import mod.azure.azurelib.network.AzureLibNetwork;
+import net.fabricmc.fabric.api.networking.v1.PacketByteBufs;
+import net.fabricmc.fabric.api.networking.v1.PacketSender;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.multiplayer.ClientPacketListener;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.resources.ResourceLocation;
+
+/**
+ * Packet for defining the numeric ids of the names used in {@link AnimSyncBundlePacket AnimSyncBundlePackets}.<br>
+ * Sent with the full table when a player joins, then with any newly interned names before they are first used
+ * @see AnimSyncBatcher
+ */
+public class AnimSyncNamesPacket extends AbstractPacket {
+	private static final List<String> CLIENT_NAMES = new ObjectArrayList<>();
+
+	private final int firstId;
+	private final List<String> names;
+
+	public AnimSyncNamesPacket(int firstId, List<String> names) {
+		this.firstId = firstId;
+		this.names = names;
+	}
+
+	@Override
+	public FriendlyByteBuf encode() {
+		FriendlyByteBuf buf = PacketByteBufs.create();
+
+		buf.writeVarInt(this.firstId);
+		buf.writeVarInt(this.names.size());
+
+		for (String name : this.names) {
+			buf.writeUtf(name);
+		}
+
+		return buf;
+	}
+
+	@Override
+	public ResourceLocation getPacketID() {
+		return AzureLibNetwork.ANIM_SYNC_NAMES_PACKET_ID;
+	}
+
+	/**
+	 * Names are applied immediately rather than on the client thread, as the bundles that follow are decoded on the network thread
+	 */
+	public static void receive(Minecraft client, ClientPacketListener handler, FriendlyByteBuf buf, PacketSender responseSender) {
+		int firstId = buf.readVarInt();
+		int count = buf.readVarInt();
+
+		synchronized (CLIENT_NAMES) {
+			if (firstId == 0)
+				CLIENT_NAMES.clear();
+
+			while (CLIENT_NAMES.size() < firstId + count) {
+				CLIENT_NAMES.add(null);
+			}
+
+			for (int i = 0; i < count; i++) {
+				CLIENT_NAMES.set(firstId + i, buf.readUtf());
+			}
+		}
+	}
+
+	/**
+	 * Get the name for the given id, as defined by the server
+	 * @return The name, or null if the server hasn't defined the given id
+	 */
+	@Nullable
+	public static String getName(int id) {
+		synchronized (CLIENT_NAMES) {
+			return id >= 0 && id < CLIENT_NAMES.size() ? CLIENT_NAMES.get(id) : null;
+		}
+	}
+}
@@ -35,6 +35,9 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 	protected static Map<ResourceLocation, IntIntPair> TEXTURE_DIMENSIONS_CACHE = new Object2ObjectOpenHashMap<>();
 
 	protected ResourceLocation textureOverride = null;
+	protected boolean remapTextureOverrideUVs = false;
+	protected float textureOverrideUScale = 1;
+	protected float textureOverrideVScale = 1;
 
 	public DynamicGeoEntityRenderer(EntityRendererProvider.Context renderManager, GeoModel<T> model) {
 		super(renderManager, model);
@@ -97,6 +100,9 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 
 		this.textureOverride = getTextureOverrideForBone(bone, this.animatable, partialTick);
 		ResourceLocation texture = this.textureOverride == null ? getTextureLocation(this.animatable) : this.textureOverride;
+
+		updateTextureOverrideScale();
+
 		RenderType renderTypeOverride = getRenderTypeOverrideForBone(bone, this.animatable, texture, bufferSource, partialTick);
 
 		if (texture != null && renderTypeOverride == null)
@@ -126,6 +132,7 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 	@Override
 	public void postRender(PoseStack poseStack, T animatable, BakedGeoModel model, MultiBufferSource bufferSource, VertexConsumer buffer, boolean isReRender, float partialTick, int packedLight, int packedOverlay, float red, float green, float blue, float alpha) {
 		this.textureOverride = null;
+		this.remapTextureOverrideUVs = false;
 
 		super.postRender(poseStack, animatable, model, bufferSource, buffer, isReRender, partialTick, packedLight, packedOverlay, red, green, blue, alpha);
 	}
@@ -137,17 +144,7 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 	@Override
 	public void createVerticesOfQuad(GeoQuad quad, Matrix4f poseState, Vector3f normal, VertexConsumer buffer,
 									 int packedLight, int packedOverlay, float red, float green, float blue, float alpha) {
-		if (this.textureOverride == null) {
-			super.createVerticesOfQuad(quad, poseState, normal, buffer, packedLight, packedOverlay, red, green,
-					blue, alpha);
-
-			return;
-		}
-
-		IntIntPair boneTextureSize = computeTextureSize(this.textureOverride);
-		IntIntPair entityTextureSize = computeTextureSize(getTextureLocation(this.animatable));
-
-		if (boneTextureSize == null || entityTextureSize == null) {
+		if (this.textureOverride == null || !this.remapTextureOverrideUVs) {
 			super.createVerticesOfQuad(quad, poseState, normal, buffer, packedLight, packedOverlay, red, green,
 					blue, alpha);
 
@@ -155,15 +152,37 @@ public abstract class DynamicGeoEntityRenderer<T extends Entity & GeoAnimatable>
 		}
 
 		for (GeoVertex vertex : quad.vertices()) {
-			Vector4f vector4f = poseState.transform(new Vector4f(vertex.position().x(), vertex.position().y(), vertex.position().z(), 1.0f));
-			float texU = (vertex.texU() * entityTextureSize.firstInt()) / boneTextureSize.firstInt();
-			float texV = (vertex.texV() * entityTextureSize.secondInt()) / boneTextureSize.secondInt();
+			Vector4f vector4f = RenderUtils.transformVertexPosition(poseState, vertex);
+			float texU = vertex.texU() * this.textureOverrideUScale;
+			float texV = vertex.texV() * this.textureOverrideVScale;
 
 			buffer.vertex(vector4f.x(), vector4f.y(), vector4f.z(), red, green, blue, alpha, texU, texV,
 					packedOverlay, packedLight, normal.x(), normal.y(), normal.z());
 		}
 	}
 
+	/**
+	 * Compute the scale between the dimensions of the current {@link DynamicGeoEntityRenderer#textureOverride texture override}
+	 * and the animatable's texture, used to remap the UVs of the bone being rendered.<br>
+	 * Called once per bone, rather than for each quad
+	 */
+	protected void updateTextureOverrideScale() {
+		this.remapTextureOverrideUVs = false;
+
+		if (this.textureOverride == null)
+			return;
+
+		IntIntPair boneTextureSize = computeTextureSize(this.textureOverride);
+		IntIntPair entityTextureSize = computeTextureSize(getTextureLocation(this.animatable));
+
+		if (boneTextureSize == null || entityTextureSize == null)
+			return;
+
+		this.textureOverrideUScale = entityTextureSize.firstInt() / (float)boneTextureSize.firstInt();
+		this.textureOverrideVScale = entityTextureSize.secondInt() / (float)boneTextureSize.secondInt();
+		this.remapTextureOverrideUVs = true;
+	}
+
 	/**
 	 * Retrieve or compute the height and width of a given texture from its {@link ResourceLocation}.<br>
 	 * This is used for dynamically mapping vertices on a given quad.<br>
@@ -0,0 +1,62 @@
+package mod.azure.azurelib.network;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.netty.buffer.Unpooled;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.AzureLib;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.game.ClientGamePacketListener;
+import net.minecraft.resources.ResourceLocation;
+
+class AzureLibNetworkTest {
+	@Test
+	void encodesOnceForMultiplePlayers() {
+		CountingPacket packet = new CountingPacket();
+		List<Packet<ClientGamePacketListener>> sentPackets = new ObjectArrayList<>();
+
+		AzureLibNetwork.sendToPlayers(packet, List.of("first", "second", "third"), (player, encodedPacket) -> sentPackets.add(encodedPacket));
+
+		assertEquals(1, packet.encodeCount);
+		assertEquals(3, sentPackets.size());
+
+		for (Packet<ClientGamePacketListener> sentPacket : sentPackets) {
+			assertSame(sentPackets.get(0), sentPacket);
+		}
+	}
+
+	@Test
+	void doesNotEncodeWithoutPlayers() {
+		CountingPacket packet = new CountingPacket();
+
+		AzureLibNetwork.sendToPlayers(packet, List.<String>of(), (player, encodedPacket) -> {
+			throw new AssertionError("Sent a packet with no players to send to");
+		});
+
+		assertEquals(0, packet.encodeCount);
+	}
+
+	private static class CountingPacket extends AbstractPacket {
+		private int encodeCount = 0;
+
+		@Override
+		public FriendlyByteBuf encode() {
+			FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+
+			buf.writeVarInt(++this.encodeCount);
+
+			return buf;
+		}
+
+		@Override
+		public ResourceLocation getPacketID() {
+			return new ResourceLocation(AzureLib.MOD_ID, "counting_packet");
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package mod.azure.azurelib.benchmark;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.VertexConsumer;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.cache.object.BakedGeoModel;
+import mod.azure.azurelib.cache.object.GeoBone;
+import mod.azure.azurelib.cache.object.GeoCube;
+import mod.azure.azurelib.cache.object.GeoQuad;
+import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.loading.json.raw.Model;
+import mod.azure.azurelib.loading.object.BakedModelFactory;
+import mod.azure.azurelib.loading.object.GeometryTree;
+import mod.azure.azurelib.model.GeoModel;
+import mod.azure.azurelib.renderer.GeoRenderer;
+import mod.azure.azurelib.util.JsonUtil;
+import net.minecraft.client.renderer.MultiBufferSource;
+
+/**
+ * Measures writing the vertices of every cube of a {@link SyntheticAssetPack#createGeoFile generated} model through {@link GeoRenderer#renderCube} and {@link GeoRenderer#createVerticesOfQuad},
+ * into a {@link VertexConsumer} that only accumulates the vertex data.<br>
+ * Run with {@code -prof gc}: {@code gc.alloc.rate.norm} should be 0 B/op for both benchmarks,
+ * showing that no vectors or matrices are allocated per cube, quad, or vertex
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CubeRenderingBenchmark {
+	@Param({"12", "48"})
+	public int boneCount;
+
+	private final BenchmarkRenderer renderer = new BenchmarkRenderer();
+	private final AccumulatingVertexConsumer buffer = new AccumulatingVertexConsumer();
+	private final PoseStack poseStack = new PoseStack();
+	private final Matrix4f poseState = new Matrix4f().translation(0.5f, 0, 0.5f).rotateY(0.5f);
+	private final Vector3f normal = new Vector3f(0, 1, 0);
+	private final List<GeoCube> cubes = new ObjectArrayList<>();
+	private final List<GeoQuad> quads = new ObjectArrayList<>();
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Model model = JsonUtil.GEO_GSON.fromJson(SyntheticAssetPack.createGeoFile(new Random(1337), "benchmark", this.boneCount), Model.class);
+		GeometryTree geometryTree = GeometryTree.fromModel(model);
+		BakedGeoModel bakedModel = BakedModelFactory.DEFAULT_FACTORY.constructGeoModel(geometryTree);
+
+		for (GeoBone bone : bakedModel.topLevelBones()) {
+			collectCubes(bone);
+		}
+
+		for (GeoCube cube : this.cubes) {
+			for (GeoQuad quad : cube.quads()) {
+				if (quad != null)
+					this.quads.add(quad);
+			}
+		}
+
+		if (this.cubes.isEmpty())
+			throw new IllegalStateException("Generated benchmark model has no cubes");
+	}
+
+	private void collectCubes(GeoBone bone) {
+		this.cubes.addAll(bone.getCubes());
+
+		for (GeoBone child : bone.getChildBones()) {
+			collectCubes(child);
+		}
+	}
+
+	@Benchmark
+	public double renderCubes() {
+		PoseStack.Pose pose = this.poseStack.last();
+
+		for (GeoCube cube : this.cubes) {
+			this.renderer.renderCube(this.poseStack, cube, this.buffer, 0xF000F0, 0, 1, 1, 1, 1);
+			pose.pose().identity();
+			pose.normal().identity();
+		}
+
+		return this.buffer.checksum;
+	}
+
+	@Benchmark
+	public double createVerticesOfQuads() {
+		for (GeoQuad quad : this.quads) {
+			this.renderer.createVerticesOfQuad(quad, this.poseState, this.normal, this.buffer, 0xF000F0, 0, 1, 1, 1, 1);
+		}
+
+		return this.buffer.checksum;
+	}
+
+	/**
+	 * Renderer that only provides the default cube rendering, with no model, animatable, or events
+	 */
+	private static class BenchmarkRenderer implements GeoRenderer<GeoAnimatable> {
+		@Override
+		public GeoModel<GeoAnimatable> getGeoModel() {
+			return null;
+		}
+
+		@Override
+		public GeoAnimatable getAnimatable() {
+			return null;
+		}
+
+		@Override
+		public void fireCompileRenderLayersEvent() {}
+
+		@Override
+		public boolean firePreRenderEvent(PoseStack poseStack, BakedGeoModel model, MultiBufferSource bufferSource, float partialTick, int packedLight) {
+			return true;
+		}
+
+		@Override
+		public void firePostRenderEvent(PoseStack poseStack, BakedGeoModel model, MultiBufferSource bufferSource, float partialTick, int packedLight) {}
+
+		@Override
+		public void updateAnimatedTextureFrame(GeoAnimatable animatable) {}
+	}
+
+	/**
+	 * Vertex consumer that sums the vertex data it receives, so that the vertex computations can't be eliminated, without storing anything
+	 */
+	private static class AccumulatingVertexConsumer implements VertexConsumer {
+		private double checksum = 0;
+
+		@Override
+		public void vertex(float x, float y, float z, float red, float green, float blue, float alpha, float texU, float texV, int overlayUV, int lightmapUV, float normalX, float normalY, float normalZ) {
+			this.checksum += x + y + z + texU + texV + normalX + normalY + normalZ;
+		}
+
+		@Override
+		public VertexConsumer vertex(double x, double y, double z) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv(float u, float v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlayCoords(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer uv2(int u, int v) {
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			return this;
+		}
+
+		@Override
+		public void endVertex() {}
+
+		@Override
+		public void defaultColor(int red, int green, int blue, int alpha) {}
+
+		@Override
+		public void unsetDefaultColor() {}
+	}
+}
@@ -0,0 +1,134 @@
+package mod.azure.azurelib.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import mod.azure.azurelib.loading.json.raw.Model;
+import mod.azure.azurelib.loading.object.GeometryTree;
+import mod.azure.azurelib.util.JsonUtil;
+
+/**
+ * Measures building the bone hierarchy of a model with {@link GeometryTree#fromModel}, for increasingly large bone counts and differently shaped hierarchies.<br>
+ * Bones are listed in shuffled order, so that parents are as likely to be listed after their children as before them
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeometryTreeBenchmark {
+	@Param({"1000", "2500", "5000", "10000"})
+	public int boneCount;
+
+	@Param({"WIDE", "DEEP", "BRANCHING"})
+	public Hierarchy hierarchy;
+
+	private Model model;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		Random random = new Random(0);
+		JsonObject[] bones = new JsonObject[this.boneCount];
+
+		for (int i = 0; i < this.boneCount; i++) {
+			JsonObject bone = new JsonObject();
+			JsonArray pivot = new JsonArray(3);
+
+			pivot.add(random.nextInt(16) - 8);
+			pivot.add(random.nextInt(24));
+			pivot.add(random.nextInt(16) - 8);
+			bone.addProperty("name", "bone" + i);
+			bone.add("pivot", pivot);
+
+			if (i > 0)
+				bone.addProperty("parent", "bone" + this.hierarchy.parentIndex(i, random));
+
+			bones[i] = bone;
+		}
+
+		for (int i = bones.length - 1; i > 0; i--) {
+			int swap = random.nextInt(i + 1);
+			JsonObject bone = bones[i];
+			bones[i] = bones[swap];
+			bones[swap] = bone;
+		}
+
+		JsonArray bonesArray = new JsonArray(this.boneCount);
+		JsonObject description = new JsonObject();
+		JsonObject geometry = new JsonObject();
+		JsonArray geometryArray = new JsonArray(1);
+		JsonObject modelJson = new JsonObject();
+
+		for (JsonObject bone : bones) {
+			bonesArray.add(bone);
+		}
+
+		description.addProperty("identifier", "geometry.benchmark");
+		description.addProperty("texture_width", 64);
+		description.addProperty("texture_height", 64);
+		geometry.add("description", description);
+		geometry.add("bones", bonesArray);
+		geometryArray.add(geometry);
+		modelJson.addProperty("format_version", "1.12.0");
+		modelJson.add("minecraft:geometry", geometryArray);
+
+		this.model = JsonUtil.GEO_GSON.fromJson(modelJson, Model.class);
+	}
+
+	@Benchmark
+	public GeometryTree fromModel() {
+		return GeometryTree.fromModel(this.model);
+	}
+
+	public enum Hierarchy {
+		/**
+		 * Every bone parented directly to a single root bone
+		 */
+		WIDE {
+			@Override
+			int parentIndex(int index, Random random) {
+				return 0;
+			}
+		},
+		/**
+		 * A single chain of bones, each parented to the previous one
+		 */
+		DEEP {
+			@Override
+			int parentIndex(int index, Random random) {
+				return index - 1;
+			}
+		},
+		/**
+		 * Each bone parented to one of the few bones before it, as is typical for limbs and tails branching off a body
+		 */
+		BRANCHING {
+			@Override
+			int parentIndex(int index, Random random) {
+				return Math.max(0, index - 1 - random.nextInt(6));
+			}
+		};
+
+		/**
+		 * @return The index of the parent bone for the bone at the given index, which is always lower than the index
+		 */
+		abstract int parentIndex(int index, Random random);
+	}
+}
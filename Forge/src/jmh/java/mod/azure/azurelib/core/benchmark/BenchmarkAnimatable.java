@@ -0,0 +1,76 @@
+package mod.azure.azurelib.core.benchmark;
+
+import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.core.animatable.instance.AnimatableInstanceCache;
+import mod.azure.azurelib.core.animatable.instance.InstancedAnimatableInstanceCache;
+import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.core.animation.AnimationController;
+import mod.azure.azurelib.core.animation.RawAnimation;
+
+/**
+ * Synthetic {@link GeoAnimatable} for benchmarking the core animation engine.<br>
+ * Registers the given number of controllers, each looping a different animation from a {@link BenchmarkGeoModel}
+ */
+public class BenchmarkAnimatable implements GeoAnimatable {
+	private final AnimatableInstanceCache cache = new InstancedAnimatableInstanceCache(this);
+	private final RawAnimation[] animations;
+	private final PoseMode poseMode;
+
+	/**
+	 * @param controllerCount The number of controllers to register
+	 * @param animationCount The number of animations in the model the controllers play from
+	 * @param poseMode Where the computed poses are written to
+	 */
+	public BenchmarkAnimatable(int controllerCount, int animationCount, PoseMode poseMode) {
+		this.animations = new RawAnimation[controllerCount];
+		this.poseMode = poseMode;
+
+		for (int i = 0; i < controllerCount; i++) {
+			this.animations[i] = RawAnimation.begin().thenLoop(BenchmarkGeoModel.getAnimationName(i % animationCount));
+		}
+	}
+
+	@Override
+	public void registerControllers(AnimatableManager.ControllerRegistrar controllers) {
+		for (int i = 0; i < this.animations.length; i++) {
+			RawAnimation animation = this.animations[i];
+
+			controllers.add(new AnimationController<>(this, "controller" + i, 0, state -> state.setAndContinue(animation)));
+		}
+	}
+
+	@Override
+	public AnimatableInstanceCache getAnimatableInstanceCache() {
+		return this.cache;
+	}
+
+	@Override
+	public boolean usesBonePoseBuffers() {
+		return this.poseMode == PoseMode.POSE_BUFFER;
+	}
+
+	@Override
+	public boolean usesSharedPoses() {
+		return this.poseMode == PoseMode.SHARED_POSE;
+	}
+
+	@Override
+	public double getTick(Object object) {
+		return 0;
+	}
+
+	public enum PoseMode {
+		/**
+		 * Poses are written directly to the model's bones
+		 */
+		BONES,
+		/**
+		 * Poses are written to each animatable's own {@link mod.azure.azurelib.core.state.BonePoseBuffer BonePoseBuffer}
+		 */
+		POSE_BUFFER,
+		/**
+		 * Poses are written to each animatable's own pose buffer, and shared through the {@link mod.azure.azurelib.core.state.SharedPoseCache SharedPoseCache}
+		 */
+		SHARED_POSE
+	}
+}
@@ -0,0 +1,90 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import mod.azure.azurelib.core.animation.EasingCurves;
+import mod.azure.azurelib.core.animation.EasingType;
+import mod.azure.azurelib.core.keyframe.AnimationPoint;
+import mod.azure.azurelib.core.keyframe.Keyframe;
+import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.IValue;
+
+/**
+ * Measures easing throughput across a keyframe's full transition.<br>
+ * {@link EasingBenchmark#lerpWithOverride} uses the curve baked into the keyframe, optionally as a lookup table,
+ * and {@link EasingBenchmark#buildTransformer} builds the easing transformer on each evaluation as {@link EasingType#apply(AnimationPoint)} does
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class EasingBenchmark {
+	private static final int SAMPLES = 1024;
+
+	@Param({"linear", "easeinoutsine", "easeinoutcubic", "easeoutbounce", "easeinoutelastic", "catmullrom"})
+	public String easing;
+
+	@Param({"false", "true"})
+	public boolean lookupTables;
+
+	private final AnimationPoint[] points = new AnimationPoint[SAMPLES];
+	private EasingType easingType;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		EasingCurves.setUseLookupTables(this.lookupTables);
+
+		this.easingType = EasingType.fromString(this.easing);
+		Keyframe<IValue> keyframe = new Keyframe<>(20, new Constant(-1), new Constant(1), this.easingType);
+
+		for (int i = 0; i < SAMPLES; i++) {
+			this.points[i] = new AnimationPoint(keyframe, i * 20d / SAMPLES, 20, -1, 1);
+		}
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		EasingCurves.setUseLookupTables(false);
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public double lerpWithOverride() {
+		double total = 0;
+
+		for (AnimationPoint point : this.points) {
+			total += EasingType.lerpWithOverride(point, null);
+		}
+
+		return total;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(SAMPLES)
+	public double buildTransformer() {
+		double total = 0;
+
+		for (AnimationPoint point : this.points) {
+			total += this.easingType.apply(point);
+		}
+
+		return total;
+	}
+}
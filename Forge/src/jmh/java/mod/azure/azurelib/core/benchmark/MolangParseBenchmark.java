@@ -0,0 +1,65 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import mod.azure.azurelib.core.molang.MolangParser;
+
+/**
+ * Measures parse throughput over a set of {@link BenchmarkExpressions generated} keyframe Molang expressions.<br>
+ * {@link MolangParseBenchmark#tokenize} and {@link MolangParseBenchmark#legacyBreakdown} compare the single-pass tokenizer against the previous regex-based breakdown,
+ * and {@link MolangParseBenchmark#parseExpressions} covers the full parse as done when animations are baked
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class MolangParseBenchmark {
+	@Param({"2000"})
+	public int expressionCount;
+
+	private List<String> expressions;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.expressions = BenchmarkExpressions.generate(this.expressionCount, 1337);
+	}
+
+	@Benchmark
+	public void tokenize(Blackhole blackhole) throws Exception {
+		for (String expression : this.expressions) {
+			blackhole.consume(MolangParser.INSTANCE.tokenize(expression));
+		}
+	}
+
+	@Benchmark
+	@SuppressWarnings("deprecation")
+	public void legacyBreakdown(Blackhole blackhole) throws Exception {
+		for (String expression : this.expressions) {
+			blackhole.consume(MolangParser.INSTANCE.breakdownChars(MolangParser.INSTANCE.breakdown(expression)));
+		}
+	}
+
+	@Benchmark
+	public void parseExpressions(Blackhole blackhole) throws Exception {
+		for (String expression : this.expressions) {
+			blackhole.consume(MolangParser.parseExpression(expression));
+		}
+	}
+}
@@ -3,14 +3,11 @@ package mod.azure.azurelib.animatable;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraftforge.network.PacketDistributor;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animation.AnimatableManager;
-import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.SerializableDataTicket;
-import mod.azure.azurelib.network.packet.BlockEntityAnimDataSyncPacket;
-import mod.azure.azurelib.network.packet.BlockEntityAnimTriggerPacket;
 import mod.azure.azurelib.util.RenderUtils;
 
 import javax.annotation.Nullable;
@@ -54,7 +51,7 @@ public interface GeoBlockEntity extends GeoAnimatable {
 		else {
 			BlockPos pos = blockEntity.getBlockPos();
 
-			AzureLibNetwork.send(new BlockEntityAnimDataSyncPacket<>(pos, dataTicket, data), PacketDistributor.TRACKING_CHUNK.with(() -> level.getChunkAt(pos)));
+			AnimSyncBatcher.queueBlockEntityData(level, pos, dataTicket, data);
 		}
 	}
 
@@ -80,7 +77,7 @@ public interface GeoBlockEntity extends GeoAnimatable {
 		else {
 			BlockPos pos = blockEntity.getBlockPos();
 
-			AzureLibNetwork.send(new BlockEntityAnimTriggerPacket<>(pos, controllerName, animName), PacketDistributor.TRACKING_CHUNK.with(() -> level.getChunkAt(pos)));
+			AnimSyncBatcher.queueBlockEntityTrigger(level, pos, controllerName, animName);
 		}
 	}
 
@@ -9,6 +9,7 @@ import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animatable.instance.AnimatableInstanceCache;
 import mod.azure.azurelib.core.animatable.instance.SingletonAnimatableInstanceCache;
 import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.network.AnimSyncBatcher;
 import mod.azure.azurelib.network.AzureLibNetwork;
 import mod.azure.azurelib.network.SerializableDataTicket;
 import mod.azure.azurelib.network.packet.AnimDataSyncPacket;
@@ -55,7 +56,7 @@ public interface SingletonGeoAnimatable extends GeoAnimatable {
 		if (relatedEntity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(instanceId).setData(dataTicket, data);
 		} else {
-			syncAnimData(instanceId, dataTicket, data, PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> relatedEntity));
+			AnimSyncBatcher.queueSingletonData(relatedEntity, getClass().toString(), instanceId, dataTicket, data);
 		}
 	}
 
@@ -87,7 +88,7 @@ public interface SingletonGeoAnimatable extends GeoAnimatable {
 		if (relatedEntity.level().isClientSide()) {
 			getAnimatableInstanceCache().getManagerForId(instanceId).tryTriggerAnimation(controllerName, animName);
 		} else {
-			AzureLibNetwork.send(new AnimTriggerPacket<>(getClass().toString(), instanceId, controllerName, animName), PacketDistributor.TRACKING_ENTITY_AND_SELF.with(() -> relatedEntity));
+			AnimSyncBatcher.queueSingletonTrigger(relatedEntity, getClass().toString(), instanceId, controllerName, animName);
 		}
 	}
 
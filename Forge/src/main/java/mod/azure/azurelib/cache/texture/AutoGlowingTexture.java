@@ -1,8 +1,13 @@
 package mod.azure.azurelib.cache.texture;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 
 import org.jetbrains.annotations.Nullable;
@@ -85,6 +90,30 @@ public class AutoGlowingTexture extends GeoAbstractTexture {
 			throw new IOException("Failed to load original texture: " + this.textureBase, e);
 		}
 
+		return createGlowLayer(resourceManager, originalTexture);
+	}
+
+	/**
+	 * Generates the glow layer on the given executor, only completing once the original texture has also finished loading,
+	 * so that the modified base texture isn't overwritten by the original texture's own upload
+	 */
+	@Override
+	protected CompletableFuture<RenderCall> loadTextureAsync(ResourceManager resourceManager, Minecraft mc, Executor executor) {
+		AbstractTexture originalTexture = mc.getTextureManager().getTexture(this.textureBase);
+		CompletableFuture<Void> originalTextureLoad = originalTexture instanceof AnimatableTexture animatableTexture ? animatableTexture.getLoadFuture() : CompletableFuture.completedFuture(null);
+
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				return createGlowLayer(resourceManager, originalTexture);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to generate glowlayer for: " + this.textureBase, ex);
+			}
+		}, executor).thenCombine(originalTextureLoad, (renderCall, loaded) -> renderCall);
+	}
+
+	@Nullable
+	private RenderCall createGlowLayer(ResourceManager resourceManager, AbstractTexture originalTexture) throws IOException {
 		Resource textureBaseResource = resourceManager.getResource(this.textureBase).get();
 		NativeImage baseImage = originalTexture instanceof DynamicTexture dynamicTexture ? dynamicTexture.getPixels() : NativeImage.read(textureBaseResource.open());
 		NativeImage glowImage = null;
@@ -136,6 +165,21 @@ public class AutoGlowingTexture extends GeoAbstractTexture {
 		};
 	}
 
+	/**
+	 * Start generating the glow layers for the given textures ahead of time, so that they are ready by the time they are first rendered.<br>
+	 * Can be called from any thread, with the generation itself started on the render thread and run on a background executor
+	 * @see AnimatableTexture#prewarm
+	 */
+	public static void prewarm(Collection<ResourceLocation> textures) {
+		List<ResourceLocation> texturesToLoad = List.copyOf(textures);
+
+		GeoAbstractTexture.prewarm(() -> {
+			for (ResourceLocation texture : texturesToLoad) {
+				getEmissiveResource(texture);
+			}
+		});
+	}
+
 	/**
 	 * Return a cached instance of the RenderType for the given texture for GeoGlowingLayer rendering.
 	 * 
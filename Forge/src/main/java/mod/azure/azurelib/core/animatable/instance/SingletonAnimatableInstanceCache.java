@@ -1,18 +1,46 @@
 package mod.azure.azurelib.core.animatable.instance;
 
+import java.util.concurrent.TimeUnit;
+
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
-import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animation.AnimatableManager;
 
 /**
- * AnimatableInstanceCache implementation for singleton/flyweight objects such as Items. Utilises a keyed map to differentiate different instances of the object.
+ * AnimatableInstanceCache implementation for singleton/flyweight objects such as Items. Utilises a keyed map to differentiate different instances of the object.<br>
+ * Because instance ids are handed out for the lifetime of a world, managers are evicted once the cache holds more than its maximum number of instances
+ * (least recently used first), or once they haven't been used for longer than the idle timeout.
+ * An evicted instance is given a new manager if it is used again.
  */
 public class SingletonAnimatableInstanceCache extends AnimatableInstanceCache {
-	protected final Long2ObjectMap<AnimatableManager<?>> managers = new Long2ObjectOpenHashMap<>();
+	public static final int DEFAULT_MAX_INSTANCES = 512;
+	public static final long DEFAULT_IDLE_TIMEOUT = TimeUnit.MINUTES.toMillis(10);
+
+	private final Long2ObjectLinkedOpenHashMap<AnimatableManager<?>> accessOrderedManagers = new Long2ObjectLinkedOpenHashMap<>();
+	protected final Long2ObjectMap<AnimatableManager<?>> managers = this.accessOrderedManagers;
+	protected final Long2LongOpenHashMap lastAccessTimes = new Long2LongOpenHashMap();
+	protected final int maxInstances;
+	protected final long idleTimeout;
+
+	private long capacityEvictions = 0;
+	private long idleEvictions = 0;
 
 	public SingletonAnimatableInstanceCache(GeoAnimatable animatable) {
+		this(animatable, DEFAULT_MAX_INSTANCES, DEFAULT_IDLE_TIMEOUT);
+	}
+
+	/**
+	 * @param animatable The animatable this cache is for
+	 * @param maxInstances The maximum number of instances to keep managers for, or 0 for no limit
+	 * @param idleTimeout The time (in milliseconds) an instance's manager is kept for after it was last used, or 0 to keep it indefinitely
+	 */
+	public SingletonAnimatableInstanceCache(GeoAnimatable animatable, int maxInstances, long idleTimeout) {
 		super(animatable);
+
+		this.maxInstances = maxInstances;
+		this.idleTimeout = idleTimeout;
 	}
 
 	/**
@@ -21,9 +49,78 @@ public class SingletonAnimatableInstanceCache extends AnimatableInstanceCache {
 	 */
 	@Override
 	public AnimatableManager<?> getManagerForId(long uniqueId) {
-		if (!this.managers.containsKey(uniqueId))
-			this.managers.put(uniqueId, new AnimatableManager<>(this.animatable));
+		long time = System.currentTimeMillis();
+		AnimatableManager<?> manager = this.accessOrderedManagers.getAndMoveToLast(uniqueId);
+
+		if (manager == null) {
+			manager = createManager(uniqueId);
+
+			this.managers.put(uniqueId, manager);
+		}
+
+		this.lastAccessTimes.put(uniqueId, time);
+		evictManagers(time);
+
+		return manager;
+	}
+
+	/**
+	 * Create a new {@link AnimatableManager} for the given instance id
+	 */
+	protected AnimatableManager<?> createManager(long uniqueId) {
+		return new AnimatableManager<>(this.animatable);
+	}
+
+	/**
+	 * Evict the least recently used managers until the cache is within its size limit, then evict any managers that have passed the idle timeout.<br>
+	 * Managers are kept in access order, so this only needs to check the oldest entries
+	 */
+	protected void evictManagers(long time) {
+		if (this.maxInstances > 0) {
+			while (this.managers.size() > this.maxInstances) {
+				evictManager(this.accessOrderedManagers.firstLongKey());
+
+				this.capacityEvictions++;
+			}
+		}
+
+		if (this.idleTimeout > 0) {
+			while (!this.managers.isEmpty()) {
+				long uniqueId = this.accessOrderedManagers.firstLongKey();
+
+				if (time - this.lastAccessTimes.get(uniqueId) < this.idleTimeout)
+					break;
+
+				evictManager(uniqueId);
 
-		return this.managers.get(uniqueId);
+				this.idleEvictions++;
+			}
+		}
+	}
+
+	private void evictManager(long uniqueId) {
+		this.managers.remove(uniqueId);
+		this.lastAccessTimes.remove(uniqueId);
+	}
+
+	/**
+	 * Get the number of instances this cache currently holds managers for
+	 */
+	public int getInstanceCount() {
+		return this.managers.size();
+	}
+
+	/**
+	 * Get the number of managers evicted for exceeding the maximum number of instances
+	 */
+	public long getCapacityEvictionCount() {
+		return this.capacityEvictions;
+	}
+
+	/**
+	 * Get the number of managers evicted for passing the idle timeout
+	 */
+	public long getIdleEvictionCount() {
+		return this.idleEvictions;
 	}
-}
\ No newline at end of file
+}
@@ -64,4 +64,14 @@ public interface CoreGeoModel<E extends GeoAnimatable> {
 	 * @param animTime The internal tick counter kept by the {@link mod.azure.azurelib.core.animation.AnimatableManager manager} for this animatable
 	 */
 	default void applyMolangQueries(E animatable, double animTime) {}
+
+	/**
+	 * Whether the poses computed for the given animatable can be shared with other animatables through the
+	 * {@link mod.azure.azurelib.core.state.SharedPoseCache SharedPoseCache}.<br>
+	 * Should return false if the animatable's animations may depend on per-instance Molang queries or variables
+	 * @param animatable The {@code GeoAnimatable} instance currently being rendered, which {@link GeoAnimatable#usesSharedPoses() uses shared poses}
+	 */
+	default boolean canSharePoses(E animatable) {
+		return true;
+	}
 }
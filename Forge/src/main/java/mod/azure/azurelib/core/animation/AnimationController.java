@@ -19,10 +19,10 @@ import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
 import mod.azure.azurelib.core.animatable.model.CoreGeoModel;
 import mod.azure.azurelib.core.keyframe.AnimationPoint;
+import mod.azure.azurelib.core.keyframe.AnimationPointQueue;
 import mod.azure.azurelib.core.keyframe.BoneAnimation;
 import mod.azure.azurelib.core.keyframe.BoneAnimationQueue;
 import mod.azure.azurelib.core.keyframe.Keyframe;
-import mod.azure.azurelib.core.keyframe.KeyframeLocation;
 import mod.azure.azurelib.core.keyframe.KeyframeStack;
 import mod.azure.azurelib.core.keyframe.event.CustomInstructionKeyframeEvent;
 import mod.azure.azurelib.core.keyframe.event.ParticleKeyframeEvent;
@@ -33,6 +33,7 @@ import mod.azure.azurelib.core.keyframe.event.data.ParticleKeyframeData;
 import mod.azure.azurelib.core.keyframe.event.data.SoundKeyframeData;
 import mod.azure.azurelib.core.math.Constant;
 import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.molang.MolangContext;
 import mod.azure.azurelib.core.molang.MolangParser;
 import mod.azure.azurelib.core.molang.MolangQueries;
 import mod.azure.azurelib.core.object.Axis;
@@ -57,6 +58,7 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected boolean shouldResetTick = false;
 	private boolean justStopped = true;
 	protected boolean justStartedTransition = false;
+	protected boolean skipBoneEvaluation = false;
 
 	protected SoundKeyframeHandler<T> soundKeyframeHandler = null;
 	protected ParticleKeyframeHandler<T> particleKeyframeHandler = null;
@@ -74,6 +76,9 @@ public class AnimationController<T extends GeoAnimatable> {
 	protected Function<T, Double> animationSpeedModifier = animatable -> 1d;
 	protected Function<T, EasingType> overrideEasingTypeFunction = animatable -> null;
 	private final Set<KeyFrameData> executedKeyFrames = new ObjectOpenHashSet<>();
+	private final AnimationPoint pointX = new AnimationPoint();
+	private final AnimationPoint pointY = new AnimationPoint();
+	private final AnimationPoint pointZ = new AnimationPoint();
 	protected CoreGeoModel<T> lastModel;
 
 	/**
@@ -459,8 +464,10 @@ public class AnimationController<T extends GeoAnimatable> {
 				saveSnapshotsForAnimation(this.currentAnimation, snapshots);
 			}
 
-			if (this.currentAnimation != null) {
-				MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, () -> 0);
+			if (this.currentAnimation != null && !this.skipBoneEvaluation) {
+				MolangContext molangContext = MolangContext.get();
+
+				MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, 0);
 
 				for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
 					BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
@@ -474,29 +481,32 @@ public class AnimationController<T extends GeoAnimatable> {
 						continue;
 					}
 
+					if (model.getAnimationProcessor().isBoneAnimationSkipped(bone))
+						continue;
+
 					KeyframeStack<Keyframe<IValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
 					KeyframeStack<Keyframe<IValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
 					KeyframeStack<Keyframe<IValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
 					if (!rotationKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextRotation(null, adjustedTick, this.transitionLength, boneSnapshot, bone.getInitialSnapshot(),
-								getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), 0, true, Axis.X),
-								getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), 0, true, Axis.Y),
-								getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), 0, true, Axis.Z));
+								getAnimationPointAtTick(rotationKeyFrames, Axis.X, 0, true, boneAnimationQueue.rotationXQueue(), this.pointX, molangContext),
+								getAnimationPointAtTick(rotationKeyFrames, Axis.Y, 0, true, boneAnimationQueue.rotationYQueue(), this.pointY, molangContext),
+								getAnimationPointAtTick(rotationKeyFrames, Axis.Z, 0, true, boneAnimationQueue.rotationZQueue(), this.pointZ, molangContext));
 					}
 
 					if (!positionKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextPosition(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(positionKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(positionKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(positionKeyFrames.zKeyframes(), 0, false, Axis.Z));
+								getAnimationPointAtTick(positionKeyFrames, Axis.X, 0, false, boneAnimationQueue.positionXQueue(), this.pointX, molangContext),
+								getAnimationPointAtTick(positionKeyFrames, Axis.Y, 0, false, boneAnimationQueue.positionYQueue(), this.pointY, molangContext),
+								getAnimationPointAtTick(positionKeyFrames, Axis.Z, 0, false, boneAnimationQueue.positionZQueue(), this.pointZ, molangContext));
 					}
 
 					if (!scaleKeyFrames.xKeyframes().isEmpty()) {
 						boneAnimationQueue.addNextScale(null, adjustedTick, this.transitionLength, boneSnapshot,
-								getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), 0, false, Axis.X),
-								getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), 0, false, Axis.Y),
-								getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), 0, false, Axis.Z));
+								getAnimationPointAtTick(scaleKeyFrames, Axis.X, 0, false, boneAnimationQueue.scaleXQueue(), this.pointX, molangContext),
+								getAnimationPointAtTick(scaleKeyFrames, Axis.Y, 0, false, boneAnimationQueue.scaleYQueue(), this.pointY, molangContext),
+								getAnimationPointAtTick(scaleKeyFrames, Axis.Z, 0, false, boneAnimationQueue.scaleZQueue(), this.pointZ, molangContext));
 					}
 				}
 			}
@@ -537,43 +547,48 @@ public class AnimationController<T extends GeoAnimatable> {
 			}
 		}
 
-		final double finalAdjustedTick = adjustedTick;
+		MolangParser.INSTANCE.setValue(MolangQueries.ANIM_TIME, adjustedTick / 20d);
 
-		MolangParser.INSTANCE.setMemoizedValue(MolangQueries.ANIM_TIME, () -> finalAdjustedTick / 20d);
+		if (!this.skipBoneEvaluation) {
+			MolangContext molangContext = MolangContext.get();
 
-		for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
-			BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
+			for (BoneAnimation boneAnimation : this.currentAnimation.animation().boneAnimations()) {
+				BoneAnimationQueue boneAnimationQueue = this.boneAnimationQueues.get(boneAnimation.boneName());
 
-			if (boneAnimationQueue == null) {
-				if (crashWhenCantFindBone)
-					throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
+				if (boneAnimationQueue == null) {
+					if (crashWhenCantFindBone)
+						throw new RuntimeException("Could not find bone: " + boneAnimation.boneName());
 
-				continue;
-			}
+					continue;
+				}
 
-			KeyframeStack<Keyframe<IValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
-			KeyframeStack<Keyframe<IValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
-			KeyframeStack<Keyframe<IValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
+				if (this.lastModel.getAnimationProcessor().isBoneAnimationSkipped(boneAnimationQueue.bone()))
+					continue;
 
-			if (!rotationKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addRotations(
-						getAnimationPointAtTick(rotationKeyFrames.xKeyframes(), adjustedTick, true, Axis.X),
-						getAnimationPointAtTick(rotationKeyFrames.yKeyframes(), adjustedTick, true, Axis.Y),
-						getAnimationPointAtTick(rotationKeyFrames.zKeyframes(), adjustedTick, true, Axis.Z));
-			}
+				KeyframeStack<Keyframe<IValue>> rotationKeyFrames = boneAnimation.rotationKeyFrames();
+				KeyframeStack<Keyframe<IValue>> positionKeyFrames = boneAnimation.positionKeyFrames();
+				KeyframeStack<Keyframe<IValue>> scaleKeyFrames = boneAnimation.scaleKeyFrames();
 
-			if (!positionKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addPositions(
-						getAnimationPointAtTick(positionKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(positionKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(positionKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
-			}
+				if (!rotationKeyFrames.xKeyframes().isEmpty()) {
+					boneAnimationQueue.addRotations(
+							getAnimationPointAtTick(rotationKeyFrames, Axis.X, adjustedTick, true, boneAnimationQueue.rotationXQueue(), this.pointX, molangContext),
+							getAnimationPointAtTick(rotationKeyFrames, Axis.Y, adjustedTick, true, boneAnimationQueue.rotationYQueue(), this.pointY, molangContext),
+							getAnimationPointAtTick(rotationKeyFrames, Axis.Z, adjustedTick, true, boneAnimationQueue.rotationZQueue(), this.pointZ, molangContext));
+				}
+
+				if (!positionKeyFrames.xKeyframes().isEmpty()) {
+					boneAnimationQueue.addPositions(
+							getAnimationPointAtTick(positionKeyFrames, Axis.X, adjustedTick, false, boneAnimationQueue.positionXQueue(), this.pointX, molangContext),
+							getAnimationPointAtTick(positionKeyFrames, Axis.Y, adjustedTick, false, boneAnimationQueue.positionYQueue(), this.pointY, molangContext),
+							getAnimationPointAtTick(positionKeyFrames, Axis.Z, adjustedTick, false, boneAnimationQueue.positionZQueue(), this.pointZ, molangContext));
+				}
 
-			if (!scaleKeyFrames.xKeyframes().isEmpty()) {
-				boneAnimationQueue.addScales(
-						getAnimationPointAtTick(scaleKeyFrames.xKeyframes(), adjustedTick, false, Axis.X),
-						getAnimationPointAtTick(scaleKeyFrames.yKeyframes(), adjustedTick, false, Axis.Y),
-						getAnimationPointAtTick(scaleKeyFrames.zKeyframes(), adjustedTick, false, Axis.Z));
+				if (!scaleKeyFrames.xKeyframes().isEmpty()) {
+					boneAnimationQueue.addScales(
+							getAnimationPointAtTick(scaleKeyFrames, Axis.X, adjustedTick, false, boneAnimationQueue.scaleXQueue(), this.pointX, molangContext),
+							getAnimationPointAtTick(scaleKeyFrames, Axis.Y, adjustedTick, false, boneAnimationQueue.scaleYQueue(), this.pointY, molangContext),
+							getAnimationPointAtTick(scaleKeyFrames, Axis.Z, adjustedTick, false, boneAnimationQueue.scaleZQueue(), this.pointZ, molangContext));
+				}
 			}
 		}
 
@@ -620,14 +635,23 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Prepare the {@link BoneAnimationQueue} map for the current render frame
+	 * Prepare the {@link BoneAnimationQueue} map for the current render frame.<br>
+	 * Existing queues are cleared and re-used, and are only rebuilt if the bones they belong to have changed
 	 * @param modelRendererList The bone list from the {@link AnimationProcessor}
 	 */
 	private void createInitialQueues(Collection<CoreGeoBone> modelRendererList) {
-		this.boneAnimationQueues.clear();
+		if (this.boneAnimationQueues.size() != modelRendererList.size())
+			this.boneAnimationQueues.clear();
 
 		for (CoreGeoBone modelRenderer : modelRendererList) {
-			this.boneAnimationQueues.put(modelRenderer.getName(), new BoneAnimationQueue(modelRenderer));
+			BoneAnimationQueue queue = this.boneAnimationQueues.get(modelRenderer.getName());
+
+			if (queue == null || queue.bone() != modelRenderer) {
+				this.boneAnimationQueues.put(modelRenderer.getName(), new BoneAnimationQueue(modelRenderer));
+			}
+			else {
+				queue.clear();
+			}
 		}
 	}
 
@@ -651,6 +675,27 @@ public class AnimationController<T extends GeoAnimatable> {
 		}
 	}
 
+	/**
+	 * Get the tick this controller's current animation would be evaluated at for the given seek time,
+	 * if the controller is steadily playing its animation.<br>
+	 * Used to determine whether multiple animatables are in the same animation state
+	 * @param seekTime The current tick + partial tick
+	 * @return The adjusted animation tick, or -1 if the controller is stopped, transitioning, or about to restart its animation
+	 */
+	public double getSteadyAnimationTick(double seekTime) {
+		if (this.animationState != State.RUNNING || this.currentAnimation == null || this.shouldResetTick || this.needsAnimationReload)
+			return -1;
+
+		return adjustTick(seekTime);
+	}
+
+	/**
+	 * Get the {@link EasingType} this controller currently overrides its keyframes' easings with, or null if not overriding
+	 */
+	public EasingType getOverrideEasingType() {
+		return this.overrideEasingTypeFunction.apply(this.animatable);
+	}
+
 	/**
 	 * Adjust a tick value depending on the controller's current state and speed modifier.<br>
 	 * Is used when starting a new animation, transitioning, and a few other key areas
@@ -670,14 +715,36 @@ public class AnimationController<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Convert a {@link KeyframeLocation} to an {@link AnimationPoint}
+	 * Compute the {@link AnimationPoint} for the {@link Keyframe} relevant to the current tick time
+	 * @param keyframes The {@code KeyframeStack} to find the current {@code Keyframe} in
+	 * @param axis The axis of the {@code KeyframeStack} to use
+	 * @param tick The current tick time
+	 * @param queue The point queue the point is for, holding the keyframe cursor for the lookup
+	 * @param point The point to write the computed values into
+	 * @param molangContext The {@link MolangContext} to evaluate the keyframe values in
+	 * @return The provided point, for easy chaining
 	 */
-	private AnimationPoint getAnimationPointAtTick(List<Keyframe<IValue>> frames, double tick, boolean isRotation,
-												   Axis axis) {
-		KeyframeLocation<Keyframe<IValue>> location = getCurrentKeyFrameLocation(frames, tick);
-		Keyframe<IValue> currentFrame = location.keyframe();
-		double startValue = currentFrame.startValue().get();
-		double endValue = currentFrame.endValue().get();
+	private AnimationPoint getAnimationPointAtTick(KeyframeStack<Keyframe<IValue>> keyframes, Axis axis, double tick, boolean isRotation,
+												   AnimationPointQueue queue, AnimationPoint point, MolangContext molangContext) {
+		List<Keyframe<IValue>> frames = keyframes.getKeyframes(axis);
+		double[] endTimes = keyframes.getKeyframeEndTimes(axis);
+		int index = KeyframeStack.findKeyframeIndex(endTimes, tick, queue.getKeyframeCursor());
+		Keyframe<IValue> currentFrame;
+		double frameTick;
+
+		if (index < endTimes.length) {
+			currentFrame = frames.get(index);
+			frameTick = tick - (endTimes[index] - currentFrame.length());
+
+			queue.setKeyframeCursor(index);
+		}
+		else {
+			currentFrame = frames.get(frames.size() - 1);
+			frameTick = tick;
+		}
+
+		double startValue = currentFrame.startValue().get(molangContext);
+		double endValue = currentFrame.endValue().get(molangContext);
 
 		if (isRotation) {
 			if (!(currentFrame.startValue() instanceof Constant)) {
@@ -695,27 +762,7 @@ public class AnimationController<T extends GeoAnimatable> {
 			}
 		}
 
-		return new AnimationPoint(currentFrame, location.startTick(), currentFrame.length(), startValue, endValue);
-	}
-
-	/**
-	 * Returns the {@link Keyframe} relevant to the current tick time
-	 * @param frames The list of {@code KeyFrames} to filter through
-	 * @param ageInTicks The current tick time
-	 * @return A new {@code KeyFrameLocation} containing the current {@code KeyFrame} and the tick time used to find it
-	 */
-	private KeyframeLocation<Keyframe<IValue>> getCurrentKeyFrameLocation(List<Keyframe<IValue>> frames,
-																		  double ageInTicks) {
-		double totalFrameTime = 0;
-
-		for (Keyframe<IValue> frame : frames) {
-			totalFrameTime += frame.length();
-
-			if (totalFrameTime > ageInTicks)
-				return new KeyframeLocation<>(frame, (ageInTicks - (totalFrameTime - frame.length())));
-		}
-
-		return new KeyframeLocation<>(frames.get(frames.size() - 1), ageInTicks);
+		return point.set(currentFrame, frameTick, currentFrame.length(), startValue, endValue);
 	}
 
 	/**
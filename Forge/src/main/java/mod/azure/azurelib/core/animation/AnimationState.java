@@ -1,8 +1,8 @@
 package mod.azure.azurelib.core.animation;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.object.DataTicket;
+import mod.azure.azurelib.core.object.DataTicketStore;
 import mod.azure.azurelib.core.object.PlayState;
 
 import java.util.Map;
@@ -19,7 +19,7 @@ public class AnimationState<T extends GeoAnimatable> {
 	private final float limbSwingAmount;
 	private final float partialTick;
 	private final boolean isMoving;
-	private final Map<DataTicket<?>, Object> extraData = new Object2ObjectOpenHashMap<>();
+	private final DataTicketStore extraData = new DataTicketStore();
 
 	protected AnimationController<T> controller;
 	public double animationTick;
@@ -87,11 +87,13 @@ public class AnimationState<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Gets the optional additional data map for the event.<br>
+	 * Gets the optional additional data for the event, as a live map view.<br>
+	 * Data can be read and removed through the map, but new data must be added through {@link AnimationState#setData}.
+	 * Prefer {@link AnimationState#getData} for retrieving individual data values
 	 * @see DataTicket
 	 */
 	public Map<DataTicket<?>, ?> getExtraData() {
-		return this.extraData;
+		return this.extraData.asMap();
 	}
 
 	/**
@@ -101,7 +103,7 @@ public class AnimationState<T extends GeoAnimatable> {
 	 * @return The cached data for the given {@code DataTicket}, or null if not saved
 	 */
 	public <D> D getData(DataTicket<D> dataTicket) {
-		return dataTicket.getData(this.extraData);
+		return this.extraData.get(dataTicket);
 	}
 
 	/**
@@ -110,7 +112,7 @@ public class AnimationState<T extends GeoAnimatable> {
 	 * @param data The data value
 	 */
 	public <D> void setData(DataTicket<D> dataTicket, D data) {
-		this.extraData.put(dataTicket, data);
+		this.extraData.set(dataTicket, data);
 	}
 
 	/**
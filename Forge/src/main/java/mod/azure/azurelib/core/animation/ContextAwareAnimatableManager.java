@@ -1,9 +1,11 @@
 package mod.azure.azurelib.core.animation;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.Nullable;
 
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.object.DataTicket;
 import mod.azure.azurelib.core.state.BoneSnapshot;
@@ -14,27 +16,42 @@ import mod.azure.azurelib.core.state.BoneSnapshot;
  * This relies entirely on data present in {@link AnimatableManager#extraData} saved to this manager to determine context
  */
 public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C> extends AnimatableManager<T> {
+	private static final int MAX_PENDING_TRIGGERS = 8;
+
 	private final Map<C, AnimatableManager<T>> managers;
+	private final List<PendingTrigger> pendingTriggers = new ObjectArrayList<>();
 
 	/**
-	 * Instantiates a new AnimatableManager for the given animatable, calling {@link GeoAnimatable#registerControllers} to define its controllers
+	 * Instantiates a new AnimatableManager for the given animatable.<br>
+	 * The controllers are only defined by the sub-managers for each context, so this manager doesn't call {@link GeoAnimatable#registerControllers} itself
 	 *
 	 * @param animatable
 	 */
 	public ContextAwareAnimatableManager(GeoAnimatable animatable) {
-		super(animatable);
+		super(animatable, false);
 
 		this.managers = buildContextOptions(animatable);
 	}
 
 	/**
 	 * Build the context-manager map for this manager.<br>
-	 * The resulting map <u>MUST</u> contain all possible contexts.
+	 * The resulting map <u>MUST</u> contain all possible contexts, unless {@link ContextAwareAnimatableManager#createManagerForContext} is overridden
+	 * to create the missing managers when they are first used, in which case the map must be mutable.
 	 *
 	 * @param animatable
 	 */
 	protected abstract Map<C, AnimatableManager<T>> buildContextOptions(GeoAnimatable animatable);
 
+	/**
+	 * Create the manager for a context that isn't yet in the context-manager map, the first time it is used.<br>
+	 * The same manager can be returned for multiple contexts, to share their animations.<br>
+	 * Returns null by default, as all contexts are expected to have been built by {@link ContextAwareAnimatableManager#buildContextOptions}
+	 */
+	@Nullable
+	protected AnimatableManager<T> createManagerForContext(C context) {
+		return null;
+	}
+
 	/**
 	 * Get the current context for the manager, to determine which sub-manager to retrieve
 	 */
@@ -44,7 +61,51 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 	 * Get the AnimatableManager for the given context
 	 */
 	public AnimatableManager<T> getManagerForContext(C context) {
-		return this.managers.get(context);
+		AnimatableManager<T> manager = this.managers.get(context);
+
+		if (manager == null) {
+			manager = createManagerForContext(context);
+
+			if (manager != null) {
+				boolean newManager = !this.managers.containsValue(manager);
+
+				this.managers.put(context, manager);
+
+				if (newManager)
+					replayPendingTriggers(manager);
+			}
+		}
+
+		return manager;
+	}
+
+	/**
+	 * Replay the triggers received before the given manager was created, so that contexts that haven't been rendered yet still play them
+	 */
+	private void replayPendingTriggers(AnimatableManager<T> manager) {
+		for (PendingTrigger trigger : this.pendingTriggers) {
+			if (trigger.controllerName == null) {
+				manager.tryTriggerAnimation(trigger.animName);
+			}
+			else {
+				manager.tryTriggerAnimation(trigger.controllerName, trigger.animName);
+			}
+		}
+	}
+
+	/**
+	 * Keep a trigger for replaying on managers created later.<br>
+	 * Only the most recent triggers are kept, as older ones would have been overridden by them anyway
+	 */
+	private void addPendingTrigger(@Nullable String controllerName, String animName) {
+		PendingTrigger trigger = new PendingTrigger(controllerName, animName);
+
+		this.pendingTriggers.remove(trigger);
+
+		if (this.pendingTriggers.size() >= MAX_PENDING_TRIGGERS)
+			this.pendingTriggers.remove(0);
+
+		this.pendingTriggers.add(trigger);
 	}
 
 	/**
@@ -105,6 +166,9 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 	 * @param animName The name of animation to trigger. This needs to have been registered with the controller via {@link AnimationController#triggerableAnim AnimationController.triggerableAnim}
 	 */
 	public void tryTriggerAnimation(String animName) {
+		addPendingTrigger(null, animName);
+
+		// A manager shared between multiple contexts is triggered once per context, which is harmless as re-triggering the same animation changes nothing
 		for (AnimatableManager<T> manager : this.managers.values()) {
 			manager.tryTriggerAnimation(animName);
 		}
@@ -116,6 +180,8 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 	 * @param animName The name of animation to trigger. This needs to have been registered with the controller via {@link AnimationController#triggerableAnim AnimationController.triggerableAnim}
 	 */
 	public void tryTriggerAnimation(String controllerName, String animName) {
+		addPendingTrigger(controllerName, animName);
+
 		for (AnimatableManager<T> manager : this.managers.values()) {
 			manager.tryTriggerAnimation(controllerName, animName);
 		}
@@ -139,4 +205,11 @@ public abstract class ContextAwareAnimatableManager<T extends GeoAnimatable, C>
 	public <D> D getData(DataTicket<D> dataTicket) {
 		return super.getData(dataTicket);
 	}
+
+	/**
+	 * A trigger received by this manager, kept for managers that are created after it
+	 * @param controllerName The name of the controller the trigger is for, or null if it is for the first controller that accepts it
+	 * @param animName The name of the triggered animation
+	 */
+	private record PendingTrigger(@Nullable String controllerName, String animName) {}
 }
@@ -0,0 +1,140 @@
+package mod.azure.azurelib.core.animation;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.doubles.Double2DoubleFunction;
+import mod.azure.azurelib.core.keyframe.AnimationPoint;
+import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.utils.Interpolations;
+
+/**
+ * Bakes {@link EasingType EasingTypes} into reusable curves, bound to their easing argument.<br>
+ * {@link EasingType#buildTransformer} constructs a new curve each time it is called, so keyframes with constant easing arguments
+ * bake their curve once when they are created (see {@link mod.azure.azurelib.core.keyframe.Keyframe#easingCurve() Keyframe.easingCurve}),
+ * and re-use it for every evaluation. Identical curves are shared between keyframes.<br>
+ * <br>
+ * The back, elastic, and bounce curves can optionally be baked into high-resolution lookup tables, trading a small amount of precision for speed.
+ * This only applies to curves baked after it has been enabled, so it should be set before resources are loaded.
+ */
+public final class EasingCurves {
+	/**
+	 * The number of intervals sampled across the {@code 0-1} range for lookup table curves
+	 */
+	public static final int LOOKUP_TABLE_SIZE = 1024;
+
+	private static final Map<CurveKey, Double2DoubleFunction> CURVES = new ConcurrentHashMap<>();
+	private static final Map<EasingType, Boolean> BAKEABLE_TYPES = new ConcurrentHashMap<>();
+	private static final Set<EasingType> LOOKUP_TABLE_TYPES = Set.of(
+			EasingType.EASE_IN_BACK, EasingType.EASE_OUT_BACK, EasingType.EASE_IN_OUT_BACK,
+			EasingType.EASE_IN_ELASTIC, EasingType.EASE_OUT_ELASTIC, EasingType.EASE_IN_OUT_ELASTIC,
+			EasingType.EASE_IN_BOUNCE, EasingType.EASE_OUT_BOUNCE, EasingType.EASE_IN_OUT_BOUNCE);
+
+	private static volatile boolean useLookupTables = false;
+
+	private EasingCurves() {}
+
+	/**
+	 * Set whether the back, elastic, and bounce easing curves should be baked into lookup tables.<br>
+	 * Only affects keyframes created after this is called
+	 */
+	public static void setUseLookupTables(boolean useLookupTables) {
+		EasingCurves.useLookupTables = useLookupTables;
+
+		CURVES.clear();
+	}
+
+	public static boolean usesLookupTables() {
+		return useLookupTables;
+	}
+
+	/**
+	 * Bake the curve for the given easing type and its keyframe arguments
+	 * @param easingType The keyframe's easing type
+	 * @param easingArgs The keyframe's easing arguments
+	 * @return The baked curve, or null if the curve can't be baked ahead of time,
+	 * either because the arguments aren't constant or because the easing type overrides how it is applied
+	 */
+	@Nullable
+	public static Double2DoubleFunction bake(EasingType easingType, List<? extends IValue> easingArgs) {
+		if (easingType == null || !isBakeable(easingType))
+			return null;
+
+		Double easingValue = null;
+
+		if (!easingArgs.isEmpty()) {
+			if (!(easingArgs.get(0) instanceof Constant constant))
+				return null;
+
+			easingValue = constant.get();
+		}
+
+		Double value = easingValue;
+
+		return CURVES.computeIfAbsent(new CurveKey(easingType, value), key -> {
+			Double2DoubleFunction curve = easingType.buildTransformer(value);
+
+			return useLookupTables && LOOKUP_TABLE_TYPES.contains(easingType) ? new LookupTableCurve(curve) : curve;
+		});
+	}
+
+	/**
+	 * Apply a baked curve to the given {@link AnimationPoint}, equivalent to {@link EasingType#apply(AnimationPoint)}
+	 */
+	public static double apply(AnimationPoint animationPoint, Double2DoubleFunction curve) {
+		if (animationPoint.currentTick() >= animationPoint.transitionLength())
+			return (float)animationPoint.animationEndValue();
+
+		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), curve.get(animationPoint.currentTick() / animationPoint.transitionLength()));
+	}
+
+	/**
+	 * Custom easing types may override how they are applied, in which case evaluating their transformer directly would skip that logic
+	 */
+	private static boolean isBakeable(EasingType easingType) {
+		return BAKEABLE_TYPES.computeIfAbsent(easingType, type -> {
+			try {
+				return type.getClass().getMethod("apply", AnimationPoint.class).getDeclaringClass() == EasingType.class &&
+						type.getClass().getMethod("apply", AnimationPoint.class, Double.class, double.class).getDeclaringClass() == EasingType.class;
+			}
+			catch (NoSuchMethodException ex) {
+				return false;
+			}
+		});
+	}
+
+	private record CurveKey(EasingType easingType, Double value) {}
+
+	/**
+	 * A curve sampled at {@link EasingCurves#LOOKUP_TABLE_SIZE} intervals across the {@code 0-1} range, linearly interpolating between samples.<br>
+	 * Inputs outside that range are evaluated by the original curve
+	 */
+	private static final class LookupTableCurve implements Double2DoubleFunction {
+		private final Double2DoubleFunction curve;
+		private final double[] samples = new double[LOOKUP_TABLE_SIZE + 1];
+
+		private LookupTableCurve(Double2DoubleFunction curve) {
+			this.curve = curve;
+
+			for (int i = 0; i <= LOOKUP_TABLE_SIZE; i++) {
+				this.samples[i] = curve.get(i / (double)LOOKUP_TABLE_SIZE);
+			}
+		}
+
+		@Override
+		public double get(double time) {
+			if (!(time >= 0 && time < 1))
+				return this.curve.get(time);
+
+			double position = time * LOOKUP_TABLE_SIZE;
+			int index = (int)position;
+
+			return Interpolations.lerp(this.samples[index], this.samples[index + 1], position - index);
+		}
+	}
+}
@@ -61,6 +61,11 @@ public interface EasingType {
 	Double2DoubleFunction buildTransformer(Double value);
 
 	static double lerpWithOverride(AnimationPoint animationPoint, EasingType override) {
+		Keyframe<?> keyframe = animationPoint.keyFrame();
+
+		if (keyframe != null && keyframe.easingCurve() != null && (override == null || override == keyframe.easingType()))
+			return EasingCurves.apply(animationPoint, keyframe.easingCurve());
+
 		EasingType easingType = override;
 
 		if (override == null)
@@ -82,7 +87,7 @@ public interface EasingType {
 		if (animationPoint.currentTick() >= animationPoint.transitionLength())
 			return (float)animationPoint.animationEndValue();
 
-		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), buildTransformer(easingValue).apply(lerpValue));
+		return Interpolations.lerp(animationPoint.animationStartValue(), animationPoint.animationEndValue(), buildTransformer(easingValue).get(lerpValue));
 	}
 
 	/**
@@ -150,7 +155,7 @@ public interface EasingType {
 	 * Returns an easing function running backwards in time
 	 */
 	static Double2DoubleFunction easeOut(Double2DoubleFunction function) {
-		return time -> 1 - function.apply(1 - time);
+		return time -> 1 - function.get(1 - time);
 	}
 
 	/**
@@ -159,9 +164,9 @@ public interface EasingType {
 	static Double2DoubleFunction easeInOut(Double2DoubleFunction function) {
 		return time -> {
 			if (time < 0.5d)
-				return function.apply(time * 2d) / 2d;
+				return function.get(time * 2d) / 2d;
 
-			return 1 - function.apply((1 - time) * 2d) / 2d;
+			return 1 - function.get((1 - time) * 2d) / 2d;
 		};
 	}
 
@@ -264,7 +269,7 @@ public interface EasingType {
 		Double2DoubleFunction three = x -> 121 * n2 * n2 * Math.pow(x - 9f / 11f, 2) + 1 - n2 * n2;
 		Double2DoubleFunction four = x -> 484 * n2 * n2 * n2 * Math.pow(x - 10.5f / 11f, 2) + 1 - n2 * n2 * n2;
 
-		return t -> Math.min(Math.min(one.apply(t), two.apply(t)), Math.min(three.apply(t), four.apply(t)));
+		return t -> Math.min(Math.min(one.get(t), two.get(t)), Math.min(three.get(t), four.get(t)));
 	}
 
 	/**
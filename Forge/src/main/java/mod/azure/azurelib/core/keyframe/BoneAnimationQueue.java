@@ -10,7 +10,8 @@ import mod.azure.azurelib.core.state.BoneSnapshot;
 
 /**
  * A bone pseudo-stack for bone animation positions, scales, and rotations.
- * Animation points are calculated then pushed onto their respective queues to be used for transformations in rendering
+ * Animation points are calculated then pushed onto their respective queues to be used for transformations in rendering.<br>
+ * Queues are retained by their {@link mod.azure.azurelib.core.animation.AnimationController} and {@link BoneAnimationQueue#clear() cleared} each frame, rather than re-created
  */
 public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationXQueue, AnimationPointQueue rotationYQueue,
 								 AnimationPointQueue rotationZQueue, AnimationPointQueue positionXQueue, AnimationPointQueue positionYQueue,
@@ -22,6 +23,21 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 				new AnimationPointQueue(), new AnimationPointQueue(), new AnimationPointQueue());
 	}
 
+	/**
+	 * Empty all of this bone's point queues, ready for the next render frame
+	 */
+	public void clear() {
+		this.rotationXQueue.clear();
+		this.rotationYQueue.clear();
+		this.rotationZQueue.clear();
+		this.positionXQueue.clear();
+		this.positionYQueue.clear();
+		this.positionZQueue.clear();
+		this.scaleXQueue.clear();
+		this.scaleYQueue.clear();
+		this.scaleZQueue.clear();
+	}
+
 	/**
 	 * Add a new {@link AnimationPoint} to the {@link BoneAnimationQueue#positionXQueue}
 	 * @param keyFrame The {@code Nullable} Keyframe relevant to the animation point
@@ -31,7 +47,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -43,7 +59,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -55,7 +71,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addPosZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.positionZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.positionZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -83,7 +99,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -95,7 +111,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -107,7 +123,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addScaleZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.scaleZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.scaleZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -135,7 +151,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationXPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationXQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationXQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -147,7 +163,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationYPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationYQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationYQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -159,7 +175,7 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	 * @param endValue The value of the point at the end of its transition
 	 */
 	public void addRotationZPoint(Keyframe<?> keyFrame, double lerpedTick, double transitionLength, double startValue, double endValue) {
-		this.rotationZQueue.add(new AnimationPoint(keyFrame, lerpedTick, transitionLength, startValue, endValue));
+		this.rotationZQueue.add(keyFrame, lerpedTick, transitionLength, startValue, endValue);
 	}
 
 	/**
@@ -180,7 +196,8 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	}
 
 	/**
-	 * Add an X, Y, and Z position {@link AnimationPoint} to their respective queues
+	 * Add an X, Y, and Z position {@link AnimationPoint} to their respective queues.<br>
+	 * The points are copied into the queues, so may be safely re-used by the caller
 	 * @param xPoint The x position {@code AnimationPoint} to add
 	 * @param yPoint The y position {@code AnimationPoint} to add
 	 * @param zPoint The z position {@code AnimationPoint} to add
@@ -192,7 +209,8 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	}
 
 	/**
-	 * Add an X, Y, and Z scale {@link AnimationPoint} to their respective queues
+	 * Add an X, Y, and Z scale {@link AnimationPoint} to their respective queues.<br>
+	 * The points are copied into the queues, so may be safely re-used by the caller
 	 * @param xPoint The x scale {@code AnimationPoint} to add
 	 * @param yPoint The y scale {@code AnimationPoint} to add
 	 * @param zPoint The z scale {@code AnimationPoint} to add
@@ -204,7 +222,8 @@ public record BoneAnimationQueue(CoreGeoBone bone, AnimationPointQueue rotationX
 	}
 
 	/**
-	 * Add an X, Y, and Z rotation {@link AnimationPoint} to their respective queues
+	 * Add an X, Y, and Z rotation {@link AnimationPoint} to their respective queues.<br>
+	 * The points are copied into the queues, so may be safely re-used by the caller
 	 * @param xPoint The x rotation {@code AnimationPoint} to add
 	 * @param yPoint The y rotation {@code AnimationPoint} to add
 	 * @param zPoint The z rotation {@code AnimationPoint} to add
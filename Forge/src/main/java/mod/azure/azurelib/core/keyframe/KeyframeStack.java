@@ -6,38 +6,157 @@
 package mod.azure.azurelib.core.keyframe;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.core.object.Axis;
 
 import java.util.List;
+import java.util.Objects;
 
 /**
- * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack
+ * Stores a triplet of {@link Keyframe Keyframes} in an ordered stack.<br>
+ * Each axis also carries the precomputed cumulative end time of each of its keyframes, for fast lookup by tick time.
+ * As such, the keyframe lists should not be modified after the stack has been constructed.<br>
+ * Stacks are compared by their keyframes only, as the end times are derived from them
  */
-public record KeyframeStack<T extends Keyframe<?>>(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+public final class KeyframeStack<T extends Keyframe<?>> {
+	private final List<T> xKeyframes;
+	private final List<T> yKeyframes;
+	private final List<T> zKeyframes;
+	private final double[] xKeyframeEndTimes;
+	private final double[] yKeyframeEndTimes;
+	private final double[] zKeyframeEndTimes;
+
 	public KeyframeStack() {
 		this(new ObjectArrayList<>(), new ObjectArrayList<>(), new ObjectArrayList<>());
 	}
 
+	public KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes) {
+		this(xKeyframes, yKeyframes, zKeyframes, computeEndTimes(xKeyframes), computeEndTimes(yKeyframes), computeEndTimes(zKeyframes));
+	}
+
+	private KeyframeStack(List<T> xKeyframes, List<T> yKeyframes, List<T> zKeyframes,
+						  double[] xKeyframeEndTimes, double[] yKeyframeEndTimes, double[] zKeyframeEndTimes) {
+		this.xKeyframes = xKeyframes;
+		this.yKeyframes = yKeyframes;
+		this.zKeyframes = zKeyframes;
+		this.xKeyframeEndTimes = xKeyframeEndTimes;
+		this.yKeyframeEndTimes = yKeyframeEndTimes;
+		this.zKeyframeEndTimes = zKeyframeEndTimes;
+	}
+
 	public static <F extends Keyframe<?>> KeyframeStack<F> from(KeyframeStack<F> otherStack) {
-		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes);
+		return new KeyframeStack<>(otherStack.xKeyframes, otherStack.yKeyframes, otherStack.zKeyframes,
+				otherStack.xKeyframeEndTimes, otherStack.yKeyframeEndTimes, otherStack.zKeyframeEndTimes);
+	}
+
+	public List<T> xKeyframes() {
+		return this.xKeyframes;
+	}
+
+	public List<T> yKeyframes() {
+		return this.yKeyframes;
+	}
+
+	public List<T> zKeyframes() {
+		return this.zKeyframes;
+	}
+
+	/**
+	 * Get the keyframes for the given axis
+	 */
+	public List<T> getKeyframes(Axis axis) {
+		return switch (axis) {
+			case X -> this.xKeyframes;
+			case Y -> this.yKeyframes;
+			case Z -> this.zKeyframes;
+		};
+	}
+
+	/**
+	 * Get the cumulative end times (in ticks) of the keyframes for the given axis
+	 */
+	public double[] getKeyframeEndTimes(Axis axis) {
+		return switch (axis) {
+			case X -> this.xKeyframeEndTimes;
+			case Y -> this.yKeyframeEndTimes;
+			case Z -> this.zKeyframeEndTimes;
+		};
 	}
 
 	public double getLastKeyframeTime() {
-		double xTime = 0;
-		double yTime = 0;
-		double zTime = 0;
+		return Math.max(getLastEndTime(this.xKeyframeEndTimes), Math.max(getLastEndTime(this.yKeyframeEndTimes), getLastEndTime(this.zKeyframeEndTimes)));
+	}
+
+	/**
+	 * Find the index of the keyframe that is active at the given tick time.<br>
+	 * The provided hint index is checked first, followed by the keyframe after it, before falling back to a binary search.
+	 * This makes lookups for forward-playing animations effectively constant time.
+	 * @param endTimes The cumulative keyframe end times, as returned by {@link KeyframeStack#getKeyframeEndTimes(Axis)}
+	 * @param tick The tick time to find the keyframe for
+	 * @param hint The last index returned for this keyframe list, or any other index to start from
+	 * @return The index of the first keyframe that ends after the given tick, or {@code endTimes.length} if there isn't one
+	 */
+	public static int findKeyframeIndex(double[] endTimes, double tick, int hint) {
+		int size = endTimes.length;
 
-		for (T frame : xKeyframes()) {
-			xTime += frame.length();
+		if (hint >= 0 && hint < size && (hint == 0 || endTimes[hint - 1] <= tick)) {
+			if (endTimes[hint] > tick)
+				return hint;
+
+			if (hint + 1 < size && endTimes[hint + 1] > tick)
+				return hint + 1;
 		}
 
-		for (T frame : yKeyframes()) {
-			yTime += frame.length();
+		int low = 0;
+		int high = size;
+
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+
+			if (endTimes[mid] > tick) {
+				high = mid;
+			}
+			else {
+				low = mid + 1;
+			}
 		}
 
-		for (T frame : zKeyframes()) {
-			zTime += frame.length();
+		return low;
+	}
+
+	private static double[] computeEndTimes(List<? extends Keyframe<?>> keyframes) {
+		double[] endTimes = new double[keyframes.size()];
+		double totalTime = 0;
+
+		for (int i = 0; i < endTimes.length; i++) {
+			totalTime += keyframes.get(i).length();
+			endTimes[i] = totalTime;
 		}
 
-		return Math.max(xTime, Math.max(yTime, zTime));
+		return endTimes;
+	}
+
+	private static double getLastEndTime(double[] endTimes) {
+		return endTimes.length == 0 ? 0 : endTimes[endTimes.length - 1];
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+
+		if (!(obj instanceof KeyframeStack<?> other))
+			return false;
+
+		return this.xKeyframes.equals(other.xKeyframes) && this.yKeyframes.equals(other.yKeyframes) && this.zKeyframes.equals(other.zKeyframes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.xKeyframes, this.yKeyframes, this.zKeyframes);
+	}
+
+	@Override
+	public String toString() {
+		return "KeyframeStack[xKeyframes=" + this.xKeyframes + ", yKeyframes=" + this.yKeyframes + ", zKeyframes=" + this.zKeyframes + "]";
 	}
 }
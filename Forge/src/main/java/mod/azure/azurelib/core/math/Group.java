@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Group class
  *
@@ -18,6 +20,18 @@ public class Group implements IValue {
 		return this.value.get();
 	}
 
+	@Override
+	public double get(MolangContext context) {
+		return this.value.get(context);
+	}
+
+	/**
+	 * Get the value wrapped by this group
+	 */
+	public IValue getValue() {
+		return this.value;
+	}
+
 	@Override
 	public String toString() {
 		return "(" + this.value.toString() + ")";
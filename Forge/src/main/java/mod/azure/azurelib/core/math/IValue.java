@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Math value interface
  *
@@ -13,4 +15,12 @@ public interface IValue {
 	 * Get computed or stored value
 	 */
 	public double get();
+
+	/**
+	 * Get computed or stored value, reading any Molang variables from the given context.<br>
+	 * Allows an expression to resolve its {@link MolangContext} once per evaluation, rather than once per variable read
+	 */
+	default double get(MolangContext context) {
+		return get();
+	}
 }
@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Negate operator class
  *
@@ -17,6 +19,11 @@ public class Negate implements IValue {
 		return this.value.get() == 0 ? 1 : 0;
 	}
 
+	@Override
+	public double get(MolangContext context) {
+		return this.value.get(context) == 0 ? 1 : 0;
+	}
+
 	@Override
 	public String toString() {
 		return "!" + this.value.toString();
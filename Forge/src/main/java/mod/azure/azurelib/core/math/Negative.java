@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Negative operator class
  *
@@ -17,6 +19,11 @@ public class Negative implements IValue {
 		return -this.value.get();
 	}
 
+	@Override
+	public double get(MolangContext context) {
+		return -this.value.get(context);
+	}
+
 	@Override
 	public String toString() {
 		return "-" + this.value.toString();
@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Operator class
  *
@@ -22,6 +24,11 @@ public class Operator implements IValue {
 		return this.operation.calculate(a.get(), b.get());
 	}
 
+	@Override
+	public double get(MolangContext context) {
+		return this.operation.calculate(a.get(context), b.get(context));
+	}
+
 	@Override
 	public String toString() {
 		return a.toString() + " " + this.operation.sign + " " + b.toString();
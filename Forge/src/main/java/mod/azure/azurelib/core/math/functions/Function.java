@@ -1,14 +1,28 @@
 package mod.azure.azurelib.core.math.functions;
 
 import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 /**
  * Abstract function class
  *
  * This class provides function capability (i.e. giving it arguments and upon
- * {@link #get()} method you receive output).
+ * {@link #get()} method you receive output).<br>
+ * Implementations must override at least one of {@link #get()} and {@link #get(MolangContext)}
  */
 public abstract class Function implements IValue {
+	private static final ClassValue<Boolean> OVERRIDES_CONTEXT_GET = new ClassValue<>() {
+		@Override
+		protected Boolean computeValue(Class<?> type) {
+			try {
+				return type.getMethod("get", MolangContext.class).getDeclaringClass() != Function.class;
+			}
+			catch (NoSuchMethodException ex) {
+				return false;
+			}
+		}
+	};
+
 	protected IValue[] args;
 	protected String name;
 
@@ -35,6 +49,38 @@ public abstract class Function implements IValue {
 		return this.args[index].get();
 	}
 
+	/**
+	 * Get the value of nth argument, reading any Molang variables from the given context
+	 */
+	public double getArg(int index, MolangContext context) {
+		if (index < 0 || index >= this.args.length) {
+			return 0;
+		}
+
+		return this.args[index].get(context);
+	}
+
+	/**
+	 * Evaluate this function using the current thread's {@link MolangContext}.<br>
+	 * Only falls back to {@link #get(MolangContext)} if it is overridden, so that a function overriding neither fails clearly instead of recursing
+	 */
+	@Override
+	public double get() {
+		if (!OVERRIDES_CONTEXT_GET.get(getClass()))
+			throw new UnsupportedOperationException("Function '" + getName() + "' must override get() or get(MolangContext)");
+
+		return get(MolangContext.get());
+	}
+
+	/**
+	 * Evaluate this function, reading any Molang variables from the given context.<br>
+	 * Falls back to {@link #get()} for functions that don't use the context
+	 */
+	@Override
+	public double get(MolangContext context) {
+		return get();
+	}
+
 	@Override
 	public String toString() {
 		String args = "";
@@ -50,6 +96,23 @@ public abstract class Function implements IValue {
 		return this.getName() + "(" + args + ")";
 	}
 
+	/**
+	 * Get the argument values of this function.<br>
+	 * The returned array is the function's own, allowing argument values to be replaced in place
+	 */
+	public IValue[] getArgs() {
+		return this.args;
+	}
+
+	/**
+	 * Whether this function always returns the same value for the same arguments.<br>
+	 * Deterministic functions with constant arguments may be pre-computed when an expression is compiled.
+	 * Functions are assumed not to be, as they may be random or depend on the context, so pure functions must override this to opt in
+	 */
+	public boolean isDeterministic() {
+		return false;
+	}
+
 	/**
 	 * Get name of this function
 	 */
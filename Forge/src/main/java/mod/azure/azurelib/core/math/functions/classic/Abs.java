@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 /**
  * Absolute value function
@@ -17,7 +18,12 @@ public class Abs extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.abs(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.abs(this.getArg(0, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Cos extends Function {
 	public Cos(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Cos extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.cos(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.cos(this.getArg(0, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Sqrt extends Function {
 	public Sqrt(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Sqrt extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.sqrt(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.sqrt(this.getArg(0, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.rounding;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Trunc extends Function {
 	public Trunc(IValue[] values, String name) throws Exception {
@@ -14,8 +15,13 @@ public class Trunc extends Function {
 	}
 
 	@Override
-	public double get() {
-		double value = this.getArg(0);
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		double value = this.getArg(0, context);
 
 		return value < 0 ? Math.ceil(value) : Math.floor(value);
 	}
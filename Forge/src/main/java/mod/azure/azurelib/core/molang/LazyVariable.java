@@ -6,10 +6,15 @@ import mod.azure.azurelib.core.math.Variable;
 
 /**
  * Lazy override of Variable, to allow for deferred value calculation. <br>
- * Optimises rendering as values are not touched until needed (if at all)
+ * Optimises rendering as values are not touched until needed (if at all)<br>
+ * <br>
+ * Each variable is resolved to a {@link MolangContext} slot on creation, and any values set on it are stored in the
+ * context bound to the current thread, rather than in the variable itself. If no value has been set in the current context,
+ * the variable falls back to its default value supplier.
  */
 public class LazyVariable extends Variable {
-	private DoubleSupplier valueSupplier;
+	private final int slot;
+	private final DoubleSupplier defaultValue;
 
 	public LazyVariable(String name, double value) {
 		this(name, () -> value);
@@ -18,22 +23,37 @@ public class LazyVariable extends Variable {
 	public LazyVariable(String name, DoubleSupplier valueSupplier) {
 		super(name, 0);
 
-		this.valueSupplier = valueSupplier;
+		this.slot = MolangContext.getSlot(name);
+		this.defaultValue = valueSupplier;
 	}
 
 	/**
-	 * Set the new value for the variable, acting as a constant
+	 * Get the {@link MolangContext} slot index this variable reads its value from
+	 */
+	public int getSlot() {
+		return this.slot;
+	}
+
+	/**
+	 * Set the new value for the variable in the current {@link MolangContext}, acting as a constant
 	 */
 	@Override
 	public void set(double value) {
-		this.valueSupplier = () -> value;
+		MolangContext.get().setValue(this.slot, value);
 	}
 
 	/**
-	 * Set the new value supplier for the variable
+	 * Set the new value for the variable in the given {@link MolangContext}, acting as a constant
+	 */
+	public void set(MolangContext context, double value) {
+		context.setValue(this.slot, value);
+	}
+
+	/**
+	 * Set the new value supplier for the variable in the current {@link MolangContext}
 	 */
 	public void set(DoubleSupplier valueSupplier) {
-		this.valueSupplier = valueSupplier;
+		MolangContext.get().setValue(this.slot, valueSupplier);
 	}
 
 	/**
@@ -41,7 +61,15 @@ public class LazyVariable extends Variable {
 	 */
 	@Override
 	public double get() {
-		return this.valueSupplier.getAsDouble();
+		return get(MolangContext.get());
+	}
+
+	/**
+	 * Get the value of the variable in the given {@link MolangContext}
+	 */
+	@Override
+	public double get(MolangContext context) {
+		return context.hasValue(this.slot) ? context.getValue(this.slot) : this.defaultValue.getAsDouble();
 	}
 
 	/**
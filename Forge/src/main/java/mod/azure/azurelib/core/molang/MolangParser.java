@@ -2,16 +2,23 @@ package mod.azure.azurelib.core.molang;
 
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.function.DoubleSupplier;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonPrimitive;
 
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.Group;
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.MathBuilder;
+import mod.azure.azurelib.core.math.Negate;
+import mod.azure.azurelib.core.math.Negative;
+import mod.azure.azurelib.core.math.Operator;
+import mod.azure.azurelib.core.math.Ternary;
 import mod.azure.azurelib.core.math.Variable;
+import mod.azure.azurelib.core.math.functions.Function;
 import mod.azure.azurelib.core.molang.expressions.MolangCompoundValue;
 import mod.azure.azurelib.core.molang.expressions.MolangValue;
 import mod.azure.azurelib.core.molang.expressions.MolangVariableHolder;
@@ -19,18 +26,21 @@ import mod.azure.azurelib.core.molang.functions.CosDegrees;
 import mod.azure.azurelib.core.molang.functions.SinDegrees;
 
 /**
- * Utility class for parsing and utilising MoLang functions and expressions
+ * Utility class for parsing and utilising MoLang functions and expressions<br>
+ * Parsing is thread-safe, and variable values are stored per-thread in the current {@link MolangContext}
  * @see <a href="https://bedrock.dev/docs/1.19.0.0/1.19.30.23/Molang#Math%20Functions">Bedrock Dev - Molang</a>
  */
 public class MolangParser extends MathBuilder {
-	// Replace base variables map
-	public static final Map<String, LazyVariable> VARIABLES = new Object2ObjectOpenHashMap<>();
+	// Replace base variables map. Concurrent, as resources are parsed from multiple worker threads during reload
+	public static final Map<String, LazyVariable> VARIABLES = new ConcurrentHashMap<>();
 	public static final MolangVariableHolder ZERO = new MolangVariableHolder(null, new Constant(0));
 	public static final MolangVariableHolder ONE = new MolangVariableHolder(null, new Constant(1));
 	public static final String RETURN = "return ";
 
 	public static final MolangParser INSTANCE = new MolangParser();
 
+	private static volatile boolean compileExpressions = true;
+
 	private MolangParser() {
 		super();
 
@@ -109,36 +119,31 @@ public class MolangParser extends MathBuilder {
 	}
 
 	/**
-	 * Set the value supplier for a variable.<br>
+	 * Set a constant value for a variable in the current {@link MolangContext}
+	 * @param name The name of the variable to set the value for
+	 * @param value The value to set
+	 */
+	public void setValue(String name, double value) {
+		MolangContext.get().setValue(getVariable(name).getSlot(), value);
+	}
+
+	/**
+	 * Set the value supplier for a variable in the current {@link MolangContext}.<br>
 	 * Consider using {@link MolangParser#setMemoizedValue} instead of you don't need per-call dynamic results
 	 * @param name The name of the variable to set the value for
 	 * @param value The value supplier to set
 	 */
 	public void setValue(String name, DoubleSupplier value) {
-		LazyVariable variable = getVariable(name);
-
-		if (variable != null)
-			variable.set(value);
+		MolangContext.get().setValue(getVariable(name).getSlot(), value);
 	}
 
 	/**
-	 * Sets a memoized value supplier for a variable.<br>
+	 * Sets a memoized value supplier for a variable in the current {@link MolangContext}.<br>
 	 * This prevents re-calculation on successive calls, improving efficiency.<br>
 	 * This should be used wherever per-call accuracy is not needed.
 	 */
 	public void setMemoizedValue(String name, DoubleSupplier value) {
-		getVariable(name).set(new DoubleSupplier() {
-			private final DoubleSupplier supplier = value;
-			private double computedValue = Double.MIN_VALUE;
-
-			@Override
-			public double getAsDouble() {
-				if (this.computedValue == Double.MIN_VALUE)
-					this.computedValue = this.supplier.getAsDouble();
-
-				return this.computedValue;
-			}
-		});
+		MolangContext.get().setMemoizedValue(getVariable(name).getSlot(), value);
 	}
 
 	/**
@@ -188,7 +193,19 @@ public class MolangParser extends MathBuilder {
 	}
 
 	/**
-	 * Parse a molang expression
+	 * Set whether parsed expressions should be {@link MolangCompiler compiled}.<br>
+	 * Enabled by default, and only worth disabling to debug or measure the compiler itself. Only affects expressions parsed after this is called
+	 */
+	public static void setCompileExpressions(boolean compileExpressions) {
+		MolangParser.compileExpressions = compileExpressions;
+	}
+
+	public static boolean compilesExpressions() {
+		return compileExpressions;
+	}
+
+	/**
+	 * Parse a molang expression, {@link MolangCompiler compiling} each statement as it is parsed unless {@link MolangParser#setCompileExpressions disabled}
 	 */
 	public static MolangValue parseExpression(String expression) throws MolangException {
 		MolangCompoundValue result = null;
@@ -210,7 +227,12 @@ public class MolangParser extends MathBuilder {
 		if (result == null)
 			throw new MolangException("Molang expression cannot be blank!");
 
-		return result;
+		// Single statements don't need the compound wrapper, and unwrapping them allows constant expressions to be recognised as such
+		MolangValue value = result.values.size() == 1 && result.locals.isEmpty() ? result.values.get(0) : result;
+
+		value.setExpression(expression);
+
+		return value;
 	}
 
 	/**
@@ -219,7 +241,7 @@ public class MolangParser extends MathBuilder {
 	protected static MolangValue parseOneLine(String expression, MolangCompoundValue currentStatement) throws MolangException {
 		if (expression.startsWith(RETURN)) {
 			try {
-				return new MolangValue(INSTANCE.parse(expression.substring(RETURN.length())), true);
+				return new MolangValue(compileIfEnabled(INSTANCE.parse(expression.substring(RETURN.length()))), true);
 			}
 			catch (Exception e) {
 				throw new MolangException("Couldn't parse return '" + expression + "' expression!");
@@ -227,7 +249,7 @@ public class MolangParser extends MathBuilder {
 		}
 
 		try {
-			List<Object> symbols = INSTANCE.breakdownChars(INSTANCE.breakdown(expression));
+			List<Object> symbols = INSTANCE.tokenize(expression);
 
 			if (symbols.size() >= 3 && symbols.get(0) instanceof String name && INSTANCE.isVariable(symbols.get(0)) && symbols.get(1).equals("=")) {
 				symbols = symbols.subList(2, symbols.size());
@@ -240,16 +262,66 @@ public class MolangParser extends MathBuilder {
 					variable = INSTANCE.getVariable(name, currentStatement);
 				}
 
-				return new MolangVariableHolder(variable, INSTANCE.parseSymbolsMolang(symbols));
+				return new MolangVariableHolder(variable, compileIfEnabled(INSTANCE.parseSymbolsMolang(symbols)));
 			}
 
-			return new MolangValue(INSTANCE.parseSymbolsMolang(symbols));
+			return new MolangValue(compileIfEnabled(INSTANCE.parseSymbolsMolang(symbols)));
 		}
 		catch (Exception e) {
 			throw new MolangException("Couldn't parse '" + expression + "' expression!");
 		}
 	}
 
+	private static IValue compileIfEnabled(IValue value) {
+		return compileExpressions ? MolangCompiler.compile(value) : value;
+	}
+
+	/**
+	 * Find all {@link LazyVariable LazyVariables} referenced by a parsed value, including any variables it assigns to.<br>
+	 * Useful for determining ahead of time which variables need to be set for an expression to be evaluated
+	 * @param value The parsed value to search
+	 * @param consumer The consumer to provide each variable to. Variables referenced more than once are provided more than once
+	 */
+	public static void collectVariables(IValue value, Consumer<LazyVariable> consumer) {
+		if (value instanceof LazyVariable variable) {
+			consumer.accept(variable);
+		}
+		else if (value instanceof MolangCompoundValue compoundValue) {
+			for (MolangValue molangValue : compoundValue.values) {
+				collectVariables(molangValue, consumer);
+			}
+		}
+		else if (value instanceof MolangValue molangValue) {
+			if (molangValue instanceof MolangVariableHolder holder && holder.variable instanceof LazyVariable variable)
+				consumer.accept(variable);
+
+			collectVariables(molangValue.getValueHolder(), consumer);
+		}
+		else if (value instanceof Operator operator) {
+			collectVariables(operator.a, consumer);
+			collectVariables(operator.b, consumer);
+		}
+		else if (value instanceof Ternary ternary) {
+			collectVariables(ternary.condition, consumer);
+			collectVariables(ternary.ifTrue, consumer);
+			collectVariables(ternary.ifFalse, consumer);
+		}
+		else if (value instanceof Function function) {
+			for (IValue arg : function.getArgs()) {
+				collectVariables(arg, consumer);
+			}
+		}
+		else if (value instanceof Negate negate) {
+			collectVariables(negate.value, consumer);
+		}
+		else if (value instanceof Negative negative) {
+			collectVariables(negative.value, consumer);
+		}
+		else if (value instanceof Group group) {
+			collectVariables(group.getValue(), consumer);
+		}
+	}
+
 	/**
 	 * Wrapper around {@link #parseSymbols(List)} to throw {@link MolangException}
 	 */
@@ -265,7 +337,7 @@ public class MolangParser extends MathBuilder {
 	}
 
 	/**
-	 * Extend this method to allow {@link #breakdownChars(String[])} to capture "="
+	 * Extend this method to allow {@link #tokenize(String)} to capture "="
 	 * as an operator, so it was easier to parse assignment statements
 	 */
 	@Override
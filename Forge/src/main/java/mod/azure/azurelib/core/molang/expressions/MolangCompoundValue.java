@@ -3,6 +3,7 @@ package mod.azure.azurelib.core.molang.expressions;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.core.molang.LazyVariable;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 import java.util.List;
 import java.util.Map;
@@ -22,11 +23,11 @@ public class MolangCompoundValue extends MolangValue {
 	}
 
 	@Override
-	public double get() {
+	public double get(MolangContext context) {
 		double value = 0;
 
 		for (MolangValue molangValue : this.values) {
-			value = molangValue.get();
+			value = molangValue.get(context);
 		}
 
 		return value;
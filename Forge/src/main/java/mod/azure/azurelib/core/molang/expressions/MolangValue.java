@@ -1,7 +1,10 @@
 package mod.azure.azurelib.core.molang.expressions;
 
+import org.jetbrains.annotations.Nullable;
+
 import mod.azure.azurelib.core.math.Constant;
 import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.molang.MolangContext;
 import mod.azure.azurelib.core.molang.MolangParser;
 
 /**
@@ -11,6 +14,7 @@ import mod.azure.azurelib.core.molang.MolangParser;
 public class MolangValue implements IValue {
 	private final IValue value;
 	private final boolean returns;
+	private String expression = null;
 
 	public MolangValue(IValue value) {
 		this(value, false);
@@ -23,7 +27,12 @@ public class MolangValue implements IValue {
 
 	@Override
 	public double get() {
-		return this.value.get();
+		return get(MolangContext.get());
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return this.value.get(context);
 	}
 
 	public IValue getValueHolder() {
@@ -34,6 +43,19 @@ public class MolangValue implements IValue {
 		return this.returns;
 	}
 
+	/**
+	 * Get the source expression this value was parsed from, if it was parsed by {@link MolangParser#parseExpression}.<br>
+	 * Allows the value to be stored as its source and re-parsed later, such as when caching baked animations
+	 */
+	@Nullable
+	public String getExpression() {
+		return this.expression;
+	}
+
+	public void setExpression(String expression) {
+		this.expression = expression;
+	}
+
 	public boolean isConstant() {
 		return getClass() == MolangValue.class && value instanceof Constant;
 	}
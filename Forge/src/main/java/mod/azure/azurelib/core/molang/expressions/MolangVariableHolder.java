@@ -2,6 +2,8 @@ package mod.azure.azurelib.core.molang.expressions;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.Variable;
+import mod.azure.azurelib.core.molang.LazyVariable;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 /**
  * Extension of {@link MolangValue} that additionally sets the value of a provided {@link Variable} when being called.
@@ -16,10 +18,15 @@ public class MolangVariableHolder extends MolangValue {
 	}
 
 	@Override
-	public double get() {
-		double value = super.get();
-
-		this.variable.set(value);
+	public double get(MolangContext context) {
+		double value = super.get(context);
+
+		if (this.variable instanceof LazyVariable lazyVariable) {
+			lazyVariable.set(context, value);
+		}
+		else {
+			this.variable.set(value);
+		}
 
 		return value;
 	}
@@ -0,0 +1,183 @@
+package mod.azure.azurelib.core.state;
+
+import java.util.Arrays;
+import java.util.List;
+
+import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
+
+/**
+ * A compact, per-instance store of the animated transformations of a model's bones.<br>
+ * Each bone is addressed by its registration index in the {@link mod.azure.azurelib.core.animation.AnimationProcessor AnimationProcessor},
+ * and stores its rotation, position, and scale in a flat float array.<br>
+ * <br>
+ * When an animatable opts in via {@link mod.azure.azurelib.core.animatable.GeoAnimatable#usesBonePoseBuffers() GeoAnimatable.usesBonePoseBuffers},
+ * the {@code AnimationProcessor} writes its output here instead of into the shared {@link CoreGeoBone bones},
+ * and the pose is only {@link BonePoseBuffer#apply applied} to the bones immediately before rendering.
+ * This allows a computed pose to be re-applied for re-renders without re-evaluating the animations.
+ */
+public class BonePoseBuffer {
+	public static final int ROT_X = 0;
+	public static final int ROT_Y = 1;
+	public static final int ROT_Z = 2;
+	public static final int POS_X = 3;
+	public static final int POS_Y = 4;
+	public static final int POS_Z = 5;
+	public static final int SCALE_X = 6;
+	public static final int SCALE_Y = 7;
+	public static final int SCALE_Z = 8;
+	public static final int STRIDE = 9;
+
+	private static final byte ROTATION_CHANGED = 1;
+	private static final byte POSITION_CHANGED = 2;
+	private static final byte SCALE_CHANGED = 4;
+
+	private float[] values = new float[0];
+	private byte[] changes = new byte[0];
+	private List<? extends CoreGeoBone> bones = null;
+	private double poseTime = -1;
+	private int heldFrames = 0;
+	private double heldFrameTime = -1;
+
+	/**
+	 * Prepare this buffer for a new pose of the given bones, resizing the buffer if necessary and clearing the change markers
+	 * @param bones The indexed bone list from the {@link mod.azure.azurelib.core.animation.AnimationProcessor}
+	 */
+	public void prepare(List<? extends CoreGeoBone> bones) {
+		int boneCount = bones.size();
+
+		if (this.changes.length != boneCount) {
+			this.values = new float[boneCount * STRIDE];
+			this.changes = new byte[boneCount];
+		}
+		else {
+			Arrays.fill(this.changes, (byte)0);
+		}
+
+		this.bones = bones;
+		this.poseTime = -1;
+	}
+
+	/**
+	 * Mark this buffer as holding a complete pose computed for the given update time
+	 * @param updateTime The {@link mod.azure.azurelib.core.animation.AnimatableManager#getLastUpdateTime() update time} of the manager owning this buffer
+	 */
+	public void finishPose(double updateTime) {
+		this.poseTime = updateTime;
+		this.heldFrames = 0;
+		this.heldFrameTime = updateTime;
+	}
+
+	/**
+	 * Whether this buffer holds a complete pose for the given bones, computed for the given update time
+	 */
+	public boolean hasPoseFor(List<? extends CoreGeoBone> bones, double updateTime) {
+		return this.bones == bones && this.poseTime == updateTime && this.changes.length == bones.size();
+	}
+
+	/**
+	 * Whether this buffer holds a complete pose for the given bones, computed at any time
+	 */
+	public boolean hasPoseFor(List<? extends CoreGeoBone> bones) {
+		return this.bones == bones && this.poseTime != -1 && this.changes.length == bones.size();
+	}
+
+	/**
+	 * Get the number of frames the current pose has been {@link BonePoseBuffer#holdPose held} for since it was computed
+	 */
+	public int getHeldFrames() {
+		return this.heldFrames;
+	}
+
+	/**
+	 * {@link BonePoseBuffer#apply Apply} the current pose in place of a newly computed one, counting it as a held frame.<br>
+	 * Re-renders within a frame that has already been counted don't count again
+	 * @param frameTime The time of the frame being rendered, relative to the same start time as the update times the pose is finished with
+	 */
+	public void holdPose(double frameTime) {
+		apply();
+
+		if (frameTime != this.heldFrameTime) {
+			this.heldFrameTime = frameTime;
+			this.heldFrames++;
+		}
+	}
+
+	/**
+	 * Replace the pose held in this buffer with a copy of the given buffer's pose, including its change markers.<br>
+	 * The pose must still be {@link BonePoseBuffer#finishPose finished} afterwards
+	 */
+	public void copyFrom(BonePoseBuffer other) {
+		if (this.values.length != other.values.length) {
+			this.values = new float[other.values.length];
+			this.changes = new byte[other.changes.length];
+		}
+
+		System.arraycopy(other.values, 0, this.values, 0, other.values.length);
+		System.arraycopy(other.changes, 0, this.changes, 0, other.changes.length);
+
+		this.bones = other.bones;
+		this.poseTime = -1;
+	}
+
+	public float get(int boneIndex, int channel) {
+		return this.values[boneIndex * STRIDE + channel];
+	}
+
+	public void setRotation(int boneIndex, float rotX, float rotY, float rotZ) {
+		int offset = boneIndex * STRIDE;
+
+		this.values[offset + ROT_X] = rotX;
+		this.values[offset + ROT_Y] = rotY;
+		this.values[offset + ROT_Z] = rotZ;
+		this.changes[boneIndex] |= ROTATION_CHANGED;
+	}
+
+	public void setPosition(int boneIndex, float posX, float posY, float posZ) {
+		int offset = boneIndex * STRIDE;
+
+		this.values[offset + POS_X] = posX;
+		this.values[offset + POS_Y] = posY;
+		this.values[offset + POS_Z] = posZ;
+		this.changes[boneIndex] |= POSITION_CHANGED;
+	}
+
+	public void setScale(int boneIndex, float scaleX, float scaleY, float scaleZ) {
+		int offset = boneIndex * STRIDE;
+
+		this.values[offset + SCALE_X] = scaleX;
+		this.values[offset + SCALE_Y] = scaleY;
+		this.values[offset + SCALE_Z] = scaleZ;
+		this.changes[boneIndex] |= SCALE_CHANGED;
+	}
+
+	public boolean hasRotationChanged(int boneIndex) {
+		return (this.changes[boneIndex] & ROTATION_CHANGED) != 0;
+	}
+
+	public boolean hasPositionChanged(int boneIndex) {
+		return (this.changes[boneIndex] & POSITION_CHANGED) != 0;
+	}
+
+	public boolean hasScaleChanged(int boneIndex) {
+		return (this.changes[boneIndex] & SCALE_CHANGED) != 0;
+	}
+
+	/**
+	 * Write the pose held in this buffer to the bones it was computed for.<br>
+	 * Must be called on the thread that renders the bones, immediately before they are used
+	 */
+	public void apply() {
+		if (this.bones == null)
+			return;
+
+		for (int i = 0; i < this.changes.length; i++) {
+			CoreGeoBone bone = this.bones.get(i);
+			int offset = i * STRIDE;
+
+			bone.updateRotation(this.values[offset + ROT_X], this.values[offset + ROT_Y], this.values[offset + ROT_Z]);
+			bone.updatePosition(this.values[offset + POS_X], this.values[offset + POS_Y], this.values[offset + POS_Z]);
+			bone.updateScale(this.values[offset + SCALE_X], this.values[offset + SCALE_Y], this.values[offset + SCALE_Z]);
+			bone.resetStateChanges();
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package mod.azure.azurelib.core.state;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
+import mod.azure.azurelib.core.animation.Animation;
+import mod.azure.azurelib.core.animation.EasingType;
+
+/**
+ * A global cache of computed {@link BonePoseBuffer poses}, shared between all animatables that
+ * {@link mod.azure.azurelib.core.animatable.GeoAnimatable#usesSharedPoses() opt in to shared poses}.<br>
+ * Poses are keyed by the model's bones, and the animation, easing override, and animation time of each of the animatable's controllers,
+ * with the animation time quantized to {@link SharedPoseCache#setTimeQuantum the time quantum}.<br>
+ * This allows large numbers of identical animatables playing the same animations in step (E.G. a mob farm) to compute each pose once per frame,
+ * rather than once per animatable.<br>
+ * Only the animated bone transforms are shared, and only for animatables whose model {@link mod.azure.azurelib.core.animatable.model.CoreGeoModel#canSharePoses allows it}
+ */
+public final class SharedPoseCache {
+	private static final Map<Key, BonePoseBuffer> POSES = new Object2ObjectOpenHashMap<>();
+
+	private static int maxEntries = 512;
+	private static double timeQuantum = 0.25d;
+	private static long hits = 0;
+	private static long misses = 0;
+
+	private SharedPoseCache() {}
+
+	/**
+	 * Get the cached pose for the given key, if present
+	 * @param key The key, as built by the {@link mod.azure.azurelib.core.animation.AnimationProcessor AnimationProcessor}
+	 * @return The cached pose, which must not be modified, or null if not present
+	 */
+	public static synchronized BonePoseBuffer get(Key key) {
+		BonePoseBuffer pose = POSES.get(key);
+
+		if (pose != null) {
+			hits++;
+		}
+		else {
+			misses++;
+		}
+
+		return pose;
+	}
+
+	/**
+	 * Store a copy of the given pose for the given key.<br>
+	 * The pose should only hold the animated bone transforms, as the resetting of the remaining bones depends on each animatable's own state.<br>
+	 * If the cache is full it is emptied first, as entries for stale animation states are never looked up again
+	 */
+	public static synchronized void put(Key key, BonePoseBuffer pose) {
+		if (POSES.size() >= maxEntries)
+			POSES.clear();
+
+		BonePoseBuffer copy = new BonePoseBuffer();
+
+		copy.copyFrom(pose);
+		POSES.put(key.copy(), copy);
+	}
+
+	/**
+	 * Remove all cached poses.<br>
+	 * Should be called when models or animations are reloaded
+	 */
+	public static synchronized void clear() {
+		POSES.clear();
+	}
+
+	/**
+	 * Set the interval (in ticks) that animation times are rounded down to when looking up poses.<br>
+	 * Larger values increase the hit rate for animatables that are slightly out of step, at the cost of animation smoothness
+	 */
+	public static synchronized void setTimeQuantum(double ticks) {
+		if (ticks <= 0)
+			throw new IllegalArgumentException("Pose cache time quantum must be positive");
+
+		timeQuantum = ticks;
+
+		POSES.clear();
+	}
+
+	/**
+	 * Set the maximum number of poses held in the cache before it is emptied
+	 */
+	public static synchronized void setMaxEntries(int entries) {
+		maxEntries = entries;
+	}
+
+	public static synchronized long getHitCount() {
+		return hits;
+	}
+
+	public static synchronized long getMissCount() {
+		return misses;
+	}
+
+	/**
+	 * Get the fraction of lookups that found a cached pose since the metrics were last {@link SharedPoseCache#resetMetrics() reset}
+	 */
+	public static synchronized double getHitRate() {
+		long lookups = hits + misses;
+
+		return lookups == 0 ? 0 : hits / (double)lookups;
+	}
+
+	public static synchronized void resetMetrics() {
+		hits = 0;
+		misses = 0;
+	}
+
+	private static synchronized double getTimeQuantum() {
+		return timeQuantum;
+	}
+
+	/**
+	 * A re-usable key for looking up shared poses.<br>
+	 * Models, animations, and easings are compared by identity, as they are only ever re-created on resource reload
+	 */
+	public static final class Key {
+		private List<? extends CoreGeoBone> bones;
+		private Object[] parts = new Object[4];
+		private long[] ticks = new long[2];
+		private int size = 0;
+		private int hash = 0;
+
+		/**
+		 * Reset this key for a new lookup for the given bones
+		 * @param bones The indexed bone list from the {@link mod.azure.azurelib.core.animation.AnimationProcessor AnimationProcessor}
+		 */
+		public void reset(List<? extends CoreGeoBone> bones) {
+			Arrays.fill(this.parts, 0, this.size * 2, null);
+
+			this.bones = bones;
+			this.size = 0;
+			this.hash = System.identityHashCode(bones);
+		}
+
+		/**
+		 * Add the state of an animation controller to this key
+		 * @param animation The animation the controller is playing
+		 * @param easingOverride The controller's easing override, or null if it has none
+		 * @param tick The controller's adjusted animation tick
+		 */
+		public void addController(Animation animation, EasingType easingOverride, double tick) {
+			if (this.size == this.ticks.length) {
+				this.parts = Arrays.copyOf(this.parts, this.size * 4);
+				this.ticks = Arrays.copyOf(this.ticks, this.size * 2);
+			}
+
+			long quantizedTick = (long)Math.floor(tick / getTimeQuantum());
+
+			this.parts[this.size * 2] = animation;
+			this.parts[this.size * 2 + 1] = easingOverride;
+			this.ticks[this.size] = quantizedTick;
+			this.size++;
+			this.hash = 31 * (31 * (31 * this.hash + System.identityHashCode(animation)) + System.identityHashCode(easingOverride)) + Long.hashCode(quantizedTick);
+		}
+
+		private Key copy() {
+			Key copy = new Key();
+
+			copy.bones = this.bones;
+			copy.parts = Arrays.copyOf(this.parts, this.size * 2);
+			copy.ticks = Arrays.copyOf(this.ticks, this.size);
+			copy.size = this.size;
+			copy.hash = this.hash;
+
+			return copy;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+
+			if (!(obj instanceof Key other) || this.hash != other.hash || this.bones != other.bones || this.size != other.size)
+				return false;
+
+			for (int i = 0; i < this.size; i++) {
+				if (this.ticks[i] != other.ticks[i] || this.parts[i * 2] != other.parts[i * 2] || this.parts[i * 2 + 1] != other.parts[i * 2 + 1])
+					return false;
+			}
+
+			return true;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+	}
+}
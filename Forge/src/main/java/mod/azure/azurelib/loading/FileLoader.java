@@ -1,6 +1,7 @@
 package mod.azure.azurelib.loading;
 
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
@@ -8,24 +9,69 @@ import org.apache.commons.io.IOUtils;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.cache.object.BakedGeoModel;
 import mod.azure.azurelib.loading.json.raw.Model;
+import mod.azure.azurelib.loading.json.typeadapter.BakedAnimationsAdapter;
 import mod.azure.azurelib.loading.object.BakedAnimations;
 import mod.azure.azurelib.util.JsonUtil;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.Collection;
 
 /**
  * Extracts raw information from given files, and other similar functions
  */
 public final class FileLoader {
+	private static final BakedAnimationsAdapter ANIMATIONS_ADAPTER = new BakedAnimationsAdapter();
+
 	/**
 	 * Load up and deserialize an animation json file to its respective {@link mod.azure.azurelib.core.animation.Animation} components
 	 * @param location The resource path of the animations file
 	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
 	 */
 	public static BakedAnimations loadAnimationsFile(ResourceLocation location, ResourceManager manager) {
-		return JsonUtil.GEO_GSON.fromJson(loadFile(location, manager), BakedAnimations.class);
+		return readFile(location, manager, ANIMATIONS_ADAPTER::read);
+	}
+
+	/**
+	 * Load up and deserialize an animation json file to its respective {@link mod.azure.azurelib.core.animation.Animation} components, collecting any animations that couldn't be baked
+	 * @param location The resource path of the animations file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 * @param failedAnimations The collection to add the names of any animations that couldn't be baked to
+	 */
+	public static BakedAnimations loadAnimationsFile(ResourceLocation location, ResourceManager manager, Collection<String> failedAnimations) {
+		return readFile(location, manager, reader -> ANIMATIONS_ADAPTER.read(reader, failedAnimations));
+	}
+
+	/**
+	 * Deserialize the already-loaded contents of an animation json file to its respective {@link mod.azure.azurelib.core.animation.Animation} components
+	 * @param location The resource path of the animations file
+	 * @param contents The raw contents of the file
+	 */
+	public static BakedAnimations loadAnimationsFile(ResourceLocation location, byte[] contents) {
+		return readFile(location, contents, ANIMATIONS_ADAPTER::read);
+	}
+
+	/**
+	 * Index the already-loaded contents of an animation json file without baking its animations, so that each is only baked the first time it is requested.<br>
+	 * Falls back to baking the file normally if it can't be indexed
+	 * @param location The resource path of the animations file
+	 * @param contents The raw contents of the file
+	 * @see mod.azure.azurelib.loading.object.LazyAnimationMap LazyAnimationMap
+	 */
+	public static BakedAnimations loadLazyAnimationsFile(ResourceLocation location, byte[] contents) {
+		try {
+			return ANIMATIONS_ADAPTER.index(contents, Charset.defaultCharset());
+		}
+		catch (IllegalStateException ex) {
+			AzureLib.LOGGER.debug("Unable to index " + location + " for lazy baking, baking it now instead", ex);
+
+			return loadAnimationsFile(location, contents);
+		}
 	}
 
 	/**
@@ -34,7 +80,74 @@ public final class FileLoader {
 	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
 	 */
 	public static Model loadModelFile(ResourceLocation location, ResourceManager manager) {
-		return JsonUtil.GEO_GSON.fromJson(loadFile(location, manager), Model.class);
+		return readFile(location, manager, reader -> JsonUtil.GEO_GSON.fromJson(reader, Model.class));
+	}
+
+	/**
+	 * Deserialize the already-loaded contents of a geo model json file to its raw {@link Model} format
+	 * @param location The resource path of the model file
+	 * @param contents The raw contents of the file
+	 */
+	public static Model loadModelFile(ResourceLocation location, byte[] contents) {
+		return readFile(location, contents, reader -> JsonUtil.GEO_GSON.fromJson(reader, Model.class));
+	}
+
+	/**
+	 * Deserialize a given json file directly from its resource stream, without first reading the file into memory
+	 * @param location The resource path of the json file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 * @param deserializer The function to deserialize the file's contents with
+	 */
+	public static <T> T readFile(ResourceLocation location, ResourceManager manager, JsonReaderFunction<T> deserializer) {
+		try {
+			return readFile(manager.getResourceOrThrow(location).open(), deserializer);
+		}
+		catch (IOException e) {
+			AzureLib.LOGGER.error("Couldn't load " + location, e);
+
+			throw new RuntimeException(new FileNotFoundException(location.toString()));
+		}
+	}
+
+	/**
+	 * Deserialize a given json file from its already-loaded contents
+	 * @param location The resource path of the json file
+	 * @param contents The raw contents of the file
+	 * @param deserializer The function to deserialize the file's contents with
+	 */
+	public static <T> T readFile(ResourceLocation location, byte[] contents, JsonReaderFunction<T> deserializer) {
+		try {
+			return readFile(new ByteArrayInputStream(contents), deserializer);
+		}
+		catch (IOException e) {
+			AzureLib.LOGGER.error("Couldn't load " + location, e);
+
+			throw new RuntimeException(new FileNotFoundException(location.toString()));
+		}
+	}
+
+	private static <T> T readFile(InputStream inputStream, JsonReaderFunction<T> deserializer) throws IOException {
+		try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, Charset.defaultCharset())))) {
+			reader.setLenient(true);
+
+			return deserializer.apply(reader);
+		}
+	}
+
+	/**
+	 * Read a file into memory in its raw form
+	 * @param location The resource path of the file
+	 * @param manager The Minecraft {@code ResourceManager} responsible for maintaining in-memory resource access
+	 */
+	public static byte[] getFileBytes(ResourceLocation location, ResourceManager manager) {
+		try (InputStream inputStream = manager.getResourceOrThrow(location).open()) {
+			return inputStream.readAllBytes();
+		}
+		catch (IOException e) {
+			AzureLib.LOGGER.error("Couldn't load " + location, e);
+
+			throw new RuntimeException(new FileNotFoundException(location.toString()));
+		}
 	}
 
 	/**
@@ -61,4 +174,9 @@ public final class FileLoader {
 			throw new RuntimeException(new FileNotFoundException(location.toString()));
 		}
 	}
+
+	@FunctionalInterface
+	public interface JsonReaderFunction<T> {
+		T apply(JsonReader reader) throws IOException;
+	}
 }
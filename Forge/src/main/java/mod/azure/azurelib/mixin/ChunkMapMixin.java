@@ -0,0 +1,22 @@
+package mod.azure.azurelib.mixin;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+
+import mod.azure.azurelib.network.AnimSyncBatcher;
+import net.minecraft.server.level.ChunkMap;
+import net.minecraft.world.entity.Entity;
+
+@Mixin(ChunkMap.class)
+public abstract class ChunkMapMixin {
+
+    /**
+     * Send the entity's queued animation updates while its trackers are still known, before the entity is removed on the client
+     */
+    @Inject(method = "removeEntity", at = @At("HEAD"))
+    private void azurelib_flushAnimSync(Entity entity, CallbackInfo ci) {
+        AnimSyncBatcher.flushEntity(entity);
+    }
+}
@@ -2,6 +2,7 @@ package mod.azure.azurelib.network;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.network.NetworkRegistry;
 import net.minecraftforge.network.PacketDistributor;
 import net.minecraftforge.network.simple.SimpleChannel;
@@ -31,6 +32,12 @@ public final class AzureLibNetwork {
 		PACKET_CHANNEL.registerMessage(id++, EntityAnimTriggerPacket.class, EntityAnimTriggerPacket::encode, EntityAnimTriggerPacket::decode, EntityAnimTriggerPacket::receivePacket);
 		PACKET_CHANNEL.registerMessage(id++, BlockEntityAnimDataSyncPacket.class, BlockEntityAnimDataSyncPacket::encode, BlockEntityAnimDataSyncPacket::decode, BlockEntityAnimDataSyncPacket::receivePacket);
 		PACKET_CHANNEL.registerMessage(id++, BlockEntityAnimTriggerPacket.class, BlockEntityAnimTriggerPacket::encode, BlockEntityAnimTriggerPacket::decode, BlockEntityAnimTriggerPacket::receivePacket);
+		PACKET_CHANNEL.registerMessage(id++, AnimSyncBundlePacket.class, AnimSyncBundlePacket::encode, AnimSyncBundlePacket::decode, AnimSyncBundlePacket::receivePacket);
+		PACKET_CHANNEL.registerMessage(id++, AnimSyncNamesPacket.class, AnimSyncNamesPacket::encode, AnimSyncNamesPacket::decode, AnimSyncNamesPacket::receivePacket);
+
+		MinecraftForge.EVENT_BUS.addListener(AnimSyncBatcher::onServerTick);
+		MinecraftForge.EVENT_BUS.addListener(AnimSyncBatcher::onPlayerJoin);
+		MinecraftForge.EVENT_BUS.addListener(AnimSyncBatcher::onServerStopped);
 	}
 
 	/**
@@ -0,0 +1,79 @@
+package mod.azure.azurelib.network.packet;
+
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.network.NetworkEvent;
+import mod.azure.azurelib.network.AnimSyncBatcher;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Packet for defining the numeric ids of the names used in {@link AnimSyncBundlePacket AnimSyncBundlePackets}.<br>
+ * Sent with the full table when a player joins, then with any newly interned names before they are first used
+ * @see AnimSyncBatcher
+ */
+public class AnimSyncNamesPacket {
+	private static final List<String> CLIENT_NAMES = new ObjectArrayList<>();
+
+	private final int firstId;
+	private final List<String> names;
+
+	public AnimSyncNamesPacket(int firstId, List<String> names) {
+		this.firstId = firstId;
+		this.names = names;
+	}
+
+	public void encode(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(this.firstId);
+		buffer.writeVarInt(this.names.size());
+
+		for (String name : this.names) {
+			buffer.writeUtf(name);
+		}
+	}
+
+	public static AnimSyncNamesPacket decode(FriendlyByteBuf buffer) {
+		int firstId = buffer.readVarInt();
+		int count = buffer.readVarInt();
+		List<String> names = new ObjectArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+			names.add(buffer.readUtf());
+		}
+
+		return new AnimSyncNamesPacket(firstId, names);
+	}
+
+	/**
+	 * Names are applied immediately rather than on the client thread, as the bundles that follow are decoded on the network thread
+	 */
+	public void receivePacket(Supplier<NetworkEvent.Context> context) {
+		synchronized (CLIENT_NAMES) {
+			if (this.firstId == 0)
+				CLIENT_NAMES.clear();
+
+			while (CLIENT_NAMES.size() < this.firstId + this.names.size()) {
+				CLIENT_NAMES.add(null);
+			}
+
+			for (int i = 0; i < this.names.size(); i++) {
+				CLIENT_NAMES.set(this.firstId + i, this.names.get(i));
+			}
+		}
+
+		context.get().setPacketHandled(true);
+	}
+
+	/**
+	 * Get the name for the given id, as defined by the server
+	 * @return The name, or null if the server hasn't defined the given id
+	 */
+	@Nullable
+	public static String getName(int id) {
+		synchronized (CLIENT_NAMES) {
+			return id >= 0 && id < CLIENT_NAMES.size() ? CLIENT_NAMES.get(id) : null;
+		}
+	}
+}
@@ -50,6 +50,18 @@ public final class AzureLibUtil {
 		return singletonObject ? new SingletonAnimatableInstanceCache(animatable) : new InstancedAnimatableInstanceCache(animatable);
 	}
 
+	/**
+	 * Creates a new AnimatableInstanceCache for the given singleton/flyweight animatable object, with custom limits for how long instance data is kept for.<br>
+	 * Useful for animatables that are expected to have many more (or fewer) instances in use at once than usual.
+	 * 
+	 * @param animatable   The animatable object
+	 * @param maxInstances The maximum number of instances to keep animation data for, or 0 for no limit
+	 * @param idleTimeout  The time (in milliseconds) to keep an instance's animation data for after it was last used, or 0 to keep it indefinitely
+	 */
+	public static AnimatableInstanceCache createSingletonInstanceCache(GeoAnimatable animatable, int maxInstances, long idleTimeout) {
+		return new SingletonAnimatableInstanceCache(animatable, maxInstances, idleTimeout);
+	}
+
 	/**
 	 * Register a custom {@link mod.azure.azurelib.core.animation.Animation.LoopType} with AzureLib, allowing for dynamic handling of post-animation looping.<br>
 	 * <b><u>MUST be called during mod construct</u></b><br>
@@ -0,0 +1,84 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
+import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.core.animation.AnimationController;
+import mod.azure.azurelib.core.animation.AnimationState;
+import mod.azure.azurelib.core.keyframe.BoneAnimationQueue;
+import mod.azure.azurelib.core.state.BoneSnapshot;
+
+/**
+ * Measures the cost of {@link AnimationController#process} on its own, which looks up the current keyframes and queues the animation points for every animated bone.<br>
+ * The queued points are discarded after each call rather than being applied to the bones
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AnimationControllerBenchmark {
+	private static final double FRAME_TIME = 0.5;
+
+	@Param({"10", "100", "1000"})
+	public int boneCount;
+
+	@Param({"2", "16", "128"})
+	public int keyframeCount;
+
+	private BenchmarkGeoModel model;
+	private AnimationController<BenchmarkAnimatable> controller;
+	private AnimationState<BenchmarkAnimatable> state;
+	private final Map<String, CoreGeoBone> bones = new Object2ObjectOpenHashMap<>();
+	private final Map<String, BoneSnapshot> snapshots = new Object2ObjectOpenHashMap<>();
+	private double animTime;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		BenchmarkAnimatable animatable = new BenchmarkAnimatable(1, 1, BenchmarkAnimatable.PoseMode.BONES);
+
+		this.model = new BenchmarkGeoModel(this.boneCount, 1, this.keyframeCount);
+		this.controller = new AnimatableManager<BenchmarkAnimatable>(animatable).getAnimationControllers().values().iterator().next();
+		this.state = new AnimationState<>(animatable, 0, 0, 0, false);
+		this.animTime = 0;
+
+		this.bones.clear();
+		this.snapshots.clear();
+
+		for (CoreGeoBone bone : this.model.getAnimationProcessor().getIndexedBones()) {
+			this.bones.put(bone.getName(), bone);
+			this.snapshots.put(bone.getName(), BoneSnapshot.copy(bone.getInitialSnapshot()));
+		}
+
+		this.state.withController(this.controller);
+	}
+
+	@Benchmark
+	public void process() {
+		this.animTime += FRAME_TIME;
+		this.state.animationTick = this.animTime;
+
+		this.controller.process(this.model, this.state, this.bones, this.snapshots, this.animTime, false);
+
+		for (BoneAnimationQueue queue : this.controller.getBoneAnimationQueues().values()) {
+			queue.clear();
+		}
+	}
+}
@@ -0,0 +1,272 @@
+package mod.azure.azurelib.core.benchmark;
+
+import java.util.List;
+
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
+import mod.azure.azurelib.core.state.BoneSnapshot;
+
+/**
+ * Minimal {@link CoreGeoBone} implementation for benchmarking the core animation engine without any rendering data
+ */
+public class BenchmarkGeoBone implements CoreGeoBone {
+	private final String name;
+	private final BenchmarkGeoBone parent;
+	private final List<BenchmarkGeoBone> children = new ObjectArrayList<>();
+
+	private BoneSnapshot initialSnapshot;
+
+	private boolean hidden;
+	private boolean childrenHidden = false;
+
+	private float scaleX = 1;
+	private float scaleY = 1;
+	private float scaleZ = 1;
+
+	private float positionX;
+	private float positionY;
+	private float positionZ;
+
+	private float pivotX;
+	private float pivotY;
+	private float pivotZ;
+
+	private float rotX;
+	private float rotY;
+	private float rotZ;
+
+	private boolean positionChanged = false;
+	private boolean rotationChanged = false;
+	private boolean scaleChanged = false;
+
+	public BenchmarkGeoBone(BenchmarkGeoBone parent, String name) {
+		this.parent = parent;
+		this.name = name;
+
+		if (parent != null)
+			parent.children.add(this);
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	@Override
+	public BenchmarkGeoBone getParent() {
+		return this.parent;
+	}
+
+	@Override
+	public float getRotX() {
+		return this.rotX;
+	}
+
+	@Override
+	public float getRotY() {
+		return this.rotY;
+	}
+
+	@Override
+	public float getRotZ() {
+		return this.rotZ;
+	}
+
+	@Override
+	public float getPosX() {
+		return this.positionX;
+	}
+
+	@Override
+	public float getPosY() {
+		return this.positionY;
+	}
+
+	@Override
+	public float getPosZ() {
+		return this.positionZ;
+	}
+
+	@Override
+	public float getScaleX() {
+		return this.scaleX;
+	}
+
+	@Override
+	public float getScaleY() {
+		return this.scaleY;
+	}
+
+	@Override
+	public float getScaleZ() {
+		return this.scaleZ;
+	}
+
+	@Override
+	public void setRotX(float value) {
+		this.rotX = value;
+
+		markRotationAsChanged();
+	}
+
+	@Override
+	public void setRotY(float value) {
+		this.rotY = value;
+
+		markRotationAsChanged();
+	}
+
+	@Override
+	public void setRotZ(float value) {
+		this.rotZ = value;
+
+		markRotationAsChanged();
+	}
+
+	@Override
+	public void setPosX(float value) {
+		this.positionX = value;
+
+		markPositionAsChanged();
+	}
+
+	@Override
+	public void setPosY(float value) {
+		this.positionY = value;
+
+		markPositionAsChanged();
+	}
+
+	@Override
+	public void setPosZ(float value) {
+		this.positionZ = value;
+
+		markPositionAsChanged();
+	}
+
+	@Override
+	public void setScaleX(float value) {
+		this.scaleX = value;
+
+		markScaleAsChanged();
+	}
+
+	@Override
+	public void setScaleY(float value) {
+		this.scaleY = value;
+
+		markScaleAsChanged();
+	}
+
+	@Override
+	public void setScaleZ(float value) {
+		this.scaleZ = value;
+
+		markScaleAsChanged();
+	}
+
+	@Override
+	public void setPivotX(float value) {
+		this.pivotX = value;
+	}
+
+	@Override
+	public void setPivotY(float value) {
+		this.pivotY = value;
+	}
+
+	@Override
+	public void setPivotZ(float value) {
+		this.pivotZ = value;
+	}
+
+	@Override
+	public float getPivotX() {
+		return this.pivotX;
+	}
+
+	@Override
+	public float getPivotY() {
+		return this.pivotY;
+	}
+
+	@Override
+	public float getPivotZ() {
+		return this.pivotZ;
+	}
+
+	@Override
+	public boolean isHidden() {
+		return this.hidden;
+	}
+
+	@Override
+	public boolean isHidingChildren() {
+		return this.childrenHidden;
+	}
+
+	@Override
+	public void setHidden(boolean hidden) {
+		this.hidden = hidden;
+
+		setChildrenHidden(hidden);
+	}
+
+	@Override
+	public void setChildrenHidden(boolean hideChildren) {
+		this.childrenHidden = hideChildren;
+	}
+
+	@Override
+	public void markScaleAsChanged() {
+		this.scaleChanged = true;
+	}
+
+	@Override
+	public void markRotationAsChanged() {
+		this.rotationChanged = true;
+	}
+
+	@Override
+	public void markPositionAsChanged() {
+		this.positionChanged = true;
+	}
+
+	@Override
+	public boolean hasScaleChanged() {
+		return this.scaleChanged;
+	}
+
+	@Override
+	public boolean hasRotationChanged() {
+		return this.rotationChanged;
+	}
+
+	@Override
+	public boolean hasPositionChanged() {
+		return this.positionChanged;
+	}
+
+	@Override
+	public void resetStateChanges() {
+		this.scaleChanged = false;
+		this.rotationChanged = false;
+		this.positionChanged = false;
+	}
+
+	@Override
+	public BoneSnapshot getInitialSnapshot() {
+		return this.initialSnapshot;
+	}
+
+	@Override
+	public List<BenchmarkGeoBone> getChildBones() {
+		return this.children;
+	}
+
+	@Override
+	public void saveInitialSnapshot() {
+		if (this.initialSnapshot == null)
+			this.initialSnapshot = saveSnapshot();
+	}
+}
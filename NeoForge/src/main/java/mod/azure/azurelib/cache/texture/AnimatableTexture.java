@@ -2,8 +2,16 @@ package mod.azure.azurelib.cache.texture;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.system.MemoryUtil;
 
 import com.mojang.blaze3d.pipeline.RenderCall;
 import com.mojang.blaze3d.platform.NativeImage;
@@ -12,11 +20,16 @@ import com.mojang.blaze3d.systems.RenderSystem;
 
 import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
 import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.util.RenderUtils;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.AbstractTexture;
 import net.minecraft.client.renderer.texture.SimpleTexture;
+import net.minecraft.client.renderer.texture.TextureManager;
 import net.minecraft.client.resources.metadata.animation.AnimationMetadataSection;
 import net.minecraft.client.resources.metadata.animation.FrameSize;
 import net.minecraft.client.resources.metadata.texture.TextureMetadataSection;
@@ -27,21 +40,92 @@ import net.minecraft.server.packs.resources.ResourceMetadata;
 import net.minecraft.util.Mth;
 
 /**
- * Wrapper for {@link SimpleTexture SimpleTexture} implementation allowing for casual use of animated non-atlas textures
+ * Wrapper for {@link SimpleTexture SimpleTexture} implementation allowing for casual use of animated non-atlas textures.<br>
+ * Textures are loaded synchronously, as every regular texture is wrapped in one. When {@link AnimatableTexture#prewarm prewarmed},
+ * the texture is instead decoded on a background executor while a transparent placeholder is bound in its place, and only the upload is run on the render thread<br>
+ * The upload cost of each animated texture is tracked in its {@link CostMetrics}, see {@link AnimatableTexture#getAllCostMetrics()}
  */
 public class AnimatableTexture extends SimpleTexture {
+	private static final Map<ResourceLocation, CostMetrics> COST_METRICS = new Object2ObjectOpenHashMap<>();
+
+	/**
+	 * Blended subframes of every interpolated animated texture, least recently used first.<br>
+	 * Only accessed on the render thread
+	 */
+	private static final Object2ObjectLinkedOpenHashMap<SubframeKey, int[]> INTERPOLATED_FRAME_CACHE = new Object2ObjectLinkedOpenHashMap<>();
+
+	private static int interpolatedFrameCacheSize = 1 << 18;
+	private static long cachedInterpolatedPixels = 0;
+
 	private AnimationContents animationContents = null;
+	private CompletableFuture<Void> loadFuture = CompletableFuture.completedFuture(null);
+	private int loadGeneration = 0;
+	private final CostMetrics costMetrics;
 
 	public AnimatableTexture(final ResourceLocation location) {
 		super(location);
+
+		this.costMetrics = new CostMetrics(location);
+	}
+
+	/**
+	 * Set the maximum number of pixels of blended subframes kept cached, shared between all interpolated animated textures.<br>
+	 * Each cached pixel costs 4 bytes, so the default of 262144 pixels is 1 MiB. Set to 0 to blend every subframe as it is needed.<br>
+	 * The least recently used subframes are evicted the next time a subframe is cached
+	 */
+	public static void setInterpolatedFrameCacheSize(int pixels) {
+		interpolatedFrameCacheSize = Math.max(0, pixels);
 	}
 
 	@Override
 	public void load(ResourceManager manager) throws IOException {
 		Resource resource = manager.getResourceOrThrow(this.location);
 
+		if (!GeoAbstractTexture.isPrewarming()) {
+			LoadedImage image = decode(resource);
+
+			onRenderThread(() -> upload(image));
+
+			return;
+		}
+
+		int generation = ++this.loadGeneration;
+		CompletableFuture<Void> loadFuture = new CompletableFuture<>();
+		this.loadFuture = loadFuture;
+
+		GeoAbstractTexture.uploadPlaceholder(getId());
+		CompletableFuture.supplyAsync(() -> {
+			try {
+				return decode(resource);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		}, Util.backgroundExecutor()).whenComplete((image, ex) -> onRenderThread(() -> {
+			if (generation != this.loadGeneration) {
+				if (image != null)
+					image.close();
+			}
+			else if (ex != null) {
+				AzureLib.LOGGER.warn("Failed to load texture: {}", this.location, ex);
+				GeoAbstractTexture.uploadMissingTexture(getId());
+			}
+			else {
+				upload(image);
+			}
+
+			loadFuture.complete(null);
+		}));
+	}
+
+	/**
+	 * Read the image and metadata for this texture.<br>
+	 * Can be called from any thread
+	 */
+	private LoadedImage decode(Resource resource) throws IOException {
 		NativeImage nativeImage;
 		TextureMetadataSection simpleTextureMeta = new TextureMetadataSection(false, false);
+		AnimationContents animationContents = null;
 
 		try (InputStream inputstream = resource.open()) {
 			nativeImage = NativeImage.read(inputstream);
@@ -51,31 +135,113 @@ public class AnimatableTexture extends SimpleTexture {
 			ResourceMetadata meta = resource.metadata();
 
 			simpleTextureMeta = meta.getSection(TextureMetadataSection.SERIALIZER).orElse(simpleTextureMeta);
-			this.animationContents = meta.getSection(AnimationMetadataSection.SERIALIZER).map(animMeta -> new AnimationContents(nativeImage, animMeta)).orElse(null);
+			animationContents = meta.getSection(AnimationMetadataSection.SERIALIZER).map(animMeta -> new AnimationContents(nativeImage, animMeta)).orElse(null);
+		}
+		catch (RuntimeException exception) {
+			AzureLib.LOGGER.warn("Failed reading metadata of: {}", this.location, exception);
+		}
 
-			if (this.animationContents != null) {
-				if (!this.animationContents.isValid()) {
-					nativeImage.close();
+		return new LoadedImage(nativeImage, simpleTextureMeta.isBlur(), simpleTextureMeta.isClamp(), animationContents);
+	}
 
-					return;
-				}
+	/**
+	 * Upload a decoded image to this texture.<br>
+	 * Must be called on the render thread
+	 */
+	private void upload(LoadedImage image) {
+		if (this.animationContents != null && this.animationContents.isValid())
+			this.animationContents.animatedTexture.evictInterpolatedFrames();
+
+		this.animationContents = image.animationContents();
 
-				onRenderThread(() -> {
-					TextureUtil.prepareImage(getId(), 0, this.animationContents.frameSize.width(), this.animationContents.frameSize.height());
-					nativeImage.upload(0, 0, 0, 0, 0, this.animationContents.frameSize.width(), this.animationContents.frameSize.height(), false, false);
-				});
+		if (this.animationContents != null) {
+			if (!this.animationContents.isValid()) {
+				image.close();
 
 				return;
 			}
+
+			TextureUtil.prepareImage(getId(), 0, this.animationContents.frameSize.width(), this.animationContents.frameSize.height());
+			image.image().upload(0, 0, 0, 0, 0, this.animationContents.frameSize.width(), this.animationContents.frameSize.height(), false, false);
+			this.costMetrics.reset();
+
+			synchronized (COST_METRICS) {
+				COST_METRICS.put(this.location, this.costMetrics);
+			}
+
+			return;
 		}
-		catch (RuntimeException exception) {
-			AzureLib.LOGGER.warn("Failed reading metadata of: {}", this.location, exception);
+
+		GeoAbstractTexture.uploadSimple(getId(), image.image(), image.blur(), image.clamp());
+	}
+
+	/**
+	 * Get a future that completes on the render thread once the most recent load of this texture has been uploaded
+	 */
+	public CompletableFuture<Void> getLoadFuture() {
+		return this.loadFuture;
+	}
+
+	/**
+	 * Discards any load of this texture that is still in progress, as the texture it would be uploaded to no longer exists
+	 */
+	@Override
+	public void close() {
+		this.loadGeneration++;
+
+		synchronized (COST_METRICS) {
+			COST_METRICS.remove(this.location, this.costMetrics);
+		}
+
+		super.close();
+	}
+
+	/**
+	 * Get the upload cost metrics for this texture, which are only recorded if it is animated
+	 */
+	public CostMetrics getCostMetrics() {
+		return this.costMetrics;
+	}
+
+	/**
+	 * Get the upload cost metrics of all currently loaded animated textures, most expensive first.<br>
+	 * Useful for finding which animated textures in a resource pack are costly to play
+	 */
+	public static List<CostMetrics> getAllCostMetrics() {
+		List<CostMetrics> metrics;
+
+		synchronized (COST_METRICS) {
+			metrics = new ObjectArrayList<>(COST_METRICS.values());
+		}
+
+		metrics.sort((metrics1, metrics2) -> Long.compare(metrics2.getTotalNanos(), metrics1.getTotalNanos()));
+
+		return metrics;
+	}
+
+	public static void resetCostMetrics() {
+		synchronized (COST_METRICS) {
+			for (CostMetrics metrics : COST_METRICS.values()) {
+				metrics.reset();
+			}
 		}
+	}
+
+	/**
+	 * Start loading the given textures ahead of time (E.G. the textures of entities that are about to be seen for the first time),
+	 * so that they are ready by the time they are first rendered.<br>
+	 * Can be called from any thread, with the loading itself started on the render thread. Textures that aren't loaded yet are decoded on a background executor
+	 */
+	public static void prewarm(Collection<ResourceLocation> textures) {
+		List<ResourceLocation> texturesToLoad = List.copyOf(textures);
 
-		boolean blur = simpleTextureMeta.isBlur();
-		boolean clamp = simpleTextureMeta.isClamp();
+		GeoAbstractTexture.prewarm(() -> {
+			TextureManager textureManager = Minecraft.getInstance().getTextureManager();
 
-		onRenderThread(() -> GeoAbstractTexture.uploadSimple(getId(), nativeImage, blur, clamp));
+			for (ResourceLocation texture : texturesToLoad) {
+				textureManager.getTexture(texture);
+			}
+		});
 	}
 
 	public static void setAndUpdate(ResourceLocation texturePath, int frameTick) {
@@ -101,6 +267,125 @@ public class AnimatableTexture extends SimpleTexture {
 		}
 	}
 
+	/**
+	 * The key of a blended subframe in the {@link AnimatableTexture#INTERPOLATED_FRAME_CACHE shared cache}, compared by the identity of its texture
+	 */
+	private record SubframeKey(AnimationContents.Texture texture, int frame, int subframe) {}
+
+	/**
+	 * A decoded texture image, ready to be uploaded
+	 * @param animationContents The animation data for the texture, or null if it isn't animated
+	 */
+	private record LoadedImage(NativeImage image, boolean blur, boolean clamp, @Nullable AnimationContents animationContents) implements AutoCloseable {
+		@Override
+		public void close() {
+			if (this.animationContents != null && this.animationContents.isValid()) {
+				this.animationContents.animatedTexture.close();
+			}
+			else {
+				this.image.close();
+			}
+		}
+	}
+
+	/**
+	 * The cost of playing an animated texture, from uploading its frames and blending its interpolated subframes.<br>
+	 * Only recorded on the render thread, but can be read from any thread
+	 */
+	public static final class CostMetrics {
+		private final ResourceLocation texture;
+		private volatile long frameUploads = 0;
+		private volatile long blendedFrames = 0;
+		private volatile long cachedFrames = 0;
+		private volatile long totalNanos = 0;
+		private volatile long cachedBytes = 0;
+
+		private CostMetrics(ResourceLocation texture) {
+			this.texture = texture;
+		}
+
+		private void recordFrameUpload(long nanos) {
+			this.frameUploads++;
+			this.totalNanos += nanos;
+		}
+
+		private void recordInterpolatedFrame(boolean cached, long nanos) {
+			if (cached) {
+				this.cachedFrames++;
+			}
+			else {
+				this.blendedFrames++;
+			}
+
+			this.totalNanos += nanos;
+		}
+
+		private void recordCachedBytes(long bytes) {
+			this.cachedBytes += bytes;
+		}
+
+		private void reset() {
+			this.frameUploads = 0;
+			this.blendedFrames = 0;
+			this.cachedFrames = 0;
+			this.totalNanos = 0;
+		}
+
+		public ResourceLocation getTexture() {
+			return this.texture;
+		}
+
+		/**
+		 * Get the number of whole frames uploaded since the metrics were last {@link AnimatableTexture#resetCostMetrics() reset}
+		 */
+		public long getFrameUploads() {
+			return this.frameUploads;
+		}
+
+		/**
+		 * Get the number of interpolated subframes that had to be blended since the metrics were last {@link AnimatableTexture#resetCostMetrics() reset}
+		 */
+		public long getBlendedFrames() {
+			return this.blendedFrames;
+		}
+
+		/**
+		 * Get the number of interpolated subframes uploaded from the cache since the metrics were last {@link AnimatableTexture#resetCostMetrics() reset}
+		 */
+		public long getCachedFrames() {
+			return this.cachedFrames;
+		}
+
+		/**
+		 * Get the total time spent blending and uploading this texture's frames, in nanoseconds
+		 */
+		public long getTotalNanos() {
+			return this.totalNanos;
+		}
+
+		/**
+		 * Get the average time spent per frame or subframe update, in nanoseconds
+		 */
+		public double getAverageNanos() {
+			long updates = this.frameUploads + this.blendedFrames + this.cachedFrames;
+
+			return updates == 0 ? 0 : this.totalNanos / (double)updates;
+		}
+
+		/**
+		 * Get the memory currently used by this texture's cached subframes in the shared cache, in bytes
+		 */
+		public long getCachedBytes() {
+			return this.cachedBytes;
+		}
+
+		@Override
+		public String toString() {
+			return String.format(Locale.ROOT, "%s: %s frame uploads, %s blended subframes, %s cached subframes, %.1fus average, %s cached bytes",
+					this.texture, this.frameUploads, this.blendedFrames, this.cachedFrames, getAverageNanos() / 1000d, this.cachedBytes);
+		}
+	}
+
 	private class AnimationContents {
 		private final FrameSize frameSize;
 		private final Texture animatedTexture;
@@ -166,6 +451,8 @@ public class AnimatableTexture extends SimpleTexture {
 			private final boolean interpolating;
 			private final NativeImage interpolatedFrame;
 			private final int totalFrameTime;
+			private final int[] prevFrameRow;
+			private final int[] nextFrameRow;
 
 			private int currentFrame;
 			private int currentSubframe;
@@ -176,6 +463,8 @@ public class AnimatableTexture extends SimpleTexture {
 				this.framePanelSize = framePanelSize;
 				this.interpolating = interpolating;
 				this.interpolatedFrame = interpolating ? new NativeImage(AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height(), false) : null;
+				this.prevFrameRow = interpolating ? new int[AnimationContents.this.frameSize.width()] : null;
+				this.nextFrameRow = interpolating ? new int[AnimationContents.this.frameSize.width()] : null;
 				int time = 0;
 
 				for (Frame frame : this.frames) {
@@ -203,11 +492,12 @@ public class AnimatableTexture extends SimpleTexture {
 				int lastFrame = this.currentFrame;
 				int time = 0;
 
-				for (Frame frame : this.frames) {
+				for (int i = 0; i < this.frames.length; i++) {
+					Frame frame = this.frames[i];
 					time += frame.time;
 
 					if (ticks < time) {
-						this.currentFrame = frame.index;
+						this.currentFrame = i;
 						this.currentSubframe = ticks % frame.time;
 
 						break;
@@ -216,8 +506,12 @@ public class AnimatableTexture extends SimpleTexture {
 
 				if (this.currentFrame != lastFrame && this.currentSubframe == 0) {
 					onRenderThread(() -> {
+						long startTime = System.nanoTime();
+						int frameIndex = this.frames[this.currentFrame].index;
+
 						TextureUtil.prepareImage(AnimatableTexture.this.getId(), 0, AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height());
-						this.baseImage.upload(0, 0, 0, getFrameX(this.currentFrame) * AnimationContents.this.frameSize.width(), getFrameY(this.currentFrame) * AnimationContents.this.frameSize.height(), AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height(), false, false);
+						this.baseImage.upload(0, 0, 0, getFrameX(frameIndex) * AnimationContents.this.frameSize.width(), getFrameY(frameIndex) * AnimationContents.this.frameSize.height(), AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height(), false, false);
+						AnimatableTexture.this.costMetrics.recordFrameUpload(System.nanoTime() - startTime);
 					});
 				}
 				else if (this.currentSubframe != lastSubframe && this.interpolating) {
@@ -225,31 +519,133 @@ public class AnimatableTexture extends SimpleTexture {
 				}
 			}
 
+			/**
+			 * Upload the current subframe, blended between the current and next frames.<br>
+			 * Blended subframes are kept in a cache shared by all animated textures, as the same subframes are requested again every time the animation loops,
+			 * and every time a renderer switches between animatables that are at different points in the animation
+			 */
 			private void generateInterpolatedFrame() {
+				long startTime = System.nanoTime();
 				Frame frame = this.frames[this.currentFrame];
-				double frameProgress = 1 - (double)this.currentSubframe / (double)frame.time;
 				int nextFrameIndex = this.frames[(this.currentFrame + 1) % this.frames.length].index;
 
-				if (frame.index != nextFrameIndex) {
-					for(int y = 0; y < this.interpolatedFrame.getHeight(); ++y) {
-						for(int x = 0; x < this.interpolatedFrame.getWidth(); ++x) {
-							int prevFramePixel = getPixel(frame.index, x, y);
-							int nextFramePixel = getPixel(nextFrameIndex, x, y);
-							int blendedRed = interpolate(frameProgress, prevFramePixel >> 16 & 255, nextFramePixel >> 16 & 255);
-							int blendedGreen = interpolate(frameProgress, prevFramePixel >> 8 & 255, nextFramePixel >> 8 & 255);
-							int blendedBlue = interpolate(frameProgress, prevFramePixel & 255, nextFramePixel & 255);
-
-							this.interpolatedFrame.setPixelRGBA(x, y, prevFramePixel & -16777216 | blendedRed << 16 | blendedGreen << 8 | blendedBlue);
-						}
+				if (frame.index == nextFrameIndex)
+					return;
+
+				SubframeKey cacheKey = new SubframeKey(this, this.currentFrame, this.currentSubframe);
+				int[] pixels = INTERPOLATED_FRAME_CACHE.getAndMoveToLast(cacheKey);
+				boolean cached = pixels != null;
+
+				if (!cached) {
+					pixels = blendFrames(frame.index, nextFrameIndex, 1 - (double)this.currentSubframe / (double)frame.time);
+
+					cacheInterpolatedFrame(cacheKey, pixels);
+				}
+
+				writePixels(this.interpolatedFrame, pixels);
+				TextureUtil.prepareImage(AnimatableTexture.this.getId(), 0, AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height());
+				this.interpolatedFrame.upload(0, 0, 0, 0, 0, AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height(), false, false);
+				AnimatableTexture.this.costMetrics.recordInterpolatedFrame(cached, System.nanoTime() - startTime);
+			}
+
+			/**
+			 * Add a blended subframe to the shared cache, first evicting the least recently used subframes of any texture until it fits
+			 */
+			private void cacheInterpolatedFrame(SubframeKey key, int[] pixels) {
+				if (pixels.length > interpolatedFrameCacheSize)
+					return;
+
+				while (!INTERPOLATED_FRAME_CACHE.isEmpty() && cachedInterpolatedPixels + pixels.length > interpolatedFrameCacheSize) {
+					SubframeKey evictedKey = INTERPOLATED_FRAME_CACHE.firstKey();
+
+					evictedKey.texture().uncache(INTERPOLATED_FRAME_CACHE.removeFirst());
+				}
+
+				INTERPOLATED_FRAME_CACHE.put(key, pixels);
+				cachedInterpolatedPixels += pixels.length;
+				AnimatableTexture.this.costMetrics.recordCachedBytes(pixels.length * 4L);
+			}
+
+			private void uncache(int[] pixels) {
+				cachedInterpolatedPixels -= pixels.length;
+				AnimatableTexture.this.costMetrics.recordCachedBytes(pixels.length * -4L);
+			}
+
+			/**
+			 * Remove all of this texture's subframes from the shared cache
+			 */
+			private void evictInterpolatedFrames() {
+				if (!this.interpolating)
+					return;
+
+				for (var iterator = INTERPOLATED_FRAME_CACHE.object2ObjectEntrySet().fastIterator(); iterator.hasNext();) {
+					var entry = iterator.next();
+
+					if (entry.getKey().texture() == this) {
+						uncache(entry.getValue());
+						iterator.remove();
+					}
+				}
+			}
+
+			/**
+			 * Blend two frames of the base image together, reading a row of each frame at a time
+			 * @param frameProgress How much of the previous frame to blend in, from 0 to 1
+			 * @return The blended frame's pixels, in {@link NativeImage#getPixelRGBA} format
+			 */
+			private int[] blendFrames(int prevFrameIndex, int nextFrameIndex, double frameProgress) {
+				int width = AnimationContents.this.frameSize.width();
+				int height = AnimationContents.this.frameSize.height();
+				int[] pixels = new int[width * height];
+
+				for (int y = 0; y < height; y++) {
+					readFrameRow(prevFrameIndex, y, this.prevFrameRow);
+					readFrameRow(nextFrameIndex, y, this.nextFrameRow);
+
+					for (int x = 0, i = y * width; x < width; x++, i++) {
+						int prevFramePixel = this.prevFrameRow[x];
+						int nextFramePixel = this.nextFrameRow[x];
+						int blendedRed = interpolate(frameProgress, prevFramePixel >> 16 & 255, nextFramePixel >> 16 & 255);
+						int blendedGreen = interpolate(frameProgress, prevFramePixel >> 8 & 255, nextFramePixel >> 8 & 255);
+						int blendedBlue = interpolate(frameProgress, prevFramePixel & 255, nextFramePixel & 255);
+
+						pixels[i] = prevFramePixel & -16777216 | blendedRed << 16 | blendedGreen << 8 | blendedBlue;
 					}
+				}
+
+				return pixels;
+			}
 
-					TextureUtil.prepareImage(AnimatableTexture.this.getId(), 0, AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height());
-					this.interpolatedFrame.upload(0, 0, 0, 0, 0, AnimationContents.this.frameSize.width(), AnimationContents.this.frameSize.height(), false, false);
+			private void readFrameRow(int frameIndex, int y, int[] row) {
+				int frameX = getFrameX(frameIndex) * AnimationContents.this.frameSize.width();
+				int frameY = getFrameY(frameIndex) * AnimationContents.this.frameSize.height() + y;
+				long pixels = RenderUtils.getPixelAddress(this.baseImage);
+
+				if (pixels != 0) {
+					MemoryUtil.memIntBuffer(pixels + ((long)frameY * this.baseImage.getWidth() + frameX) * 4, row.length).get(row);
+
+					return;
+				}
+
+				for (int x = 0; x < row.length; x++) {
+					row[x] = this.baseImage.getPixelRGBA(frameX + x, frameY);
 				}
 			}
 
-			private int getPixel(int frameIndex, int x, int y) {
-				return this.baseImage.getPixelRGBA(x + getFrameX(frameIndex) * AnimationContents.this.frameSize.width(), y + getFrameY(frameIndex) * AnimationContents.this.frameSize.height());
+			private void writePixels(NativeImage image, int[] pixels) {
+				long address = RenderUtils.getPixelAddress(image);
+
+				if (address != 0) {
+					MemoryUtil.memIntBuffer(address, pixels.length).put(pixels);
+
+					return;
+				}
+
+				for (int y = 0; y < image.getHeight(); y++) {
+					for (int x = 0; x < image.getWidth(); x++) {
+						image.setPixelRGBA(x, y, pixels[y * image.getWidth() + x]);
+					}
+				}
 			}
 
 			private int interpolate(double frameProgress, double prevColour, double nextColour) {
@@ -259,6 +655,7 @@ public class AnimatableTexture extends SimpleTexture {
 			@Override
 			public void close() {
 				this.baseImage.close();
+				evictInterpolatedFrames();
 
 				if (this.interpolatedFrame != null)
 					this.interpolatedFrame.close();
@@ -4,6 +4,8 @@ import com.mojang.blaze3d.pipeline.RenderCall;
 import com.mojang.blaze3d.platform.NativeImage;
 import com.mojang.blaze3d.platform.TextureUtil;
 import com.mojang.blaze3d.systems.RenderSystem;
+import mod.azure.azurelib.AzureLib;
+import net.minecraft.Util;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.texture.AbstractTexture;
 import net.minecraft.client.renderer.texture.MissingTextureAtlasSprite;
@@ -15,6 +17,8 @@ import net.minecraftforge.fml.loading.FMLPaths;
 import javax.annotation.Nullable;
 import java.io.File;
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 /**
@@ -22,6 +26,51 @@ import java.util.function.Consumer;
  * Mostly just handles boilerplate
  */
 public abstract class GeoAbstractTexture extends AbstractTexture {
+	private static volatile boolean asyncLoading = false;
+	private static boolean prewarming = false;
+
+	private int loadGeneration = 0;
+
+	/**
+	 * Set whether AzureLib textures that {@link GeoAbstractTexture#loadTextureAsync support it} should be generated on a background executor
+	 * when first requested on the render thread, rendering as transparent until they are ready.<br>
+	 * Other textures, including the {@link AnimatableTexture AnimatableTextures} that wrap every regular texture, are only loaded asynchronously when
+	 * {@link AnimatableTexture#prewarm prewarmed}, so that textures outside of AzureLib never render as a placeholder.<br>
+	 * Disabled by default
+	 */
+	public static void setAsyncLoading(boolean asyncLoading) {
+		GeoAbstractTexture.asyncLoading = asyncLoading;
+	}
+
+	public static boolean usesAsyncLoading() {
+		return asyncLoading;
+	}
+
+	/**
+	 * Whether textures are currently being requested by a prewarm, and so should be loaded asynchronously regardless of {@link GeoAbstractTexture#setAsyncLoading}.<br>
+	 * Only meaningful on the render thread
+	 */
+	public static boolean isPrewarming() {
+		return prewarming && RenderSystem.isOnRenderThread();
+	}
+
+	/**
+	 * Run the given texture requests on the render thread, loading any textures they create asynchronously
+	 * @see AnimatableTexture#prewarm
+	 */
+	public static void prewarm(Runnable textureRequests) {
+		RenderSystem.recordRenderCall(() -> {
+			prewarming = true;
+
+			try {
+				textureRequests.run();
+			}
+			finally {
+				prewarming = false;
+			}
+		});
+	}
+
 	/**
 	 * Generates the texture instance for the given path with the given appendix if it hasn't already been generated
 	 */
@@ -37,6 +86,30 @@ public abstract class GeoAbstractTexture extends AbstractTexture {
 
 	@Override
 	public final void load(ResourceManager resourceManager) throws IOException {
+		if ((asyncLoading && RenderSystem.isOnRenderThread()) || isPrewarming()) {
+			CompletableFuture<RenderCall> future = loadTextureAsync(resourceManager, Minecraft.getInstance(), Util.backgroundExecutor());
+
+			if (future != null) {
+				int generation = ++this.loadGeneration;
+
+				uploadPlaceholder(getId());
+				future.whenComplete((asyncRenderCall, ex) -> RenderSystem.recordRenderCall(() -> {
+					if (generation != this.loadGeneration)
+						return;
+
+					if (ex != null) {
+						AzureLib.LOGGER.warn("Failed to load {}", getClass().getSimpleName(), ex);
+						uploadMissingTexture(getId());
+					}
+					else if (asyncRenderCall != null) {
+						asyncRenderCall.execute();
+					}
+				}));
+
+				return;
+			}
+		}
+
 		RenderCall renderCall = loadTexture(resourceManager, Minecraft.getInstance());
 
 		if (renderCall == null)
@@ -85,6 +158,27 @@ public abstract class GeoAbstractTexture extends AbstractTexture {
 	@Nullable
 	protected abstract RenderCall loadTexture(ResourceManager resourceManager, Minecraft mc) throws IOException;
 
+	/**
+	 * Called on the render thread instead of {@link GeoAbstractTexture#loadTexture} when {@link GeoAbstractTexture#setAsyncLoading async loading} is enabled, or when prewarming.<br>
+	 * Start generating the texture on the given executor here, completing with the RenderCall to submit to the render pipeline once it is ready.
+	 * The texture renders as transparent in the meantime
+	 * @return The future RenderCall (which may be null if no further action is required), or null if this texture can only be loaded through {@code loadTexture}
+	 */
+	@Nullable
+	protected CompletableFuture<RenderCall> loadTextureAsync(ResourceManager resourceManager, Minecraft mc, Executor executor) {
+		return null;
+	}
+
+	/**
+	 * Discards any load of this texture that is still in progress, as the texture it would be uploaded to no longer exists
+	 */
+	@Override
+	public void close() {
+		this.loadGeneration++;
+
+		super.close();
+	}
+
 	/**
 	 * No-frills helper method for uploading {@link NativeImage images} into memory for use
 	 */
@@ -93,6 +187,24 @@ public abstract class GeoAbstractTexture extends AbstractTexture {
 		image.upload(0, 0, 0, 0, 0, image.getWidth(), image.getHeight(), blur, clamp, false, true);
 	}
 
+	/**
+	 * Upload a single transparent pixel to the given texture, to render in place of a texture that is still loading
+	 */
+	public static void uploadPlaceholder(int texture) {
+		uploadSimple(texture, new NativeImage(1, 1, true), false, false);
+	}
+
+	/**
+	 * Upload a copy of the missing texture to the given texture, to render in place of a texture that failed to load
+	 */
+	public static void uploadMissingTexture(int texture) {
+		NativeImage missingImage = MissingTextureAtlasSprite.getTexture().getPixels();
+		NativeImage copy = new NativeImage(missingImage.getWidth(), missingImage.getHeight(), false);
+
+		copy.copyFrom(missingImage);
+		uploadSimple(texture, copy, false, false);
+	}
+
 	public static ResourceLocation appendToPath(ResourceLocation location, String suffix) {
 		String path = location.getPath();
 		int i = path.lastIndexOf('.');
@@ -0,0 +1,23 @@
+package mod.azure.azurelib.core.animation;
+
+/**
+ * Level of detail to animate an animatable at for a single render frame.<br>
+ * Lower levels of detail re-use the animatable's last computed pose for a number of frames, and skip animating small bones that have no child bones,
+ * reducing the cost of animating animatables that are far away or small on screen.
+ * @param updateInterval The number of render frames each computed pose is used for. 1 computes a new pose every frame
+ * @param minLeafBoneSize The size (in model units) below which bones without child bones aren't animated. 0 animates all bones
+ * @param frozen Whether to hold the last computed pose indefinitely, rather than animating at all
+ */
+public record AnimationLod(int updateInterval, float minLeafBoneSize, boolean frozen) {
+	public static final AnimationLod FULL = new AnimationLod(1, 0, false);
+	public static final AnimationLod REDUCED = new AnimationLod(2, 1, false);
+	public static final AnimationLod LOW = new AnimationLod(4, 2, false);
+	public static final AnimationLod FROZEN = new AnimationLod(1, 0, true);
+
+	/**
+	 * Whether this level of detail animates every bone, every frame
+	 */
+	public boolean isFullDetail() {
+		return this.updateInterval <= 1 && this.minLeafBoneSize <= 0 && !this.frozen;
+	}
+}
@@ -2,27 +2,40 @@ package mod.azure.azurelib.core.animation;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
+
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animatable.model.CoreBakedGeoModel;
 import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
 import mod.azure.azurelib.core.animatable.model.CoreGeoModel;
 import mod.azure.azurelib.core.keyframe.AnimationPoint;
 import mod.azure.azurelib.core.keyframe.BoneAnimationQueue;
+import mod.azure.azurelib.core.state.BonePoseBuffer;
 import mod.azure.azurelib.core.state.BoneSnapshot;
+import mod.azure.azurelib.core.state.SharedPoseCache;
 import mod.azure.azurelib.core.utils.Interpolations;
 
 public class AnimationProcessor<T extends GeoAnimatable> {
 	private final Map<String, CoreGeoBone> bones = new Object2ObjectOpenHashMap<>();
+	private List<CoreGeoBone> boneList = new ObjectArrayList<>();
+	private final Reference2IntOpenHashMap<CoreGeoBone> boneIndices = new Reference2IntOpenHashMap<>();
 	private final CoreGeoModel<T> model;
+	private boolean[] skippedBones = null;
+	private final SharedPoseCache.Key sharedPoseKey = new SharedPoseCache.Key();
 
 	public boolean reloadAnimations = false;
 
 	public AnimationProcessor(CoreGeoModel<T> model) {
 		this.model = model;
+
+		this.boneIndices.defaultReturnValue(-1);
 	}
 
 	/**
@@ -59,7 +72,11 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	}
 
 	/**
-	 * Tick and apply transformations to the model based on the current state of the {@link AnimationController}
+	 * Tick and apply transformations to the model based on the current state of the {@link AnimationController}.<br>
+	 * If the {@code AnimatableManager} has a {@link BonePoseBuffer}, the computed pose is written to that instead of the bones,
+	 * and must be {@link BonePoseBuffer#apply() applied} before rendering.<br>
+	 * If the animatable {@link GeoAnimatable#usesSharedPoses() uses shared poses}, the pose is looked up in the {@link SharedPoseCache} first,
+	 * and is only evaluated if another animatable hasn't already computed it
 	 *
 	 * @param animatable            The animatable object relevant to the animation being played
 	 * @param model                 The model currently being processed
@@ -70,6 +87,21 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 */
 	public void tickAnimation(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> event, boolean crashWhenCantFindBone) {
 		Map<String, BoneSnapshot> boneSnapshots = updateBoneSnapshots(animatableManager.getBoneSnapshotCollection());
+		BonePoseBuffer pose = animatableManager.getPoseBuffer();
+		boolean sharePose = pose != null && animatable.usesSharedPoses() && buildSharedPoseKey(animatable, model, animatableManager, animTime);
+
+		if (sharePose) {
+			BonePoseBuffer sharedPose = SharedPoseCache.get(this.sharedPoseKey);
+
+			if (sharedPose != null) {
+				applySharedPose(animatable, sharedPose, pose, model, animatableManager, animTime, event, boneSnapshots, crashWhenCantFindBone);
+
+				return;
+			}
+		}
+
+		if (pose != null)
+			pose.prepare(this.boneList);
 
 		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
 			if (this.reloadAnimations) {
@@ -86,6 +118,7 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 				CoreGeoBone bone = boneAnimation.bone();
 				BoneSnapshot snapshot = boneSnapshots.get(bone.getName());
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
+				int boneIndex = pose != null ? this.boneIndices.getInt(bone) : -1;
 
 				AnimationPoint rotXPoint = boneAnimation.rotationXQueue().poll();
 				AnimationPoint rotYPoint = boneAnimation.rotationYQueue().poll();
@@ -99,39 +132,86 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 				EasingType easingType = controller.overrideEasingTypeFunction.apply(animatable);
 
 				if (rotXPoint != null && rotYPoint != null && rotZPoint != null) {
-					bone.setRotX((float)EasingType.lerpWithOverride(rotXPoint, easingType) + initialSnapshot.getRotX());
-					bone.setRotY((float)EasingType.lerpWithOverride(rotYPoint, easingType) + initialSnapshot.getRotY());
-					bone.setRotZ((float)EasingType.lerpWithOverride(rotZPoint, easingType) + initialSnapshot.getRotZ());
-					snapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+					float rotX = (float)EasingType.lerpWithOverride(rotXPoint, easingType) + initialSnapshot.getRotX();
+					float rotY = (float)EasingType.lerpWithOverride(rotYPoint, easingType) + initialSnapshot.getRotY();
+					float rotZ = (float)EasingType.lerpWithOverride(rotZPoint, easingType) + initialSnapshot.getRotZ();
+
+					if (pose != null) {
+						pose.setRotation(boneIndex, rotX, rotY, rotZ);
+					}
+					else {
+						bone.updateRotation(rotX, rotY, rotZ);
+						bone.markRotationAsChanged();
+					}
+
+					snapshot.updateRotation(rotX, rotY, rotZ);
 					snapshot.startRotAnim();
-					bone.markRotationAsChanged();
 				}
 
 				if (posXPoint != null && posYPoint != null && posZPoint != null) {
-					bone.setPosX((float)EasingType.lerpWithOverride(posXPoint, easingType));
-					bone.setPosY((float)EasingType.lerpWithOverride(posYPoint, easingType));
-					bone.setPosZ((float)EasingType.lerpWithOverride(posZPoint, easingType));
-					snapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+					float posX = (float)EasingType.lerpWithOverride(posXPoint, easingType);
+					float posY = (float)EasingType.lerpWithOverride(posYPoint, easingType);
+					float posZ = (float)EasingType.lerpWithOverride(posZPoint, easingType);
+
+					if (pose != null) {
+						pose.setPosition(boneIndex, posX, posY, posZ);
+					}
+					else {
+						bone.updatePosition(posX, posY, posZ);
+						bone.markPositionAsChanged();
+					}
+
+					snapshot.updateOffset(posX, posY, posZ);
 					snapshot.startPosAnim();
-					bone.markPositionAsChanged();
 				}
 
 				if (scaleXPoint != null && scaleYPoint != null && scaleZPoint != null) {
-					bone.setScaleX((float)EasingType.lerpWithOverride(scaleXPoint, easingType));
-					bone.setScaleY((float)EasingType.lerpWithOverride(scaleYPoint, easingType));
-					bone.setScaleZ((float)EasingType.lerpWithOverride(scaleZPoint, easingType));
-					snapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+					float scaleX = (float)EasingType.lerpWithOverride(scaleXPoint, easingType);
+					float scaleY = (float)EasingType.lerpWithOverride(scaleYPoint, easingType);
+					float scaleZ = (float)EasingType.lerpWithOverride(scaleZPoint, easingType);
+
+					if (pose != null) {
+						pose.setScale(boneIndex, scaleX, scaleY, scaleZ);
+					}
+					else {
+						bone.updateScale(scaleX, scaleY, scaleZ);
+						bone.markScaleAsChanged();
+					}
+
+					snapshot.updateScale(scaleX, scaleY, scaleZ);
 					snapshot.startScaleAnim();
-					bone.markScaleAsChanged();
 				}
 			}
 		}
 
 		this.reloadAnimations = false;
+
+		if (sharePose)
+			SharedPoseCache.put(this.sharedPoseKey, pose);
+
+		resetUnanimatedBones(animatable, pose, boneSnapshots, animTime);
+
+		if (pose != null) {
+			pose.finishPose(animatableManager.getLastUpdateTime());
+		}
+		else {
+			resetBoneTransformationMarkers();
+		}
+
+		animatableManager.finishFirstTick();
+	}
+
+	/**
+	 * Interpolate the bones that weren't animated this frame back towards their initial pose, over the animatable's {@link GeoAnimatable#getBoneResetTime() bone reset time}.<br>
+	 * This depends on the animatable's own {@link BoneSnapshot snapshots}, so is always computed per animatable, even when the animated part of the pose is shared
+	 */
+	private void resetUnanimatedBones(T animatable, @Nullable BonePoseBuffer pose, Map<String, BoneSnapshot> boneSnapshots, double animTime) {
 		double resetTickLength = animatable.getBoneResetTime();
 
-		for (CoreGeoBone bone : getRegisteredBones()) {
-			if (!bone.hasRotationChanged()) {
+		for (int i = 0; i < this.boneList.size(); i++) {
+			CoreGeoBone bone = this.boneList.get(i);
+
+			if (pose != null ? !pose.hasRotationChanged(i) : !bone.hasRotationChanged()) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
 
@@ -139,16 +219,22 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 					saveSnapshot.stopRotAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetRotationTick()) / resetTickLength, 1);
+				float rotX = (float)Interpolations.lerp(saveSnapshot.getRotX(), initialSnapshot.getRotX(), percentageReset);
+				float rotY = (float)Interpolations.lerp(saveSnapshot.getRotY(), initialSnapshot.getRotY(), percentageReset);
+				float rotZ = (float)Interpolations.lerp(saveSnapshot.getRotZ(), initialSnapshot.getRotZ(), percentageReset);
 
-				bone.setRotX((float)Interpolations.lerp(saveSnapshot.getRotX(), initialSnapshot.getRotX(), percentageReset));
-				bone.setRotY((float)Interpolations.lerp(saveSnapshot.getRotY(), initialSnapshot.getRotY(), percentageReset));
-				bone.setRotZ((float)Interpolations.lerp(saveSnapshot.getRotZ(), initialSnapshot.getRotZ(), percentageReset));
+				if (pose != null) {
+					pose.setRotation(i, rotX, rotY, rotZ);
+				}
+				else {
+					bone.updateRotation(rotX, rotY, rotZ);
+				}
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateRotation(bone.getRotX(), bone.getRotY(), bone.getRotZ());
+					saveSnapshot.updateRotation(rotX, rotY, rotZ);
 			}
 
-			if (!bone.hasPositionChanged()) {
+			if (pose != null ? !pose.hasPositionChanged(i) : !bone.hasPositionChanged()) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
 
@@ -156,16 +242,22 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 					saveSnapshot.stopPosAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetPositionTick()) / resetTickLength, 1);
+				float posX = (float)Interpolations.lerp(saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX(), percentageReset);
+				float posY = (float)Interpolations.lerp(saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY(), percentageReset);
+				float posZ = (float)Interpolations.lerp(saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ(), percentageReset);
 
-				bone.setPosX((float)Interpolations.lerp(saveSnapshot.getOffsetX(), initialSnapshot.getOffsetX(), percentageReset));
-				bone.setPosY((float)Interpolations.lerp(saveSnapshot.getOffsetY(), initialSnapshot.getOffsetY(), percentageReset));
-				bone.setPosZ((float)Interpolations.lerp(saveSnapshot.getOffsetZ(), initialSnapshot.getOffsetZ(), percentageReset));
+				if (pose != null) {
+					pose.setPosition(i, posX, posY, posZ);
+				}
+				else {
+					bone.updatePosition(posX, posY, posZ);
+				}
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateOffset(bone.getPosX(), bone.getPosY(), bone.getPosZ());
+					saveSnapshot.updateOffset(posX, posY, posZ);
 			}
 
-			if (!bone.hasScaleChanged()) {
+			if (pose != null ? !pose.hasScaleChanged(i) : !bone.hasScaleChanged()) {
 				BoneSnapshot initialSnapshot = bone.getInitialSnapshot();
 				BoneSnapshot saveSnapshot = boneSnapshots.get(bone.getName());
 
@@ -173,17 +265,107 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 					saveSnapshot.stopScaleAnim(animTime);
 
 				double percentageReset = Math.min((animTime - saveSnapshot.getLastResetScaleTick()) / resetTickLength, 1);
+				float scaleX = (float)Interpolations.lerp(saveSnapshot.getScaleX(), initialSnapshot.getScaleX(), percentageReset);
+				float scaleY = (float)Interpolations.lerp(saveSnapshot.getScaleY(), initialSnapshot.getScaleY(), percentageReset);
+				float scaleZ = (float)Interpolations.lerp(saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ(), percentageReset);
 
-				bone.setScaleX((float)Interpolations.lerp(saveSnapshot.getScaleX(), initialSnapshot.getScaleX(), percentageReset));
-				bone.setScaleY((float)Interpolations.lerp(saveSnapshot.getScaleY(), initialSnapshot.getScaleY(), percentageReset));
-				bone.setScaleZ((float)Interpolations.lerp(saveSnapshot.getScaleZ(), initialSnapshot.getScaleZ(), percentageReset));
+				if (pose != null) {
+					pose.setScale(i, scaleX, scaleY, scaleZ);
+				}
+				else {
+					bone.updateScale(scaleX, scaleY, scaleZ);
+				}
 
 				if (percentageReset >= 1)
-					saveSnapshot.updateScale(bone.getScaleX(), bone.getScaleY(), bone.getScaleZ());
+					saveSnapshot.updateScale(scaleX, scaleY, scaleZ);
+			}
+		}
+	}
+
+	/**
+	 * Advance the animatable's controllers without evaluating their bone animations, for frames that re-use a previously computed pose.<br>
+	 * The controllers' animation state and keyframe events (sounds, particles, and custom instructions) still progress as normal
+	 *
+	 * @param model                 The model currently being processed
+	 * @param animatableManager     The AnimatableManager instance being used for this animation processor
+	 * @param animTime              The internal tick counter kept by the {@link AnimatableManager} for this animatable
+	 * @param event                 An {@link AnimationState} instance applied to this render frame
+	 * @param crashWhenCantFindBone Whether to crash if unable to find a required bone, or to continue with the remaining bones
+	 */
+	public void tickWithoutBones(CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> event, boolean crashWhenCantFindBone) {
+		processControllersWithoutBones(model, animatableManager, animTime, event, updateBoneSnapshots(animatableManager.getBoneSnapshotCollection()), crashWhenCantFindBone);
+	}
+
+	private void processControllersWithoutBones(CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime, AnimationState<T> event,
+												Map<String, BoneSnapshot> boneSnapshots, boolean crashWhenCantFindBone) {
+		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
+			controller.isJustStarting = false;
+			controller.skipBoneEvaluation = true;
+
+			event.withController(controller);
+			controller.process(model, event, this.bones, boneSnapshots, animTime, crashWhenCantFindBone);
+
+			controller.skipBoneEvaluation = false;
+		}
+	}
+
+	/**
+	 * Build the {@link SharedPoseCache} key for the animatable's current animation state into {@link AnimationProcessor#sharedPoseKey}
+	 * @return Whether the current state can be shared, which is only the case if every controller is steadily playing an animation,
+	 * and the model {@link CoreGeoModel#canSharePoses allows the animatable's poses to be shared}
+	 */
+	private boolean buildSharedPoseKey(T animatable, CoreGeoModel<T> model, AnimatableManager<T> animatableManager, double animTime) {
+		if (this.reloadAnimations || this.skippedBones != null || animatableManager.isFirstTick() || animatableManager.getAnimationControllers().isEmpty())
+			return false;
+
+		if (!model.canSharePoses(animatable))
+			return false;
+
+		this.sharedPoseKey.reset(this.boneList);
+
+		for (AnimationController<T> controller : animatableManager.getAnimationControllers().values()) {
+			double tick = controller.getSteadyAnimationTick(animTime);
+
+			if (tick < 0)
+				return false;
+
+			this.sharedPoseKey.addController(controller.getCurrentAnimation().animation(), controller.getOverrideEasingType(), tick);
+		}
+
+		return true;
+	}
+
+	/**
+	 * Use the animated bone transforms computed by another animatable in place of evaluating the animations.<br>
+	 * The controllers are still processed so that their state and keyframe events advance as normal, but skip evaluating their bone animations.<br>
+	 * Only the animated bones are taken from the shared pose, the remaining bones are reset from this animatable's own snapshots
+	 */
+	private void applySharedPose(T animatable, BonePoseBuffer sharedPose, BonePoseBuffer pose, CoreGeoModel<T> model, AnimatableManager<T> animatableManager,
+								 double animTime, AnimationState<T> event, Map<String, BoneSnapshot> boneSnapshots, boolean crashWhenCantFindBone) {
+		processControllersWithoutBones(model, animatableManager, animTime, event, boneSnapshots, crashWhenCantFindBone);
+		pose.copyFrom(sharedPose);
+
+		for (int i = 0; i < this.boneList.size(); i++) {
+			BoneSnapshot snapshot = boneSnapshots.get(this.boneList.get(i).getName());
+
+			if (pose.hasRotationChanged(i)) {
+				snapshot.updateRotation(pose.get(i, BonePoseBuffer.ROT_X), pose.get(i, BonePoseBuffer.ROT_Y), pose.get(i, BonePoseBuffer.ROT_Z));
+				snapshot.startRotAnim();
+			}
+
+			if (pose.hasPositionChanged(i)) {
+				snapshot.updateOffset(pose.get(i, BonePoseBuffer.POS_X), pose.get(i, BonePoseBuffer.POS_Y), pose.get(i, BonePoseBuffer.POS_Z));
+				snapshot.startPosAnim();
+			}
+
+			if (pose.hasScaleChanged(i)) {
+				snapshot.updateScale(pose.get(i, BonePoseBuffer.SCALE_X), pose.get(i, BonePoseBuffer.SCALE_Y), pose.get(i, BonePoseBuffer.SCALE_Z));
+				snapshot.startScaleAnim();
 			}
 		}
 
-		resetBoneTransformationMarkers();
+		resetUnanimatedBones(animatable, pose, boneSnapshots, animTime);
+		pose.finishPose(animatableManager.getLastUpdateTime());
 		animatableManager.finishFirstTick();
 	}
 
@@ -227,6 +409,8 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	public void registerGeoBone(CoreGeoBone bone) {
 		bone.saveInitialSnapshot();
 		this.bones.put(bone.getName(), bone);
+		this.boneIndices.put(bone, this.boneList.size());
+		this.boneList.add(bone);
 
 		for (CoreGeoBone child : bone.getChildBones()) {
 			registerGeoBone(child);
@@ -240,6 +424,8 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 	 */
 	public void setActiveModel(CoreBakedGeoModel model) {
 		this.bones.clear();
+		this.boneList = new ObjectArrayList<>();
+		this.boneIndices.clear();
 
 		for (CoreGeoBone bone : model.getBones()) {
 			registerGeoBone(bone);
@@ -253,6 +439,39 @@ public class AnimationProcessor<T extends GeoAnimatable> {
 		return this.bones.values();
 	}
 
+	/**
+	 * Get the {@link CoreGeoBone GeoBones} currently registered to the processor, in registration order.<br>
+	 * The position of a bone in this list is its index in a {@link BonePoseBuffer}.<br>
+	 * A new list is created each time the {@link AnimationProcessor#setActiveModel active model} changes
+	 */
+	public List<CoreGeoBone> getIndexedBones() {
+		return this.boneList;
+	}
+
+	/**
+	 * Set the bones whose animations should be skipped in subsequent {@link AnimationProcessor#tickAnimation} calls,
+	 * indexed by their position in {@link AnimationProcessor#getIndexedBones()}.<br>
+	 * Skipped bones ease back to their initial pose as though they weren't being animated.
+	 * Used to reduce the cost of animating at a lower {@link AnimationLod level of detail}
+	 * @param skippedBones The skipped bone flags, or null to animate all bones
+	 */
+	public void setSkippedBones(@Nullable boolean[] skippedBones) {
+		this.skippedBones = skippedBones;
+	}
+
+	/**
+	 * Whether the animations for the given bone should be skipped for the current tick
+	 * @see AnimationProcessor#setSkippedBones
+	 */
+	public boolean isBoneAnimationSkipped(CoreGeoBone bone) {
+		if (this.skippedBones == null)
+			return false;
+
+		int index = this.boneIndices.getInt(bone);
+
+		return index >= 0 && index < this.skippedBones.length && this.skippedBones[index];
+	}
+
 	/**
 	 * Apply transformations and settings prior to acting on any animation-related functionality
 	 */
@@ -5,14 +5,126 @@
 
 package mod.azure.azurelib.core.keyframe;
 
-import java.io.Serial;
-import java.util.LinkedList;
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
 /**
  * An {@link AnimationPoint} queue holds a queue of {@code AnimationPoints} which are used in
- * the {@link mod.azure.azurelib.core.animation.AnimationController} to lerp between values
+ * the {@link mod.azure.azurelib.core.animation.AnimationController} to lerp between values.<br>
+ * The queue owns a small pool of points that are overwritten in place each frame rather than re-allocated,
+ * so points returned by {@link #poll()} are only valid until the queue is next {@link #clear() cleared}.<br>
+ * <br>
+ * This was previously a {@link java.util.LinkedList}. It is still a {@link java.util.Queue}, but points {@link #offer offered} to it
+ * are copied into the pool rather than stored, and the {@code List} and {@code Deque} methods are no longer available.
  */
-public final class AnimationPointQueue extends LinkedList<AnimationPoint> {
-	@Serial
-	private static final long serialVersionUID = 5472797438476621193L;
+public final class AnimationPointQueue extends AbstractQueue<AnimationPoint> {
+	private AnimationPoint[] points = new AnimationPoint[1];
+	private int head = 0;
+	private int size = 0;
+	private int keyframeCursor = 0;
+
+	/**
+	 * Add a new point to the end of the queue, re-using a pooled point where available
+	 */
+	public void add(Keyframe<?> keyFrame, double currentTick, double transitionLength, double startValue, double endValue) {
+		nextPoint().set(keyFrame, currentTick, transitionLength, startValue, endValue);
+	}
+
+	/**
+	 * Add a copy of the given point to the end of the queue, re-using a pooled point where available
+	 * @return true
+	 */
+	@Override
+	public boolean offer(AnimationPoint point) {
+		nextPoint().set(point);
+
+		return true;
+	}
+
+	/**
+	 * Retrieve and remove the head of the queue, or null if the queue is empty
+	 */
+	@Override
+	public AnimationPoint poll() {
+		return this.head < this.size ? this.points[this.head++] : null;
+	}
+
+	/**
+	 * Retrieve the head of the queue without removing it, or null if the queue is empty
+	 */
+	@Override
+	public AnimationPoint peek() {
+		return this.head < this.size ? this.points[this.head] : null;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return this.head >= this.size;
+	}
+
+	@Override
+	public int size() {
+		return this.size - this.head;
+	}
+
+	/**
+	 * Empty the queue, keeping the pooled points for re-use
+	 */
+	@Override
+	public void clear() {
+		this.head = 0;
+		this.size = 0;
+	}
+
+	/**
+	 * Iterate over the points remaining in the queue, from head to tail.<br>
+	 * The iterator does not support removal
+	 */
+	@Override
+	public Iterator<AnimationPoint> iterator() {
+		return new Iterator<>() {
+			private int index = AnimationPointQueue.this.head;
+
+			@Override
+			public boolean hasNext() {
+				return this.index < AnimationPointQueue.this.size;
+			}
+
+			@Override
+			public AnimationPoint next() {
+				if (!hasNext())
+					throw new NoSuchElementException();
+
+				return AnimationPointQueue.this.points[this.index++];
+			}
+		};
+	}
+
+	/**
+	 * Get the index of the keyframe last used to compute a point for this queue.<br>
+	 * Used as the starting point for the next keyframe lookup, as animations generally play forward
+	 */
+	public int getKeyframeCursor() {
+		return this.keyframeCursor;
+	}
+
+	public void setKeyframeCursor(int index) {
+		this.keyframeCursor = index;
+	}
+
+	private AnimationPoint nextPoint() {
+		if (this.size == this.points.length)
+			this.points = Arrays.copyOf(this.points, this.size * 2);
+
+		AnimationPoint point = this.points[this.size];
+
+		if (point == null)
+			this.points[this.size] = point = new AnimationPoint();
+
+		this.size++;
+
+		return point;
+	}
 }
@@ -8,7 +8,11 @@ package mod.azure.azurelib.core.keyframe;
 import java.util.List;
 import java.util.Objects;
 
+import org.jetbrains.annotations.Nullable;
+
+import it.unimi.dsi.fastutil.doubles.Double2DoubleFunction;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.core.animation.EasingCurves;
 import mod.azure.azurelib.core.animation.EasingType;
 import mod.azure.azurelib.core.math.IValue;
 
@@ -19,8 +23,10 @@ import mod.azure.azurelib.core.math.IValue;
  * @param endValue The value to end the keyframe's transformation with
  * @param easingType The {@code EasingType} to use for transformations
  * @param easingArgs The arguments to provide to the easing calculation
+ * @param easingCurve The {@link EasingCurves#bake baked} easing curve for this keyframe, or null if it has to be built on each evaluation.
+ *                    As it is derived from the easing type and arguments, it is left out of {@link Keyframe#equals} and {@link Keyframe#hashCode}
  */
-public record Keyframe<T extends IValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+public record Keyframe<T extends IValue>(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs, @Nullable Double2DoubleFunction easingCurve) {
 	public Keyframe(double length, T startValue, T endValue) {
 		this(length, startValue, endValue, EasingType.LINEAR);
 	}
@@ -29,6 +35,10 @@ public record Keyframe<T extends IValue>(double length, T startValue, T endValue
 		this(length, startValue, endValue, easingType, new ObjectArrayList<>(0));
 	}
 
+	public Keyframe(double length, T startValue, T endValue, EasingType easingType, List<T> easingArgs) {
+		this(length, startValue, endValue, easingType, easingArgs, EasingCurves.bake(easingType, easingArgs));
+	}
+
 	@Override
 	public int hashCode() {
 		return Objects.hash(this.length, this.startValue, this.endValue, this.easingType, this.easingArgs);
@@ -39,9 +49,10 @@ public record Keyframe<T extends IValue>(double length, T startValue, T endValue
 		if (this == obj)
 			return true;
 
-		if (obj == null || getClass() != obj.getClass())
+		if (!(obj instanceof Keyframe<?> other))
 			return false;
 
-		return hashCode() == obj.hashCode();
+		return Double.compare(this.length, other.length) == 0 && Objects.equals(this.startValue, other.startValue) && Objects.equals(this.endValue, other.endValue) &&
+				Objects.equals(this.easingType, other.easingType) && Objects.equals(this.easingArgs, other.easingArgs);
 	}
 }
@@ -1,5 +1,7 @@
 package mod.azure.azurelib.core.math;
 
+import mod.azure.azurelib.core.molang.MolangContext;
+
 /**
  * Ternary operator class
  *
@@ -22,6 +24,11 @@ public class Ternary implements IValue {
 		return this.condition.get() != 0 ? this.ifTrue.get() : this.ifFalse.get();
 	}
 
+	@Override
+	public double get(MolangContext context) {
+		return this.condition.get(context) != 0 ? this.ifTrue.get(context) : this.ifFalse.get(context);
+	}
+
 	@Override
 	public String toString() {
 		return this.condition.toString() + " ? " + this.ifTrue.toString() + " : " + this.ifFalse.toString();
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.classic;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Pow extends Function {
 	public Pow(IValue[] values, String name) throws Exception {
@@ -14,7 +15,12 @@ public class Pow extends Function {
 	}
 
 	@Override
-	public double get() {
-		return Math.pow(this.getArg(0), this.getArg(1));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return Math.pow(this.getArg(0, context), this.getArg(1, context));
 	}
 }
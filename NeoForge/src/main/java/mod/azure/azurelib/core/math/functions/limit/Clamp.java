@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.limit;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 import mod.azure.azurelib.core.utils.MathUtils;
 
 public class Clamp extends Function {
@@ -15,7 +16,12 @@ public class Clamp extends Function {
 	}
 
 	@Override
-	public double get() {
-		return MathUtils.clamp(this.getArg(0), this.getArg(1), this.getArg(2));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		return MathUtils.clamp(this.getArg(0, context), this.getArg(1, context), this.getArg(2, context));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.utility;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class DieRoll extends Function {
 	public java.util.Random random;
@@ -18,11 +19,11 @@ public class DieRoll extends Function {
 	}
 
 	@Override
-	public double get() {
+	public double get(MolangContext context) {
 		double i = 0;
 		double total = 0;
-		while (i < this.getArg(0))
-			total += Math.random() * (this.getArg(2) - this.getArg(2));
+		while (i < this.getArg(0, context))
+			total += Math.random() * (this.getArg(2, context) - this.getArg(2, context));
 		return total;
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.utility;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class HermiteBlend extends Function {
 	public java.util.Random random;
@@ -18,8 +19,13 @@ public class HermiteBlend extends Function {
 	}
 
 	@Override
-	public double get() {
-		double min = Math.ceil(this.getArg(0));
+	public boolean isDeterministic() {
+		return true;
+	}
+
+	@Override
+	public double get(MolangContext context) {
+		double min = Math.ceil(this.getArg(0, context));
 		return Math.floor(3 * Math.pow(min, 2) - 2 * Math.pow(min, 3));
 	}
 }
@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.utility;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class Random extends Function {
 	public java.util.Random random;
@@ -13,26 +14,26 @@ public class Random extends Function {
 	}
 
 	@Override
-	public double get() {
+	public double get(MolangContext context) {
 		double random = 0;
 
 		if (this.args.length >= 3) {
-			this.random.setSeed((long) this.getArg(2));
+			this.random.setSeed((long) this.getArg(2, context));
 			random = this.random.nextDouble();
 		} else {
 			random = Math.random();
 		}
 
 		if (this.args.length >= 2) {
-			double a = this.getArg(0);
-			double b = this.getArg(1);
+			double a = this.getArg(0, context);
+			double b = this.getArg(1, context);
 
 			double min = Math.min(a, b);
 			double max = Math.max(a, b);
 
 			random = random * (max - min) + min;
 		} else if (this.args.length >= 1) {
-			random = random * this.getArg(0);
+			random = random * this.getArg(0, context);
 		}
 
 		return random;
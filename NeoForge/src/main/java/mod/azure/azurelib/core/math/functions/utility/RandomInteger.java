@@ -2,6 +2,7 @@ package mod.azure.azurelib.core.math.functions.utility;
 
 import mod.azure.azurelib.core.math.IValue;
 import mod.azure.azurelib.core.math.functions.Function;
+import mod.azure.azurelib.core.molang.MolangContext;
 
 public class RandomInteger extends Function {
 	public java.util.Random random;
@@ -18,9 +19,9 @@ public class RandomInteger extends Function {
 	}
 
 	@Override
-	public double get() {
-		double min = Math.ceil(this.getArg(0));
-		double max = Math.floor(this.getArg(1));
+	public double get(MolangContext context) {
+		double min = Math.ceil(this.getArg(0, context));
+		double max = Math.floor(this.getArg(1, context));
 		return Math.floor(Math.random() * (max - min) + min);
 	}
 }
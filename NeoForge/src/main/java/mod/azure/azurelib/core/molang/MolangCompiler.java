@@ -0,0 +1,217 @@
+package mod.azure.azurelib.core.molang;
+
+import mod.azure.azurelib.core.math.Constant;
+import mod.azure.azurelib.core.math.Group;
+import mod.azure.azurelib.core.math.IValue;
+import mod.azure.azurelib.core.math.Negate;
+import mod.azure.azurelib.core.math.Negative;
+import mod.azure.azurelib.core.math.Operation;
+import mod.azure.azurelib.core.math.Operator;
+import mod.azure.azurelib.core.math.Ternary;
+import mod.azure.azurelib.core.math.functions.Function;
+
+/**
+ * Optimisation pass for parsed Molang expressions.<br>
+ * Takes the generic {@link IValue} tree produced by the {@link MolangParser} and:
+ * <ul>
+ *     <li>Folds subtrees that only depend on constants into a single {@link Constant}</li>
+ *     <li>Removes {@link Group Groups}, which only exist to preserve the parenthesis of the source expression</li>
+ *     <li>Resolves the basic arithmetic operators to dedicated implementations, avoiding the {@link Operation} dispatch</li>
+ *     <li>Picks the relevant branch of {@link Ternary Ternaries} with constant conditions</li>
+ * </ul>
+ * The compiled tree evaluates to the same value as the original, so this can be applied to any parsed expression.
+ */
+public final class MolangCompiler {
+	private MolangCompiler() {}
+
+	/**
+	 * Compile the given value into an equivalent, optimised value
+	 * @param value The parsed value
+	 * @return The compiled value, or the original value if it cannot be optimised
+	 */
+	public static IValue compile(IValue value) {
+		if (value instanceof Group group)
+			return compile(group.getValue());
+
+		if (value instanceof Operator operator)
+			return compileOperator(operator);
+
+		if (value instanceof Negative negative) {
+			IValue inner = compile(negative.value);
+
+			return inner instanceof Constant ? new Constant(-inner.get()) : new CompiledNegative(inner);
+		}
+
+		if (value instanceof Negate negate) {
+			IValue inner = compile(negate.value);
+
+			return inner instanceof Constant ? new Constant(inner.get() == 0 ? 1 : 0) : new CompiledNegate(inner);
+		}
+
+		if (value instanceof Ternary ternary) {
+			IValue condition = compile(ternary.condition);
+			IValue ifTrue = compile(ternary.ifTrue);
+			IValue ifFalse = compile(ternary.ifFalse);
+
+			if (condition instanceof Constant)
+				return condition.get() != 0 ? ifTrue : ifFalse;
+
+			return new CompiledTernary(condition, ifTrue, ifFalse);
+		}
+
+		if (value instanceof Function function)
+			return compileFunction(function);
+
+		return value;
+	}
+
+	private static IValue compileOperator(Operator operator) {
+		IValue a = compile(operator.a);
+		IValue b = compile(operator.b);
+
+		if (a instanceof Constant && b instanceof Constant)
+			return new Constant(operator.operation.calculate(a.get(), b.get()));
+
+		return switch (operator.operation) {
+			case ADD -> new Add(a, b);
+			case SUB -> new Subtract(a, b);
+			case MUL -> new Multiply(a, b);
+			case DIV -> new Divide(a, b);
+			default -> new CompiledOperator(operator.operation, a, b);
+		};
+	}
+
+	private static IValue compileFunction(Function function) {
+		IValue[] args = function.getArgs();
+		boolean constantArgs = true;
+
+		for (int i = 0; i < args.length; i++) {
+			args[i] = compile(args[i]);
+
+			if (!(args[i] instanceof Constant))
+				constantArgs = false;
+		}
+
+		return constantArgs && function.isDeterministic() ? new Constant(function.get()) : function;
+	}
+
+	private static String wrap(IValue value) {
+		return value instanceof Operator || value instanceof Ternary ? "(" + value + ")" : value.toString();
+	}
+
+	/**
+	 * Compiled operator, and base class for the dedicated arithmetic operator implementations.<br>
+	 * Re-adds the parenthesis for nested operations in {@link #toString()}, since their {@link Group Groups} have been removed
+	 */
+	private static class CompiledOperator extends Operator {
+		private CompiledOperator(Operation operation, IValue a, IValue b) {
+			super(operation, a, b);
+		}
+
+		@Override
+		public String toString() {
+			return wrap(this.a) + " " + this.operation.sign + " " + wrap(this.b);
+		}
+	}
+
+	private static final class CompiledNegative extends Negative {
+		private CompiledNegative(IValue value) {
+			super(value);
+		}
+
+		@Override
+		public String toString() {
+			return "-" + wrap(this.value);
+		}
+	}
+
+	private static final class CompiledNegate extends Negate {
+		private CompiledNegate(IValue value) {
+			super(value);
+		}
+
+		@Override
+		public String toString() {
+			return "!" + wrap(this.value);
+		}
+	}
+
+	private static final class CompiledTernary extends Ternary {
+		private CompiledTernary(IValue condition, IValue ifTrue, IValue ifFalse) {
+			super(condition, ifTrue, ifFalse);
+		}
+
+		@Override
+		public String toString() {
+			return wrap(this.condition) + " ? " + wrap(this.ifTrue) + " : " + wrap(this.ifFalse);
+		}
+	}
+
+	private static final class Add extends CompiledOperator {
+		private Add(IValue a, IValue b) {
+			super(Operation.ADD, a, b);
+		}
+
+		@Override
+		public double get() {
+			return this.a.get() + this.b.get();
+		}
+
+		@Override
+		public double get(MolangContext context) {
+			return this.a.get(context) + this.b.get(context);
+		}
+	}
+
+	private static final class Subtract extends CompiledOperator {
+		private Subtract(IValue a, IValue b) {
+			super(Operation.SUB, a, b);
+		}
+
+		@Override
+		public double get() {
+			return this.a.get() - this.b.get();
+		}
+
+		@Override
+		public double get(MolangContext context) {
+			return this.a.get(context) - this.b.get(context);
+		}
+	}
+
+	private static final class Multiply extends CompiledOperator {
+		private Multiply(IValue a, IValue b) {
+			super(Operation.MUL, a, b);
+		}
+
+		@Override
+		public double get() {
+			return this.a.get() * this.b.get();
+		}
+
+		@Override
+		public double get(MolangContext context) {
+			return this.a.get(context) * this.b.get(context);
+		}
+	}
+
+	private static final class Divide extends CompiledOperator {
+		private Divide(IValue a, IValue b) {
+			super(Operation.DIV, a, b);
+		}
+
+		@Override
+		public double get() {
+			double divisor = this.b.get();
+
+			return this.a.get() / (divisor == 0 ? 1 : divisor);
+		}
+
+		@Override
+		public double get(MolangContext context) {
+			double divisor = this.b.get(context);
+
+			return this.a.get(context) / (divisor == 0 ? 1 : divisor);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package mod.azure.azurelib.core.molang;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Evaluation state for Molang expressions.<br>
+ * Every {@link LazyVariable} is resolved to an integer slot when it is created (I.E. at parse time),
+ * and reads its value from the slot in the {@code MolangContext} bound to the current thread.<br>
+ * This means that values set by one thread's animations are never visible to another thread's,
+ * allowing multiple animatables to be evaluated concurrently as long as each thread uses its own context.<br>
+ * <br>
+ * Each thread has a default context. Use {@link MolangContext#bind(MolangContext)} to evaluate against a specific one instead.
+ */
+public final class MolangContext {
+	private static final Map<String, Integer> SLOTS = new ConcurrentHashMap<>();
+	private static final AtomicInteger SLOT_COUNT = new AtomicInteger();
+	private static final ThreadLocal<MolangContext> CURRENT = ThreadLocal.withInitial(MolangContext::new);
+
+	private static final byte UNSET = 0;
+	private static final byte VALUE = 1;
+	private static final byte SUPPLIER = 2;
+	private static final byte MEMOIZED = 3;
+
+	private double[] values = new double[0];
+	private DoubleSupplier[] suppliers = new DoubleSupplier[0];
+	private byte[] states = new byte[0];
+
+	/**
+	 * Get the slot index for the given variable name, assigning a new one if the name hasn't been seen before.<br>
+	 * Slot indices are global and stable for the lifetime of the game.
+	 */
+	public static int getSlot(String name) {
+		return SLOTS.computeIfAbsent(name, key -> SLOT_COUNT.getAndIncrement());
+	}
+
+	/**
+	 * Get the context bound to the current thread
+	 */
+	public static MolangContext get() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * Bind the given context to the current thread, so that all Molang evaluation on this thread uses its values
+	 * @return The previously bound context, to be restored once finished
+	 */
+	public static MolangContext bind(MolangContext context) {
+		MolangContext previous = CURRENT.get();
+
+		CURRENT.set(context);
+
+		return previous;
+	}
+
+	/**
+	 * Set a constant value for the given slot
+	 */
+	public void setValue(int slot, double value) {
+		ensureCapacity(slot);
+
+		this.values[slot] = value;
+		this.suppliers[slot] = null;
+		this.states[slot] = VALUE;
+	}
+
+	/**
+	 * Set a value supplier for the given slot, to be called each time the slot is read
+	 */
+	public void setValue(int slot, DoubleSupplier supplier) {
+		ensureCapacity(slot);
+
+		this.suppliers[slot] = supplier;
+		this.states[slot] = SUPPLIER;
+	}
+
+	/**
+	 * Set a value supplier for the given slot, to be called only the first time the slot is read after being set
+	 */
+	public void setMemoizedValue(int slot, DoubleSupplier supplier) {
+		ensureCapacity(slot);
+
+		this.suppliers[slot] = supplier;
+		this.states[slot] = MEMOIZED;
+	}
+
+	/**
+	 * Whether a value has been set for the given slot in this context
+	 */
+	public boolean hasValue(int slot) {
+		return slot < this.states.length && this.states[slot] != UNSET;
+	}
+
+	/**
+	 * Get the value for the given slot.<br>
+	 * Check {@link MolangContext#hasValue(int)} first, as unset slots return 0
+	 */
+	public double getValue(int slot) {
+		if (slot >= this.states.length)
+			return 0;
+
+		switch (this.states[slot]) {
+			case SUPPLIER:
+				return this.suppliers[slot].getAsDouble();
+			case MEMOIZED:
+				this.values[slot] = this.suppliers[slot].getAsDouble();
+				this.suppliers[slot] = null;
+				this.states[slot] = VALUE;
+
+				return this.values[slot];
+			default:
+				return this.values[slot];
+		}
+	}
+
+	/**
+	 * Clear all values set in this context
+	 */
+	public void clear() {
+		Arrays.fill(this.suppliers, null);
+		Arrays.fill(this.states, UNSET);
+	}
+
+	private void ensureCapacity(int slot) {
+		if (slot < this.states.length)
+			return;
+
+		int size = Math.max(slot + 1, SLOT_COUNT.get());
+
+		this.values = Arrays.copyOf(this.values, size);
+		this.suppliers = Arrays.copyOf(this.suppliers, size);
+		this.states = Arrays.copyOf(this.states, size);
+	}
+}
@@ -0,0 +1,149 @@
+package mod.azure.azurelib.core.object;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Storage for {@link DataTicket} data, indexed by each ticket's {@link DataTicket#index() index}.<br>
+ * Reading and writing data is a bounds-checked array access, with no hashing or allocation once the store has grown to fit its tickets
+ */
+public final class DataTicketStore {
+	private static final Object[] EMPTY = new Object[0];
+
+	private Object[] values = EMPTY;
+	private Map<DataTicket<?>, Object> mapView = null;
+
+	/**
+	 * Get the data stored for the given ticket, or null if none has been stored
+	 */
+	public <D> D get(DataTicket<D> ticket) {
+		int index = ticket.index();
+
+		if (index >= this.values.length)
+			return null;
+
+		// Safe, as set only ever stores data of the ticket's type at the ticket's index
+		@SuppressWarnings("unchecked")
+		D data = (D)this.values[index];
+
+		return data;
+	}
+
+	/**
+	 * Store the given data for the given ticket, replacing any existing data
+	 */
+	public <D> void set(DataTicket<D> ticket, D data) {
+		int index = ticket.index();
+
+		if (index >= this.values.length)
+			this.values = Arrays.copyOf(this.values, Math.max(index + 1, DataTicket.getTicketCount()));
+
+		this.values[index] = data;
+	}
+
+	/**
+	 * Get a live map view of all non-null data in this store, keyed by ticket.<br>
+	 * Data set in the store is visible through the view, and data can be removed through the view, but not added
+	 */
+	public Map<DataTicket<?>, Object> asMap() {
+		if (this.mapView == null)
+			this.mapView = new MapView();
+
+		return this.mapView;
+	}
+
+	private final class MapView extends AbstractMap<DataTicket<?>, Object> {
+		private final Set<Entry<DataTicket<?>, Object>> entrySet = new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<DataTicket<?>, Object>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				int size = 0;
+
+				for (Object value : DataTicketStore.this.values) {
+					if (value != null)
+						size++;
+				}
+
+				return size;
+			}
+		};
+
+		@Override
+		public Object get(Object key) {
+			return key instanceof DataTicket<?> ticket ? DataTicketStore.this.get(ticket) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return get(key) != null;
+		}
+
+		@Override
+		public Object remove(Object key) {
+			if (!(key instanceof DataTicket<?> ticket) || ticket.index() >= DataTicketStore.this.values.length)
+				return null;
+
+			Object previous = DataTicketStore.this.values[ticket.index()];
+			DataTicketStore.this.values[ticket.index()] = null;
+
+			return previous;
+		}
+
+		@Override
+		public Set<Entry<DataTicket<?>, Object>> entrySet() {
+			return this.entrySet;
+		}
+	}
+
+	private final class EntryIterator implements Iterator<Map.Entry<DataTicket<?>, Object>> {
+		private int nextIndex = -1;
+		private int lastIndex = -1;
+
+		private EntryIterator() {
+			advance();
+		}
+
+		private void advance() {
+			Object[] values = DataTicketStore.this.values;
+
+			do {
+				this.nextIndex++;
+			} while (this.nextIndex < values.length && values[this.nextIndex] == null);
+		}
+
+		@Override
+		public boolean hasNext() {
+			return this.nextIndex < DataTicketStore.this.values.length;
+		}
+
+		@Override
+		public Map.Entry<DataTicket<?>, Object> next() {
+			if (!hasNext())
+				throw new NoSuchElementException();
+
+			this.lastIndex = this.nextIndex;
+
+			advance();
+
+			return new AbstractMap.SimpleImmutableEntry<>(DataTicket.byIndex(this.lastIndex), DataTicketStore.this.values[this.lastIndex]);
+		}
+
+		@Override
+		public void remove() {
+			if (this.lastIndex == -1)
+				throw new IllegalStateException();
+
+			DataTicketStore.this.values[this.lastIndex] = null;
+			this.lastIndex = -1;
+		}
+	}
+}
@@ -1,5 +1,8 @@
 package mod.azure.azurelib.loading.object;
 
+import com.google.gson.JsonParseException;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import mod.azure.azurelib.loading.json.raw.Bone;
@@ -14,53 +17,74 @@ import java.util.Map;
  * Container class for a {@link Bone} structure, used at startup during deserialization
  */
 public record GeometryTree(Map<String, BoneStructure> topLevelBones, ModelProperties properties) {
+	private static final int UNVISITED = 0;
+	private static final int VISITING = 1;
+	private static final int VISITED = 2;
+
+	/**
+	 * Build the bone hierarchy for a model in a single pass, looking up each bone's parent by name
+	 * @throws JsonParseException If a bone's parent doesn't exist, or bones are parented to each other in a cycle
+	 */
 	public static GeometryTree fromModel(Model model) {
 		Map<String, BoneStructure> topLevelBones = new Object2ObjectOpenHashMap<>();
 		MinecraftGeometry geometry = model.minecraftGeometry()[0];
-		List<Bone> bones = new ObjectArrayList<>(geometry.bones());
-		int index = bones.size() - 1;
+		Bone[] bones = geometry.bones();
+		Map<String, BoneStructure> structures = new Object2ObjectOpenHashMap<>(bones.length);
 
-		while (true) {
-			Bone bone = bones.get(index);
+		for (Bone bone : bones) {
+			structures.putIfAbsent(bone.name(), new BoneStructure(bone));
+		}
 
-			if (bone.parent() == null) {
-				topLevelBones.put(bone.name(), new BoneStructure(bone));
-				bones.remove(index);
-			}
-			else {
-				BoneStructure structure = findBoneStructureInTree(topLevelBones, bone.parent());
+		checkHierarchy(bones, structures);
 
-				if (structure != null) {
-					structure.children().put(bone.name(), new BoneStructure(bone));
-					bones.remove(index);
-				}
-			}
+		for (Bone bone : bones) {
+			BoneStructure structure = structures.get(bone.name());
 
-			if (index == 0) {
-				index = bones.size() - 1;
+			// Duplicate bone names are resolved to the first bone with that name
+			if (structure.self() != bone)
+				continue;
 
-				if (index == -1)
-					break;
+			if (bone.parent() == null) {
+				topLevelBones.put(bone.name(), structure);
 			}
 			else {
-				index--;
+				structures.get(bone.parent()).children().put(bone.name(), structure);
 			}
 		}
 
 		return new GeometryTree(topLevelBones, geometry.modelProperties());
 	}
 
-	private static BoneStructure findBoneStructureInTree(Map<String, BoneStructure> bones, String boneName) {
-		for (BoneStructure entry : bones.values()) {
-			if (boneName.equals(entry.self().name()))
-				return entry;
+	/**
+	 * Check that every bone's parent chain leads to a top-level bone, visiting each bone once
+	 */
+	private static void checkHierarchy(Bone[] bones, Map<String, BoneStructure> structures) {
+		Object2IntMap<String> states = new Object2IntOpenHashMap<>(structures.size());
+		List<String> chain = new ObjectArrayList<>();
 
-			BoneStructure subStructure = findBoneStructureInTree(entry.children(), boneName);
+		for (Bone bone : bones) {
+			String name = bone.name();
 
-			if (subStructure != null)
-				return subStructure;
-		}
+			while (name != null && states.getInt(name) == UNVISITED) {
+				BoneStructure structure = structures.get(name);
 
-		return null;
+				if (structure == null)
+					throw new JsonParseException("Bone '" + chain.get(chain.size() - 1) + "' has a parent that doesn't exist: '" + name + "'");
+
+				states.put(name, VISITING);
+				chain.add(name);
+
+				name = structure.self().parent();
+			}
+
+			if (name != null && states.getInt(name) == VISITING)
+				throw new JsonParseException("Bones are parented to each other in a cycle: " + chain.subList(chain.indexOf(name), chain.size()));
+
+			for (String visited : chain) {
+				states.put(visited, VISITED);
+			}
+
+			chain.clear();
+		}
 	}
 }
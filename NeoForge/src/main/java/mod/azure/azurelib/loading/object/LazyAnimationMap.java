@@ -0,0 +1,117 @@
+package mod.azure.azurelib.loading.object;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.core.animation.Animation;
+import mod.azure.azurelib.core.molang.MolangException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Map of the {@link Animation Animations} in an animation json file that only bakes each animation the first time it is requested.<br>
+ * Rather than the baked animations, it holds the raw contents of the file and the byte range of each animation's json within it.<br>
+ * Iterating over the map's entries or values bakes every animation in it
+ */
+public class LazyAnimationMap extends AbstractMap<String, Animation> {
+	private final byte[] contents;
+	private final Charset charset;
+	private final Object2LongMap<String> ranges;
+	private final AnimationBaker baker;
+	private final Map<String, Animation> bakedAnimations = new ConcurrentHashMap<>();
+	private final Set<String> failedAnimations = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * @param contents The raw contents of the animation json file
+	 * @param charset The charset the file is decoded with
+	 * @param ranges The byte range of each animation's json in the file, with the start in the upper 32 bits and the (exclusive) end in the lower 32 bits
+	 * @param baker The function to bake each animation from its json with
+	 */
+	public LazyAnimationMap(byte[] contents, Charset charset, Object2LongMap<String> ranges, AnimationBaker baker) {
+		this.contents = contents;
+		this.charset = charset;
+		this.ranges = ranges;
+		this.baker = baker;
+	}
+
+	@Override
+	public Animation get(Object key) {
+		if (!this.ranges.containsKey(key))
+			return null;
+
+		Animation animation = this.bakedAnimations.get(key);
+
+		if (animation != null || this.failedAnimations.contains(key))
+			return animation;
+
+		return this.bakedAnimations.computeIfAbsent((String)key, this::bake);
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return this.ranges.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return this.ranges.size();
+	}
+
+	@Override
+	public Set<String> keySet() {
+		return Collections.unmodifiableSet(this.ranges.keySet());
+	}
+
+	@Override
+	public Set<Entry<String, Animation>> entrySet() {
+		Set<Entry<String, Animation>> entries = new ObjectLinkedOpenHashSet<>(this.ranges.size());
+
+		for (String name : this.ranges.keySet()) {
+			Animation animation = get(name);
+
+			if (animation != null)
+				entries.add(new SimpleImmutableEntry<>(name, animation));
+		}
+
+		return Collections.unmodifiableSet(entries);
+	}
+
+	/**
+	 * Whether the animation with the given name has already been baked
+	 */
+	public boolean isBaked(String name) {
+		return this.bakedAnimations.containsKey(name);
+	}
+
+	private Animation bake(String name) {
+		long range = this.ranges.getLong(name);
+		int start = (int)(range >>> 32);
+		int end = (int)range;
+
+		try {
+			JsonElement json = JsonParser.parseReader(new InputStreamReader(new ByteArrayInputStream(this.contents, start, end - start), this.charset));
+
+			return this.baker.bake(name, json);
+		}
+		catch (MolangException | RuntimeException ex) {
+			AzureLib.LOGGER.error("Unable to parse animation: {}", name, ex);
+			this.failedAnimations.add(name);
+
+			return null;
+		}
+	}
+
+	@FunctionalInterface
+	public interface AnimationBaker {
+		Animation bake(String name, JsonElement json) throws MolangException;
+	}
+}
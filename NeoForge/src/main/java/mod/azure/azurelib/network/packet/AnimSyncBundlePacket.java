@@ -0,0 +1,286 @@
+package mod.azure.azurelib.network.packet;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraftforge.network.NetworkEvent;
+import mod.azure.azurelib.AzureLib;
+import mod.azure.azurelib.animatable.GeoBlockEntity;
+import mod.azure.azurelib.animatable.GeoEntity;
+import mod.azure.azurelib.animatable.GeoReplacedEntity;
+import mod.azure.azurelib.constant.DataTickets;
+import mod.azure.azurelib.core.animatable.GeoAnimatable;
+import mod.azure.azurelib.core.animation.AnimatableManager;
+import mod.azure.azurelib.network.AnimSyncBatcher;
+import mod.azure.azurelib.network.AzureLibNetwork;
+import mod.azure.azurelib.network.SerializableDataTicket;
+import mod.azure.azurelib.util.ClientUtils;
+import mod.azure.azurelib.util.RenderUtils;
+import it.unimi.dsi.fastutil.objects.Object2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Packet for syncing a tick's worth of animation triggers and data for any number of animatables in one go.<br>
+ * Names are sent as the numeric ids defined by {@link AnimSyncNamesPacket}.<br>
+ * For each animatable, its data is applied before its animations are triggered, so that triggered animations see the latest data.
+ * @see AnimSyncBatcher
+ */
+public class AnimSyncBundlePacket {
+	private static final byte ENTITY = 0;
+	private static final byte REPLACED_ENTITY = 1;
+	private static final byte BLOCK_ENTITY = 2;
+	private static final byte SINGLETON = 3;
+
+	private final Map<Object, Updates> updates = new Object2ObjectLinkedOpenHashMap<>();
+
+	public void addEntityTrigger(int entityId, boolean isReplacedEntity, @Nullable String controllerName, String animName) {
+		getUpdates(new EntityTarget(entityId, isReplacedEntity)).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addEntityData(int entityId, boolean isReplacedEntity, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(new EntityTarget(entityId, isReplacedEntity)).data.put(dataTicket, data);
+	}
+
+	public void addBlockEntityTrigger(BlockPos pos, @Nullable String controllerName, String animName) {
+		getUpdates(pos.immutable()).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addBlockEntityData(BlockPos pos, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(pos.immutable()).data.put(dataTicket, data);
+	}
+
+	public void addSingletonTrigger(String syncableId, long instanceId, @Nullable String controllerName, String animName) {
+		getUpdates(new SingletonTarget(syncableId, instanceId)).addTrigger(controllerName, animName);
+	}
+
+	public <D> void addSingletonData(String syncableId, long instanceId, SerializableDataTicket<D> dataTicket, D data) {
+		getUpdates(new SingletonTarget(syncableId, instanceId)).data.put(dataTicket, data);
+	}
+
+	private Updates getUpdates(Object target) {
+		return this.updates.computeIfAbsent(target, key -> new Updates());
+	}
+
+	public void encode(FriendlyByteBuf buffer) {
+		buffer.writeVarInt(this.updates.size());
+
+		for (Map.Entry<Object, Updates> entry : this.updates.entrySet()) {
+			writeTarget(entry.getKey(), buffer);
+			entry.getValue().write(buffer);
+		}
+	}
+
+	private static void writeTarget(Object target, FriendlyByteBuf buffer) {
+		if (target instanceof EntityTarget entityTarget) {
+			buffer.writeByte(entityTarget.isReplacedEntity() ? REPLACED_ENTITY : ENTITY);
+			buffer.writeVarInt(entityTarget.entityId());
+		}
+		else if (target instanceof BlockPos pos) {
+			buffer.writeByte(BLOCK_ENTITY);
+			buffer.writeBlockPos(pos);
+		}
+		else if (target instanceof SingletonTarget singletonTarget) {
+			buffer.writeByte(SINGLETON);
+			buffer.writeVarInt(AnimSyncBatcher.getNameId(singletonTarget.syncableId()));
+			buffer.writeVarLong(singletonTarget.instanceId());
+		}
+	}
+
+	public static AnimSyncBundlePacket decode(FriendlyByteBuf buffer) {
+		AnimSyncBundlePacket packet = new AnimSyncBundlePacket();
+		int count = buffer.readVarInt();
+
+		for (int i = 0; i < count; i++) {
+			byte targetType = buffer.readByte();
+			Object target = switch (targetType) {
+				case ENTITY -> new EntityTarget(buffer.readVarInt(), false);
+				case REPLACED_ENTITY -> new EntityTarget(buffer.readVarInt(), true);
+				case BLOCK_ENTITY -> buffer.readBlockPos();
+				case SINGLETON -> readSingletonTarget(buffer);
+				default -> null;
+			};
+
+			if (targetType < ENTITY || targetType > SINGLETON) {
+				AzureLib.LOGGER.warn("Dropping the rest of an animation sync bundle with an unknown target type: " + targetType);
+
+				break;
+			}
+
+			// Updates for an unknown target are still read, to reach the next target, but are then discarded
+			Updates updates = target == null ? new Updates() : packet.getUpdates(target);
+
+			if (!updates.read(buffer))
+				break;
+		}
+
+		return packet;
+	}
+
+	public void receivePacket(Supplier<NetworkEvent.Context> context) {
+		NetworkEvent.Context handler = context.get();
+
+		handler.enqueueWork(this::applyUpdates);
+		handler.setPacketHandled(true);
+	}
+
+	private void applyUpdates() {
+		for (Map.Entry<Object, Updates> entry : this.updates.entrySet()) {
+			Object target = entry.getKey();
+			Updates updates = entry.getValue();
+
+			if (target instanceof EntityTarget entityTarget) {
+				Entity entity = ClientUtils.getLevel().getEntity(entityTarget.entityId());
+
+				if (entity == null)
+					continue;
+
+				if (!entityTarget.isReplacedEntity()) {
+					if (entity instanceof GeoEntity geoEntity)
+						updates.apply(geoEntity::setAnimData, geoEntity::triggerAnim);
+
+					continue;
+				}
+
+				if (RenderUtils.getReplacedAnimatable(entity.getType()) instanceof GeoReplacedEntity replacedEntity)
+					updates.apply((dataTicket, data) -> replacedEntity.setAnimData(entity, dataTicket, data), (controllerName, animName) -> replacedEntity.triggerAnim(entity, controllerName, animName));
+			}
+			else if (target instanceof BlockPos pos) {
+				BlockEntity blockEntity = ClientUtils.getLevel().getBlockEntity(pos);
+
+				if (blockEntity instanceof GeoBlockEntity geoBlockEntity)
+					updates.apply(geoBlockEntity::setAnimData, geoBlockEntity::triggerAnim);
+			}
+			else if (target instanceof SingletonTarget singletonTarget) {
+				GeoAnimatable animatable = AzureLibNetwork.getSyncedAnimatable(singletonTarget.syncableId());
+
+				if (animatable != null) {
+					AnimatableManager<?> manager = animatable.getAnimatableInstanceCache().getManagerForId(singletonTarget.instanceId());
+
+					updates.apply(manager::setData, manager::tryTriggerAnimation);
+				}
+			}
+		}
+	}
+
+	@Nullable
+	private static SingletonTarget readSingletonTarget(FriendlyByteBuf buffer) {
+		int nameId = buffer.readVarInt();
+		long instanceId = buffer.readVarLong();
+		String syncableId = AnimSyncNamesPacket.getName(nameId);
+
+		if (syncableId == null) {
+			AzureLib.LOGGER.warn("Dropping animation sync updates for an undefined animatable id: " + nameId);
+
+			return null;
+		}
+
+		return new SingletonTarget(syncableId, instanceId);
+	}
+
+	private record EntityTarget(int entityId, boolean isReplacedEntity) {}
+
+	private record SingletonTarget(String syncableId, long instanceId) {}
+
+	/**
+	 * The updates for a single animatable.<br>
+	 * Only the last data written for each ticket is kept, as any earlier values would be immediately overwritten on arrival
+	 */
+	private static final class Updates {
+		private final Map<SerializableDataTicket<?>, Object> data = new Reference2ObjectLinkedOpenHashMap<>();
+		private final List<String> triggers = new ObjectArrayList<>();
+
+		private void addTrigger(@Nullable String controllerName, String animName) {
+			this.triggers.add(controllerName == null ? "" : controllerName);
+			this.triggers.add(animName);
+		}
+
+		@SuppressWarnings("unchecked")
+		private void write(FriendlyByteBuf buffer) {
+			buffer.writeVarInt(this.data.size());
+
+			for (Map.Entry<SerializableDataTicket<?>, Object> entry : this.data.entrySet()) {
+				SerializableDataTicket<Object> dataTicket = (SerializableDataTicket<Object>)entry.getKey();
+
+				buffer.writeVarInt(AnimSyncBatcher.getNameId(dataTicket.id()));
+				dataTicket.encode(entry.getValue(), buffer);
+			}
+
+			buffer.writeVarInt(this.triggers.size() / 2);
+
+			for (String name : this.triggers) {
+				buffer.writeVarInt(AnimSyncBatcher.getNameId(name));
+			}
+		}
+
+		/**
+		 * Read the updates for a single animatable, skipping any triggers with undefined names
+		 * @return Whether the updates were read in full. If not, the data of an unknown ticket couldn't be decoded, so the rest of the packet can't be read either
+		 */
+		private boolean read(FriendlyByteBuf buffer) {
+			int dataCount = buffer.readVarInt();
+
+			for (int i = 0; i < dataCount; i++) {
+				String ticketId = AnimSyncNamesPacket.getName(buffer.readVarInt());
+				SerializableDataTicket<?> dataTicket = ticketId == null ? null : DataTickets.byName(ticketId);
+
+				if (dataTicket == null) {
+					AzureLib.LOGGER.warn("Dropping the rest of an animation sync bundle with an unregistered data ticket: " + ticketId);
+
+					return false;
+				}
+
+				this.data.put(dataTicket, dataTicket.decode(buffer));
+			}
+
+			int triggerCount = buffer.readVarInt();
+
+			for (int i = 0; i < triggerCount; i++) {
+				int controllerId = buffer.readVarInt();
+				int animId = buffer.readVarInt();
+				String controllerName = AnimSyncNamesPacket.getName(controllerId);
+				String animName = AnimSyncNamesPacket.getName(animId);
+
+				if (controllerName == null || animName == null) {
+					AzureLib.LOGGER.warn("Dropping animation sync trigger with undefined name ids: " + controllerId + ", " + animId);
+
+					continue;
+				}
+
+				this.triggers.add(controllerName);
+				this.triggers.add(animName);
+			}
+
+			return true;
+		}
+
+		@SuppressWarnings("unchecked")
+		private void apply(DataConsumer dataConsumer, TriggerConsumer triggerConsumer) {
+			for (Map.Entry<SerializableDataTicket<?>, Object> entry : this.data.entrySet()) {
+				dataConsumer.accept((SerializableDataTicket<Object>)entry.getKey(), entry.getValue());
+			}
+
+			for (int i = 0; i < this.triggers.size(); i += 2) {
+				String controllerName = this.triggers.get(i);
+
+				triggerConsumer.accept(controllerName.isEmpty() ? null : controllerName, this.triggers.get(i + 1));
+			}
+		}
+	}
+
+	@FunctionalInterface
+	private interface DataConsumer {
+		void accept(SerializableDataTicket<Object> dataTicket, Object data);
+	}
+
+	@FunctionalInterface
+	private interface TriggerConsumer {
+		void accept(@Nullable String controllerName, String animName);
+	}
+}
@@ -4,6 +4,8 @@ import java.util.List;
 
 import javax.annotation.Nullable;
 
+import org.lwjgl.system.MemoryUtil;
+
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -11,12 +13,14 @@ import com.google.gson.JsonParseException;
 import com.mojang.blaze3d.platform.NativeImage;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import mod.azure.azurelib.util.RenderUtils;
 import net.minecraft.server.packs.metadata.MetadataSectionSerializer;
 import net.minecraft.util.FastColor;
 import net.minecraft.util.GsonHelper;
 
 /**
- * Metadata class that stores the data for AzureLib's {@link mod.azure.azurelib.renderer.layer.AutoGlowingGeoLayer emissive texture feature} for a given texture
+ * Metadata class that stores the data for AzureLib's {@link mod.azure.azurelib.renderer.layer.AutoGlowingGeoLayer emissive texture feature} for a given texture.<br>
+ * The glowing area is stored as a set of rectangular {@link GlowRegion regions} rather than per-pixel, and is copied into the mask row by row
  */
 public class GeoGlowingTextureMeta {
 	public static final MetadataSectionSerializer<GeoGlowingTextureMeta> DESERIALIZER = new MetadataSectionSerializer<>() {
@@ -27,22 +31,22 @@ public class GeoGlowingTextureMeta {
 
 		@Override
 		public GeoGlowingTextureMeta fromJson(JsonObject json) {
-			List<Pixel> pixels = fromSections(GsonHelper.getAsJsonArray(json, "sections", null));
+			List<GlowRegion> regions = fromSections(GsonHelper.getAsJsonArray(json, "sections", null));
 
-			if (pixels.isEmpty())
+			if (regions.isEmpty())
 				throw new JsonParseException("Empty glowlayer sections file. Must have at least one glow section!");
 
-			return new GeoGlowingTextureMeta(pixels);
+			return new GeoGlowingTextureMeta(regions);
 		}
 
 		/**
-		 * Generate a {@link Pixel} collection from the "sections" array of the mcmeta file
+		 * Generate a {@link GlowRegion} collection from the "sections" array of the mcmeta file
 		 */
-		private List<Pixel> fromSections(@Nullable JsonArray sectionsArray) {
+		private List<GlowRegion> fromSections(@Nullable JsonArray sectionsArray) {
 			if (sectionsArray == null)
 				return List.of();
 
-			List<Pixel> pixels = new ObjectArrayList<>();
+			List<GlowRegion> regions = new ObjectArrayList<>();
 
 			for (JsonElement element : sectionsArray) {
 				if (!(element instanceof JsonObject obj))
@@ -57,64 +61,169 @@ public class GeoGlowingTextureMeta {
 				if (x1 + y1 + x2 + y2 == 0)
 					throw new IllegalArgumentException("Invalid glowsections section object, section must be at least one pixel in size");
 
-				for (int x = x1; x <= x2; x++) {
-					for (int y = y1; y <= y2; y++) {
-						pixels.add(new Pixel(x, y, alpha));
-					}
-				}
+				// Section bounds are inclusive
+				if (x2 >= x1 && y2 >= y1)
+					regions.add(new GlowRegion(x1, y1, x2 - x1 + 1, y2 - y1 + 1, alpha));
 			}
 
-			return pixels;
+			return regions;
 		}
 	};
 
-	private final List<Pixel> pixels;
+	private final List<GlowRegion> regions;
 
-	public GeoGlowingTextureMeta(List<Pixel> pixels) {
-		this.pixels = pixels;
+	public GeoGlowingTextureMeta(List<GlowRegion> regions) {
+		this.regions = regions;
 	}
 
 	/**
-	 * Generate the GlowLayer pixels list from an existing image resource, instead of using the .png.mcmeta file
+	 * Generate the GlowLayer regions from an existing image resource, instead of using the .png.mcmeta file.<br>
+	 * Each row is split into runs of non-empty pixels of the same alpha, and identical runs on consecutive rows are merged into a single region
 	 */
 	public static GeoGlowingTextureMeta fromExistingImage(NativeImage glowLayer) {
-		List<Pixel> pixels = new ObjectArrayList<>();
+		int width = glowLayer.getWidth();
+		int height = glowLayer.getHeight();
+		long pixels = RenderUtils.getPixelAddress(glowLayer);
+		List<GlowRegion> regions = new ObjectArrayList<>();
+		List<GlowRegion> openRegions = new ObjectArrayList<>();
+		List<GlowRegion> rowRegions = new ObjectArrayList<>();
+
+		for (int y = 0; y < height; y++) {
+			int openIndex = 0;
+			int x = 0;
+
+			while (x < width) {
+				int color = getPixel(glowLayer, pixels, x, y);
+
+				if (color == 0) {
+					x++;
+
+					continue;
+				}
+
+				int alpha = FastColor.ABGR32.alpha(color);
+				int runStart = x;
+
+				while (++x < width) {
+					color = getPixel(glowLayer, pixels, x, y);
+
+					if (color == 0 || FastColor.ABGR32.alpha(color) != alpha)
+						break;
+				}
 
-		for (int x = 0; x < glowLayer.getWidth(); x++) {
-			for (int y = 0; y < glowLayer.getHeight(); y++) {
-				int color = glowLayer.getPixelRGBA(x, y);
+				int runWidth = x - runStart;
 
-				if (color != 0)
-					pixels.add(new Pixel(x, y, FastColor.ABGR32.alpha(color)));
+				// Runs are found in ascending x order, so the previous row's regions only need to be walked once
+				while (openIndex < openRegions.size() && openRegions.get(openIndex).x < runStart) {
+					regions.add(openRegions.get(openIndex++));
+				}
+
+				if (openIndex < openRegions.size()) {
+					GlowRegion open = openRegions.get(openIndex);
+
+					if (open.x == runStart && open.width == runWidth && open.alpha == alpha) {
+						rowRegions.add(new GlowRegion(runStart, open.y, runWidth, open.height + 1, alpha));
+						openIndex++;
+
+						continue;
+					}
+				}
+
+				rowRegions.add(new GlowRegion(runStart, y, runWidth, 1, alpha));
+			}
+
+			while (openIndex < openRegions.size()) {
+				regions.add(openRegions.get(openIndex++));
 			}
+
+			List<GlowRegion> swap = openRegions;
+			openRegions = rowRegions;
+			rowRegions = swap;
+
+			rowRegions.clear();
 		}
 
-		if (pixels.isEmpty())
+		regions.addAll(openRegions);
+
+		if (regions.isEmpty())
 			throw new IllegalStateException("Invalid glow layer texture provided, must have at least one pixel!");
 
-		return new GeoGlowingTextureMeta(pixels);
+		return new GeoGlowingTextureMeta(regions);
 	}
 
 	/**
-	 * Create a new mask image based on the pre-determined pixel data
+	 * Create a new mask image based on the pre-determined glow regions.<br>
+	 * Copies the glowing pixels from the original image into the new image, and clears them from the original image
 	 */
 	public void createImageMask(NativeImage originalImage, NativeImage newImage) {
-		for (Pixel pixel : this.pixels) {
-			int color = originalImage.getPixelRGBA(pixel.x, pixel.y);
+		long originalPixels = RenderUtils.getPixelAddress(originalImage);
+		long newPixels = RenderUtils.getPixelAddress(newImage);
+
+		for (GlowRegion region : this.regions) {
+			region.checkBounds(originalImage);
+			region.checkBounds(newImage);
+
+			if (originalPixels == 0 || newPixels == 0) {
+				region.copyPixels(originalImage, newImage);
+
+				continue;
+			}
+
+			long rowSize = (long)region.width * 4;
 
-			if (pixel.alpha > 0)
-				color = FastColor.ABGR32.color(pixel.alpha, FastColor.ABGR32.blue(color), FastColor.ABGR32.green(color), FastColor.ABGR32.red(color));
+			for (int y = region.y; y < region.y + region.height; y++) {
+				long originalRow = originalPixels + ((long)y * originalImage.getWidth() + region.x) * 4;
+				long newRow = newPixels + ((long)y * newImage.getWidth() + region.x) * 4;
 
-			newImage.setPixelRGBA(pixel.x, pixel.y, color);
-			originalImage.setPixelRGBA(pixel.x, pixel.y, 0);
+				MemoryUtil.memCopy(originalRow, newRow, rowSize);
+				MemoryUtil.memSet(originalRow, 0, rowSize);
+
+				// RGBA pixels are stored as little-endian ABGR ints, so the alpha channel is the last byte of each pixel
+				if (region.alpha > 0) {
+					for (long pixel = newRow + 3; pixel < newRow + rowSize; pixel += 4) {
+						MemoryUtil.memPutByte(pixel, (byte)region.alpha);
+					}
+				}
+			}
 		}
 	}
 
+	private static int getPixel(NativeImage image, long pixels, int x, int y) {
+		if (pixels == 0)
+			return image.getPixelRGBA(x, y);
+
+		return MemoryUtil.memGetInt(pixels + ((long)y * image.getWidth() + x) * 4);
+	}
+
 	/**
-	 * A pixel marker for a glowlayer mask
-	 * @param x The X coordinate of the pixel
-	 * @param y The Y coordinate of the pixel
+	 * A rectangular area of a glowlayer mask
+	 * @param x The X coordinate of the top-left pixel of the region
+	 * @param y The Y coordinate of the top-left pixel of the region
+	 * @param width The width of the region in pixels
+	 * @param height The height of the region in pixels
 	 * @param alpha The alpha value of the mask
 	 */
-	private record Pixel(int x, int y, int alpha) {}
+	public record GlowRegion(int x, int y, int width, int height, int alpha) {
+		private void checkBounds(NativeImage image) {
+			if (this.x < 0 || this.y < 0 || this.x + this.width > image.getWidth() || this.y + this.height > image.getHeight())
+				throw new IllegalArgumentException(String.format("Glow region (%s, %s, %s, %s) outside of image bounds (%s, %s)", this.x, this.y, this.width, this.height, image.getWidth(), image.getHeight()));
+		}
+
+		/**
+		 * Per-pixel copy, used when the images' pixel data can't be accessed directly
+		 */
+		private void copyPixels(NativeImage originalImage, NativeImage newImage) {
+			for (int y = this.y; y < this.y + this.height; y++) {
+				for (int x = this.x; x < this.x + this.width; x++) {
+					int color = originalImage.getPixelRGBA(x, y);
+
+					if (this.alpha > 0)
+						color = FastColor.ABGR32.color(this.alpha, FastColor.ABGR32.blue(color), FastColor.ABGR32.green(color), FastColor.ABGR32.red(color));
+
+					newImage.setPixelRGBA(x, y, color);
+					originalImage.setPixelRGBA(x, y, 0);
+				}
+			}
+		}
+	}
 }
@@ -22,13 +22,18 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.phys.Vec3;
 import net.minecraftforge.client.extensions.common.IClientItemExtensions;
+import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Quaternionf;
 import org.joml.Vector3f;
+import org.joml.Vector4f;
 import mod.azure.azurelib.AzureLib;
 import mod.azure.azurelib.cache.object.GeoCube;
+import mod.azure.azurelib.cache.object.GeoQuad;
+import mod.azure.azurelib.cache.object.GeoVertex;
 import mod.azure.azurelib.core.animatable.GeoAnimatable;
 import mod.azure.azurelib.core.animatable.model.CoreGeoBone;
+import mod.azure.azurelib.mixin.NativeImageAccessor;
 import mod.azure.azurelib.model.GeoModel;
 import mod.azure.azurelib.renderer.GeoArmorRenderer;
 import mod.azure.azurelib.renderer.GeoRenderer;
@@ -40,6 +45,10 @@ import javax.annotation.Nullable;
  * Helper class for various methods and functions useful while rendering
  */
 public final class RenderUtils {
+	private static final Vector3f QUAD_NORMAL = new Vector3f();
+	private static final Vector4f VERTEX_POSITION = new Vector4f();
+	private static final Quaternionf CUBE_ROTATION = new Quaternionf();
+
 	public static void translateMatrixToBone(PoseStack poseStack, CoreGeoBone bone) {
 		poseStack.translate(-bone.getPosX() / 16f, bone.getPosY() / 16f, bone.getPosZ() / 16f);
 	}
@@ -55,12 +64,16 @@ public final class RenderUtils {
 			poseStack.mulPose(Axis.XP.rotation(bone.getRotX()));
 	}
 
+	/**
+	 * Rotate the given pose by the rotation of the given {@link GeoCube}.<br>
+	 * The rotation is applied through a re-used quaternion to avoid allocating while rendering, so this must only be called on the render thread
+	 */
 	public static void rotateMatrixAroundCube(PoseStack poseStack, GeoCube cube) {
 		Vec3 rotation = cube.rotation();
 
-		poseStack.mulPose(new Quaternionf().rotationXYZ(0, 0, (float) rotation.z()));
-		poseStack.mulPose(new Quaternionf().rotationXYZ(0, (float) rotation.y(), 0));
-		poseStack.mulPose(new Quaternionf().rotationXYZ((float) rotation.x(), 0, 0));
+		poseStack.mulPose(CUBE_ROTATION.rotationZ((float) rotation.z()));
+		poseStack.mulPose(CUBE_ROTATION.rotationY((float) rotation.y()));
+		poseStack.mulPose(CUBE_ROTATION.rotationX((float) rotation.x()));
 	}
 
 	public static void scaleMatrixForBone(PoseStack poseStack, CoreGeoBone bone) {
@@ -214,6 +227,38 @@ public final class RenderUtils {
 			normal.mul(1, 1, -1);
 	}
 
+	/**
+	 * Transform the normal of the given {@link GeoQuad} by the given normal matrix.<br>
+	 * The returned vector is re-used between calls to avoid allocating while rendering, so it is only valid until this method is next called.
+	 * Must only be called on the render thread
+	 */
+	public static Vector3f transformQuadNormal(Matrix3f normalMatrix, GeoQuad quad) {
+		return normalMatrix.transform(quad.normal(), QUAD_NORMAL);
+	}
+
+	/**
+	 * Transform the position of the given {@link GeoVertex} by the given pose matrix.<br>
+	 * The returned vector is re-used between calls to avoid allocating while rendering, so it is only valid until this method is next called.
+	 * Must only be called on the render thread
+	 */
+	public static Vector4f transformVertexPosition(Matrix4f poseMatrix, GeoVertex vertex) {
+		Vector3f position = vertex.position();
+
+		return poseMatrix.transform(position.x(), position.y(), position.z(), 1, VERTEX_POSITION);
+	}
+
+	/**
+	 * Get the native address of the given image's pixel data, for direct reads and writes with {@link org.lwjgl.system.MemoryUtil MemoryUtil}.<br>
+	 * Returns 0 if the pixels can't be accessed directly, in which case the {@link NativeImage} pixel methods should be used instead.<br>
+	 * This is also the case when the {@link NativeImageAccessor} mixin isn't applied, such as in the benchmarks
+	 */
+	public static long getPixelAddress(NativeImage image) {
+		if (image.format() != NativeImage.Format.RGBA)
+			return 0;
+
+		return (Object)image instanceof NativeImageAccessor accessor ? accessor.getPixels() : 0;
+	}
+
 	/**
 	 * Converts a {@link Direction} to a rotational float for rotation purposes
 	 */